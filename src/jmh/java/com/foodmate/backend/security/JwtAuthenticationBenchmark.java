@@ -0,0 +1,90 @@
+package com.foodmate.backend.security;
+
+import com.foodmate.backend.security.service.JwtTokenProvider;
+import com.foodmate.backend.security.service.JwtTokenVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 번의 액세스 토큰 인증 비용 (회원 조회 제외)
+ * before : 변경 전 JwtAuthenticationProcessingFilter - 파서를 두 번 만들어 두 번 검증, UUID 비밀번호, UserDetails 생성
+ * after : JwtTokenVerifier 로 한 번만 검증 (같은 토큰은 캐시), 이메일 principal
+ * afterFirstRequest : 처음 보는 토큰 - 재사용 파서로 한 번 검증
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("foodmate-jwt-secret-key-for-benchmark-0123456789".getBytes());
+    private static final String EMAIL = "dlaehdgus23@naver.com";
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenVerifier jwtTokenVerifier;
+    private String header;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, null);
+        jwtTokenVerifier = new JwtTokenVerifier(jwtTokenProvider);
+        header = "Bearer " + jwtTokenProvider.createAccessToken(1L);
+    }
+
+    @Benchmark
+    public Authentication before() {
+        String accessToken = header.replace("Bearer ", "");
+
+        // isTokenValid
+        Jwts.parserBuilder().setSigningKey(jwtTokenProvider.getKey()).build().parseClaimsJws(accessToken);
+
+        // extractId
+        Long memberId = Jwts.parserBuilder().setSigningKey(jwtTokenProvider.getKey()).build()
+                .parseClaimsJws(accessToken).getBody().get(JwtTokenProvider.MEMBER_ID, Long.class);
+
+        // setAuthentication
+        UserDetails userDetails = User.builder()
+                .username(EMAIL + memberId)
+                .password(UUID.randomUUID().toString())
+                .roles("USER")
+                .build();
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    @Benchmark
+    public Authentication after() {
+        String accessToken = header.substring("Bearer ".length());
+        Long memberId = jwtTokenVerifier.verify(accessToken).orElseThrow();
+        return new UsernamePasswordAuthenticationToken(EMAIL + memberId, null, AUTHORITIES);
+    }
+
+    @Benchmark
+    public Authentication afterFirstRequest() {
+        String accessToken = header.substring("Bearer ".length());
+        Claims claims = jwtTokenProvider.parseClaims(accessToken);
+        Long memberId = claims.get(JwtTokenProvider.MEMBER_ID, Long.class);
+        return new UsernamePasswordAuthenticationToken(EMAIL + memberId, null, AUTHORITIES);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.Food;
+import com.foodmate.backend.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 음식 카테고리 목록
+ * 거의 바뀌지 않는 Food 테이블 전체를 아이디, 이름으로 찾을 수 있는 불변 맵으로 들고 있다가
+ * 다시 읽을 때는 새 맵을 만들어 한 번에 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodCatalog {
+
+    private final FoodRepository foodRepository;
+
+    private final AtomicReference<Catalog> catalog = new AtomicReference<>();
+
+    // 서버 시작 시 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    // 음식 테이블 변경 반영 - 매 시간 정각에 다시 적재
+    @Scheduled(cron = "0 0 * * * *")
+    public void refresh() {
+
+        List<Food> foods = foodRepository.findAll();
+        catalog.set(new Catalog(foods));
+
+        log.info("FoodCatalog loaded : {} foods", foods.size());
+    }
+
+    public Optional<Food> findById(Long foodId) {
+
+        Catalog current = catalog.get();
+
+        // 적재 전에는 DB 에서 조회
+        if (current == null) {
+            return foodRepository.findById(foodId);
+        }
+
+        return Optional.ofNullable(current.byId.get(foodId));
+    }
+
+    public Optional<Food> findByType(String type) {
+
+        Catalog current = catalog.get();
+
+        // 적재 전에는 DB 에서 조회
+        if (current == null) {
+            return foodRepository.findByType(type);
+        }
+
+        return Optional.ofNullable(current.byType.get(type));
+    }
+
+    public boolean existsByType(String type) {
+        return findByType(type).isPresent();
+    }
+
+    private static class Catalog {
+        private final Map<Long, Food> byId;
+        private final Map<String, Food> byType;
+
+        private Catalog(List<Food> foods) {
+            Map<Long, Food> byId = new HashMap<>();
+            Map<String, Food> byType = new HashMap<>();
+            for (Food food : foods) {
+                byId.put(food.getId(), food);
+                byType.put(food.getType(), food);
+            }
+            this.byId = Collections.unmodifiableMap(byId);
+            this.byType = Collections.unmodifiableMap(byType);
+        }
+    }
+
+}
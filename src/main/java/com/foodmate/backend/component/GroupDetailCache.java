@@ -0,0 +1,77 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.GroupDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 모임 상세 조회 결과 캐시 (read-through)
+ * 최대 개수를 넘으면 가장 오래 조회되지 않은 모임부터 제거 (LRU), 저장 후 TTL 이 지나면 다시 조회
+ * 모임 수정, 삭제, 참여 인원 변경, 작성자 프로필 변경, 모임 완료 시 해당 모임만 무효화
+ */
+@Slf4j
+@Component
+public class GroupDetailCache {
+
+    private static final int MAX_SIZE = 1000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final LruTtlCache<Long, GroupDto.DetailResponse> cache;
+
+    public GroupDetailCache() {
+        this(MAX_SIZE, TTL, Clock.systemDefaultZone());
+    }
+
+    GroupDetailCache(int maxSize, Duration ttl, Clock clock) {
+        this.cache = new LruTtlCache<>(maxSize, ttl, clock);
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없거나 만료됐으면 loader 로 조회해서 저장
+     */
+    public GroupDto.DetailResponse get(Long groupId, Function<Long, GroupDto.DetailResponse> loader) {
+        return cache.get(groupId, loader);
+    }
+
+    // 해당 모임 무효화
+    public void evict(Long groupId) {
+        cache.evict(groupId);
+    }
+
+    // 해당 회원이 만든 모임 무효화 (닉네임, 프로필 이미지 변경 시)
+    public void evictByMember(Long memberId) {
+        cache.evictIf(detail -> memberId.equals(detail.getMemberId()));
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    // 매 시간 캐시 적중률 기록
+    @Scheduled(cron = "0 0 * * * *")
+    public void logStats() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        log.info("GroupDetailCache stats : size={}, hits={}, misses={}, evictions={}, hitRate={}",
+                size(), hitCount, total - hitCount, getEvictionCount(),
+                total == 0 ? 0 : String.format("%.3f", (double) hitCount / total));
+    }
+
+}
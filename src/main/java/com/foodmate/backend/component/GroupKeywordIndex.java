@@ -0,0 +1,291 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 예정된 모임의 제목, 작성자 닉네임으로 만든 n-gram 역색인
+ * 한글은 형태소 분리 없이도 부분 일치가 되도록 글자 단위(1-gram)와 2-gram 을 함께 색인
+ * 검색 시 검색어의 n-gram 포스팅 목록을 작은 것부터 교집합한 뒤, 실제 포함 여부를 한 번 더 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupKeywordIndex {
+
+    private final FoodGroupRepository foodGroupRepository;
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded = false;
+
+    // 서버 시작 시 예정된 모임 전체 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        List<Object[]> rows = foodGroupRepository.findUpcomingGroupKeywords(LocalDateTime.now());
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            for (Object[] row : rows) {
+                add(new Document((Long) row[0], (String) row[1], (String) row[2],
+                        (LocalDateTime) row[3], (LocalDateTime) row[4]));
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("GroupKeywordIndex loaded : {} groups", rows.size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 모임 생성, 수정 시 반영
+    public void put(FoodGroup foodGroup) {
+
+        if (foodGroup.getId() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            delete(foodGroup.getId());
+            if (foodGroup.getIsDeleted() == null) {
+                add(new Document(foodGroup.getId(), foodGroup.getTitle(),
+                        foodGroup.getMember().getNickname(), foodGroup.getGroupDateTime(),
+                        foodGroup.getCreatedDate()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모임 삭제 시 반영
+    public void remove(Long groupId) {
+
+        lock.writeLock().lock();
+        try {
+            delete(groupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모임일시가 지난 모임 정리
+    public void removeExpired(LocalDateTime current) {
+
+        lock.writeLock().lock();
+        try {
+            List<Long> expired = new ArrayList<>();
+            for (Document document : documents.values()) {
+                if (document.groupDateTime.isBefore(current)) {
+                    expired.add(document.groupId);
+                }
+            }
+            expired.forEach(this::delete);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어가 제목, 닉네임 중 하나에 포함된 모임 검색
+     * @return 모임 아이디 (최신 생성순)
+     */
+    public List<Long> search(String keyword, LocalDateTime start, LocalDateTime end) {
+        return search(keyword, start, end, null, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 검색어 검색 - 커서 이후
+     * @param beforeCreatedDate 이전 페이지 마지막 모임의 생성일시 (첫 페이지면 null)
+     * @param beforeId 이전 페이지 마지막 모임 아이디 (첫 페이지면 null)
+     * @return 커서 이후 모임 아이디 최대 limit 개 (최신 생성순)
+     */
+    public List<Long> search(String keyword, LocalDateTime start, LocalDateTime end,
+                             LocalDateTime beforeCreatedDate, Long beforeId, int limit) {
+
+        String normalized = normalize(keyword);
+        Set<String> grams = grams(normalized);
+
+        Document cursor = beforeId == null ? null
+                : new Document(beforeId, null, null, null, beforeCreatedDate);
+        List<Document> matched = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidates;
+            if (grams.isEmpty()) {
+                candidates = documents.keySet();
+            } else {
+                candidates = intersect(grams);
+            }
+
+            for (Long groupId : candidates) {
+                Document document = documents.get(groupId);
+                if (document.isBetween(start, end) && document.contains(normalized)
+                        && (cursor == null || Document.LATEST_FIRST.compare(document, cursor) > 0)) {
+                    matched.add(document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matched.sort(Document.LATEST_FIRST);
+
+        List<Long> result = new ArrayList<>(Math.min(limit, matched.size()));
+        for (int i = 0; i < matched.size() && i < limit; i++) {
+            result.add(matched.get(i).groupId);
+        }
+        return result;
+    }
+
+    // 검색어 후보 수 추정 - 검색어 n-gram 포스팅 목록 중 가장 작은 것의 크기
+    public int estimate(String keyword) {
+
+        Set<String> grams = grams(normalize(keyword));
+
+        lock.readLock().lock();
+        try {
+            if (grams.isEmpty()) {
+                return documents.size();
+            }
+            int min = Integer.MAX_VALUE;
+            for (String gram : grams) {
+                Set<Long> posting = postings.get(gram);
+                min = Math.min(min, posting == null ? 0 : posting.size());
+            }
+            return min;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 포스팅 목록을 작은 것부터 교집합
+    private Collection<Long> intersect(Set<String> grams) {
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<Long> result = new ArrayList<>();
+        for (Long groupId : lists.get(0)) {
+            boolean all = true;
+            for (int i = 1; i < lists.size() && all; i++) {
+                all = lists.get(i).contains(groupId);
+            }
+            if (all) {
+                result.add(groupId);
+            }
+        }
+        return result;
+    }
+
+    private void add(Document document) {
+        documents.put(document.groupId, document);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, k -> new HashSet<>()).add(document.groupId);
+        }
+    }
+
+    private void delete(Long groupId) {
+        Document document = documents.remove(groupId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(groupId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // LIKE 검색과 같이 대소문자 구분 없이 비교
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // 검색어 길이가 1이면 1-gram, 그 이상이면 2-gram 으로 포스팅 조회
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text.length() == 1) {
+            grams.add(text);
+        }
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static class Document {
+        private static final Comparator<Document> LATEST_FIRST = Comparator
+                .comparing((Document d) -> d.createdDate, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(d -> d.groupId, Comparator.reverseOrder());
+
+        private final Long groupId;
+        private final String title;
+        private final String nickname;
+        private final LocalDateTime groupDateTime;
+        private final LocalDateTime createdDate;
+
+        private Document(Long groupId, String title, String nickname,
+                         LocalDateTime groupDateTime, LocalDateTime createdDate) {
+            this.groupId = groupId;
+            this.title = normalize(title);
+            this.nickname = normalize(nickname);
+            this.groupDateTime = groupDateTime;
+            this.createdDate = createdDate;
+        }
+
+        // 색인 대상 n-gram (1-gram + 2-gram)
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String text : List.of(title, nickname)) {
+                for (int i = 0; i < text.length(); i++) {
+                    grams.add(text.substring(i, i + 1));
+                    if (i + 2 <= text.length()) {
+                        grams.add(text.substring(i, i + 2));
+                    }
+                }
+            }
+            return grams;
+        }
+
+        private boolean contains(String keyword) {
+            return title.contains(keyword) || nickname.contains(keyword);
+        }
+
+        private boolean isBetween(LocalDateTime start, LocalDateTime end) {
+            return !groupDateTime.isBefore(start) && !groupDateTime.isAfter(end);
+        }
+    }
+
+}
@@ -0,0 +1,421 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 예정된 모임의 좌표를 위도/경도 격자로 나누어 메모리에 보관하는 공간 인덱스
+ * 내 근처 모임(반경 검색), 거리순 조회(가까운 순 k개 검색)에 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupLocationIndex {
+
+    // MySQL ST_Distance_Sphere 와 동일한 지구 반지름 (m)
+    private static final double EARTH_RADIUS_METER = 6370986;
+    // 격자 한 칸의 크기 (0.01도 ≒ 위도 방향 1.1km)
+    private static final double CELL_DEGREE = 0.01;
+
+    // 첫 페이지 조회 시의 커서 (모든 모임이 이보다 뒤에 있음)
+    private static final Candidate FIRST = new Candidate(Long.MIN_VALUE, -1);
+
+    private final FoodGroupRepository foodGroupRepository;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded = false;
+
+    // 서버 시작 시 예정된 모임 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        List<Object[]> rows = foodGroupRepository.findUpcomingGroupLocations(LocalDateTime.now());
+
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            cells.clear();
+            for (Object[] row : rows) {
+                Point location = (Point) row[1];
+                if (location != null) {
+                    add(new Entry((Long) row[0], location.getY(), location.getX(), (LocalDateTime) row[2]));
+                }
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("GroupLocationIndex loaded : {} groups", rows.size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 모임 생성, 수정 시 반영
+    public void put(FoodGroup foodGroup) {
+
+        if (foodGroup.getId() == null || foodGroup.getLocation() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            delete(foodGroup.getId());
+            if (foodGroup.getIsDeleted() == null) {
+                add(new Entry(foodGroup.getId(), foodGroup.getLocation().getY(),
+                        foodGroup.getLocation().getX(), foodGroup.getGroupDateTime()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모임 삭제 시 반영
+    public void remove(Long groupId) {
+
+        lock.writeLock().lock();
+        try {
+            delete(groupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모임일시가 지난 모임 정리
+    public void removeExpired(LocalDateTime current) {
+
+        lock.writeLock().lock();
+        try {
+            List<Long> expired = new ArrayList<>();
+            for (Entry entry : entries.values()) {
+                if (entry.groupDateTime.isBefore(current)) {
+                    expired.add(entry.groupId);
+                }
+            }
+            expired.forEach(this::delete);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 검색
+     * @return 반경 안에 있는 모임 아이디 (거리, 아이디 순)
+     */
+    public List<Long> findWithinRadius(double latitude, double longitude, double radiusMeter,
+                                       LocalDateTime start, LocalDateTime end) {
+        return new ArrayList<>(findWithinRadius(latitude, longitude, radiusMeter, start, end,
+                FIRST.distance, FIRST.groupId, Integer.MAX_VALUE).keySet());
+    }
+
+    /**
+     * 반경 검색 - 커서 이후
+     * @return 반경 안에 있으면서 (afterDistance, afterId) 보다 뒤에 있는 모임 최대 limit 개의 아이디, 거리 (거리, 아이디 순)
+     */
+    public LinkedHashMap<Long, Double> findWithinRadius(double latitude, double longitude, double radiusMeter,
+                                       LocalDateTime start, LocalDateTime end,
+                                       double afterDistance, Long afterId, int limit) {
+
+        double latDelta = Math.toDegrees(radiusMeter / EARTH_RADIUS_METER);
+        // 구면 위 반경 안의 점이 가질 수 있는 최대 경도 차이
+        double lonDelta = Math.toDegrees(Math.asin(Math.min(1,
+                Math.sin(radiusMeter / EARTH_RADIUS_METER) / Math.cos(Math.toRadians(latitude)))));
+
+        long minRow = row(latitude - latDelta);
+        long maxRow = row(latitude + latDelta);
+        long minCol = col(longitude - lonDelta);
+        long maxCol = col(longitude + lonDelta);
+
+        Candidate after = new Candidate(afterId, afterDistance);
+        List<Candidate> candidates = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (long r = minRow; r <= maxRow; r++) {
+                for (long c = minCol; c <= maxCol; c++) {
+                    List<Entry> cell = cells.get(key(r, c));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Entry entry : cell) {
+                        if (!entry.isBetween(start, end)) {
+                            continue;
+                        }
+                        double distance = distance(latitude, longitude, entry.latitude, entry.longitude);
+                        if (distance >= radiusMeter) {
+                            continue;
+                        }
+                        Candidate candidate = new Candidate(entry.groupId, distance);
+                        if (candidate.isAfter(after)) {
+                            candidates.add(candidate);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return sorted(candidates, limit);
+    }
+
+    /**
+     * 가까운 순 k개 검색
+     * 기준 좌표의 격자에서부터 한 겹씩 넓혀가며, 더 먼 격자에 더 가까운 모임이 있을 수 없을 때까지 탐색
+     * @return 가까운 모임 아이디 최대 limit 개 (거리, 아이디 순)
+     */
+    public List<Long> findNearest(double latitude, double longitude, int limit,
+                                  LocalDateTime start, LocalDateTime end) {
+        return new ArrayList<>(findNearest(latitude, longitude, limit, start, end,
+                FIRST.distance, FIRST.groupId).keySet());
+    }
+
+    /**
+     * 가까운 순 k개 검색 - 커서 이후
+     * @return (afterDistance, afterId) 보다 뒤에 있는 가까운 모임 최대 limit 개의 아이디, 거리 (거리, 아이디 순)
+     */
+    public LinkedHashMap<Long, Double> findNearest(double latitude, double longitude, int limit,
+                                  LocalDateTime start, LocalDateTime end,
+                                  double afterDistance, Long afterId) {
+
+        if (limit <= 0) {
+            return new LinkedHashMap<>();
+        }
+
+        long centerRow = row(latitude);
+        long centerCol = col(longitude);
+
+        Candidate after = new Candidate(afterId, afterDistance);
+        List<Candidate> candidates = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            int visited = 0;
+            int scannedCells = 0;
+            for (long ring = 0; visited < entries.size(); ring++) {
+
+                // 데이터가 듬성듬성해서 빈 격자를 모임 수보다 많이 봐야 하면 전체를 한 번에 비교
+                scannedCells += ring == 0 ? 1 : 8 * ring;
+                if (scannedCells > entries.size()) {
+                    candidates.clear();
+                    for (Entry entry : entries.values()) {
+                        if (entry.isBetween(start, end)) {
+                            Candidate candidate = new Candidate(entry.groupId,
+                                    distance(latitude, longitude, entry.latitude, entry.longitude));
+                            if (candidate.isAfter(after)) {
+                                candidates.add(candidate);
+                            }
+                        }
+                    }
+                    break;
+                }
+
+                // 이번 겹의 테두리 격자만 탐색 (위, 아래 행 + 좌, 우 열)
+                for (long c = centerCol - ring; c <= centerCol + ring; c++) {
+                    visited += scanCell(centerRow - ring, c, latitude, longitude, start, end, after, candidates);
+                    if (ring > 0) {
+                        visited += scanCell(centerRow + ring, c, latitude, longitude, start, end, after, candidates);
+                    }
+                }
+                for (long r = centerRow - ring + 1; r <= centerRow + ring - 1; r++) {
+                    visited += scanCell(r, centerCol - ring, latitude, longitude, start, end, after, candidates);
+                    visited += scanCell(r, centerCol + ring, latitude, longitude, start, end, after, candidates);
+                }
+
+                // 탐색하지 않은 격자의 모임은 모두 ringDistance(ring) 보다 멀리 있음
+                if (candidates.size() >= limit
+                        && kthDistance(candidates, limit) <= ringDistance(latitude, ring)) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return sorted(candidates, limit);
+    }
+
+    // 반경 검색 후보 수 추정 - 반경을 덮는 격자 안의 모임 수 (기간 조건 적용 전)
+    public int estimateWithinRadius(double latitude, double longitude, double radiusMeter) {
+
+        double latDelta = Math.toDegrees(radiusMeter / EARTH_RADIUS_METER);
+        double lonDelta = Math.toDegrees(Math.asin(Math.min(1,
+                Math.sin(radiusMeter / EARTH_RADIUS_METER) / Math.cos(Math.toRadians(latitude)))));
+
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (long r = row(latitude - latDelta); r <= row(latitude + latDelta); r++) {
+                for (long c = col(longitude - lonDelta); c <= col(longitude + lonDelta); c++) {
+                    List<Entry> cell = cells.get(key(r, c));
+                    if (cell != null) {
+                        count += cell.size();
+                    }
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 기준 좌표에서 모임까지의 거리 (m) - 색인에 없는 모임이면 null
+    public Double distanceTo(Long groupId, double latitude, double longitude) {
+
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(groupId);
+            return entry == null ? null : distance(latitude, longitude, entry.latitude, entry.longitude);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 기간 안에 있는 모임 수
+    public int count(LocalDateTime start, LocalDateTime end) {
+
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (Entry entry : entries.values()) {
+                if (entry.isBetween(start, end)) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 두 좌표 사이의 거리 (m) - ST_Distance_Sphere 와 동일한 haversine 공식
+    public static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.groupId, entry);
+        cells.computeIfAbsent(key(row(entry.latitude), col(entry.longitude)), k -> new ArrayList<>()).add(entry);
+    }
+
+    private void delete(Long groupId) {
+        Entry entry = entries.remove(groupId);
+        if (entry == null) {
+            return;
+        }
+        long key = key(row(entry.latitude), col(entry.longitude));
+        List<Entry> cell = cells.get(key);
+        cell.remove(entry);
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    // 격자 하나의 모임을 후보에 추가하고, 격자 안의 모임 수를 반환
+    private int scanCell(long row, long col, double latitude, double longitude,
+                         LocalDateTime start, LocalDateTime end, Candidate after, List<Candidate> candidates) {
+        List<Entry> cell = cells.get(key(row, col));
+        if (cell == null) {
+            return 0;
+        }
+        for (Entry entry : cell) {
+            if (entry.isBetween(start, end)) {
+                Candidate candidate = new Candidate(entry.groupId,
+                        distance(latitude, longitude, entry.latitude, entry.longitude));
+                if (candidate.isAfter(after)) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        return cell.size();
+    }
+
+    // 기준 좌표에서 ring 겹 바깥 격자까지의 최소 거리 (위도 방향, 경도 방향 중 짧은 쪽)
+    private static double ringDistance(double latitude, long ring) {
+        double ringRadian = Math.toRadians(Math.min(ring * CELL_DEGREE, 90));
+        return EARTH_RADIUS_METER * Math.asin(Math.cos(Math.toRadians(latitude)) * Math.sin(ringRadian));
+    }
+
+    private static double kthDistance(List<Candidate> candidates, int k) {
+        candidates.sort(Candidate.ORDER);
+        return candidates.get(k - 1).distance;
+    }
+
+    private static LinkedHashMap<Long, Double> sorted(List<Candidate> candidates, int limit) {
+        candidates.sort(Candidate.ORDER);
+        LinkedHashMap<Long, Double> result = new LinkedHashMap<>();
+        for (int i = 0; i < candidates.size() && i < limit; i++) {
+            result.put(candidates.get(i).groupId, candidates.get(i).distance);
+        }
+        return result;
+    }
+
+    private static long row(double latitude) {
+        return (long) Math.floor((latitude + 90) / CELL_DEGREE);
+    }
+
+    private static long col(double longitude) {
+        return (long) Math.floor((longitude + 180) / CELL_DEGREE);
+    }
+
+    private static long key(long row, long col) {
+        return row * 100_000L + col;
+    }
+
+    private static class Entry {
+        private final Long groupId;
+        private final double latitude;
+        private final double longitude;
+        private final LocalDateTime groupDateTime;
+
+        private Entry(Long groupId, double latitude, double longitude, LocalDateTime groupDateTime) {
+            this.groupId = groupId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.groupDateTime = groupDateTime;
+        }
+
+        private boolean isBetween(LocalDateTime start, LocalDateTime end) {
+            return !groupDateTime.isBefore(start) && !groupDateTime.isAfter(end);
+        }
+    }
+
+    private static class Candidate {
+        private static final Comparator<Candidate> ORDER =
+                Comparator.comparingDouble((Candidate c) -> c.distance).thenComparing(c -> c.groupId);
+
+        private final Long groupId;
+        private final double distance;
+
+        private Candidate(Long groupId, double distance) {
+            this.groupId = groupId;
+            this.distance = distance;
+        }
+
+        private boolean isAfter(Candidate other) {
+            return ORDER.compare(this, other) > 0;
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.GroupSearchCondition;
+import com.foodmate.backend.dto.SearchedGroupDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * 복합 조건 모임 검색 (검색어, 메뉴, 기간, 반경, 참여 가능 여부)
+ * 조건마다 후보 수를 추정해 가장 적은 후보를 만드는 접근 경로 (모임일시 구간, 메뉴별 목록, 검색어 포스팅, 위치 격자) 로
+ * 후보를 가져오고, 나머지 조건은 후보마다 확인한 뒤 최신 생성순으로 정렬
+ * 가장 적은 후보가 전체의 절반 이상이면 이미 정렬된 최신 생성순 목록을 앞에서부터 확인하다 limit 개에서 멈춤
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupSearchPlanner {
+
+    private static final Comparator<SearchedGroupDto> LATEST_FIRST = Comparator
+            .comparing(SearchedGroupDto::getCreatedDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(SearchedGroupDto::getGroupId, Comparator.reverseOrder());
+
+    private final UpcomingGroupStore upcomingGroupStore;
+    private final GroupKeywordIndex groupKeywordIndex;
+    private final GroupLocationIndex groupLocationIndex;
+
+    // 후보를 가져오는 방법
+    enum AccessPath {
+        LATEST,     // 최신 생성순 전체 목록 (정렬됨)
+        FOOD,       // 메뉴별 목록 (정렬됨)
+        DATE,       // 모임일시 구간
+        KEYWORD,    // 검색어 포스팅
+        LOCATION    // 반경을 덮는 위치 격자
+    }
+
+    // 저장소 (위치 조건이 있으면 위치 색인도) 적재 전에는 DB 에서 조회
+    public boolean isReady(GroupSearchCondition condition) {
+        return upcomingGroupStore.isLoaded() && (!condition.hasLocation() || groupLocationIndex.isLoaded());
+    }
+
+    /**
+     * @return 조건에 맞는 모임 중 (cursorDate, cursorId) 이후 최대 limit 개 (최신 생성순, 첫 페이지면 cursorId 가 null)
+     */
+    public List<SearchedGroupDto> search(GroupSearchCondition condition,
+                                         LocalDateTime cursorDate, Long cursorId, int limit) {
+
+        Predicate<SearchedGroupDto> filter = group -> matches(condition, group);
+
+        switch (plan(condition)) {
+            case FOOD:
+                return upcomingGroupStore.findByFoodAfter(condition.getFoods(), filter, cursorDate, cursorId, limit);
+            case DATE:
+                return sorted(upcomingGroupStore.findByGroupDateTime(condition.getStart(), condition.getEnd()),
+                        filter, cursorDate, cursorId, limit);
+            case KEYWORD:
+                return sorted(lookup(groupKeywordIndex.search(condition.getKeyword(),
+                                condition.getStart(), condition.getEnd())),
+                        filter, cursorDate, cursorId, limit);
+            case LOCATION:
+                return sorted(lookup(groupLocationIndex.findWithinRadius(condition.getLatitude(),
+                                condition.getLongitude(), condition.getRadius(),
+                                condition.getStart(), condition.getEnd())),
+                        filter, cursorDate, cursorId, limit);
+            default:
+                return upcomingGroupStore.findAllAfter(filter, cursorDate, cursorId, limit);
+        }
+    }
+
+    // 후보 수가 가장 적은 접근 경로
+    AccessPath plan(GroupSearchCondition condition) {
+
+        int dateCount = upcomingGroupStore.countByGroupDateTime(condition.getStart(), condition.getEnd());
+        AccessPath best = AccessPath.DATE;
+        int bestCount = dateCount;
+
+        if (condition.hasFoods()) {
+            int foodCount = upcomingGroupStore.countByFood(condition.getFoods());
+            if (foodCount < bestCount) {
+                best = AccessPath.FOOD;
+                bestCount = foodCount;
+            }
+        }
+
+        if (condition.hasKeyword() && groupKeywordIndex.isLoaded()) {
+            int keywordCount = groupKeywordIndex.estimate(condition.getKeyword());
+            if (keywordCount < bestCount) {
+                best = AccessPath.KEYWORD;
+                bestCount = keywordCount;
+            }
+        }
+
+        if (condition.hasLocation()) {
+            int locationCount = groupLocationIndex.estimateWithinRadius(condition.getLatitude(),
+                    condition.getLongitude(), condition.getRadius());
+            if (locationCount < bestCount) {
+                best = AccessPath.LOCATION;
+                bestCount = locationCount;
+            }
+        }
+
+        // 메뉴별 목록은 이미 정렬되어 있으므로 그대로 사용
+        if (best != AccessPath.FOOD && bestCount * 2 >= upcomingGroupStore.size()) {
+            return AccessPath.LATEST;
+        }
+        return best;
+    }
+
+    private boolean matches(GroupSearchCondition condition, SearchedGroupDto group) {
+
+        LocalDateTime groupDateTime = LocalDateTime.of(group.getDate(), group.getTime());
+        if (groupDateTime.isBefore(condition.getStart()) || groupDateTime.isAfter(condition.getEnd())) {
+            return false;
+        }
+
+        if (condition.hasFoods() && !condition.getFoods().contains(group.getFood())) {
+            return false;
+        }
+
+        if (condition.isAvailable() && group.getCurrent() >= group.getMaximum()) {
+            return false;
+        }
+
+        if (condition.hasKeyword()) {
+            String keyword = normalize(condition.getKeyword());
+            if (!normalize(group.getTitle()).contains(keyword) && !normalize(group.getNickname()).contains(keyword)) {
+                return false;
+            }
+        }
+
+        if (condition.hasLocation()) {
+            Double distance = groupLocationIndex.distanceTo(group.getGroupId(),
+                    condition.getLatitude(), condition.getLongitude());
+            return distance != null && distance < condition.getRadius();
+        }
+
+        return true;
+    }
+
+    // 색인에서 찾은 모임 아이디를 저장소의 모임으로 변환 (그 사이 삭제된 모임은 제외)
+    private List<SearchedGroupDto> lookup(List<Long> groupIds) {
+
+        List<SearchedGroupDto> groups = new ArrayList<>(groupIds.size());
+        for (Long groupId : groupIds) {
+            SearchedGroupDto group = upcomingGroupStore.get(groupId);
+            if (group != null) {
+                groups.add(group);
+            }
+        }
+        return groups;
+    }
+
+    // 정렬되지 않은 후보 중 조건에 맞고 커서 이후인 모임을 최신 생성순으로 최대 limit 개
+    private static List<SearchedGroupDto> sorted(List<SearchedGroupDto> candidates, Predicate<SearchedGroupDto> filter,
+                                                 LocalDateTime cursorDate, Long cursorId, int limit) {
+
+        List<SearchedGroupDto> matched = new ArrayList<>();
+        for (SearchedGroupDto group : candidates) {
+            if (isAfter(group, cursorDate, cursorId) && filter.test(group)) {
+                matched.add(group);
+            }
+        }
+        matched.sort(LATEST_FIRST);
+
+        return new ArrayList<>(matched.subList(0, Math.min(limit, matched.size())));
+    }
+
+    // 최신 생성순으로 커서보다 뒤에 있는지
+    private static boolean isAfter(SearchedGroupDto group, LocalDateTime cursorDate, Long cursorId) {
+
+        if (cursorId == null) {
+            return true;
+        }
+
+        int compare = Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())
+                .compare(group.getCreatedDate(), cursorDate);
+        return compare > 0 || (compare == 0 && group.getGroupId() < cursorId);
+    }
+
+    // GroupKeywordIndex 와 같이 대소문자 구분 없이 비교
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.foodmate.backend.component;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모임별 남은 자리 카운터
+ * 정원이 찬 모임의 신청, 수락은 DB 에 쓰지 않고 메모리에서 바로 거절하고,
+ * 자리를 예약한 요청만 DB 의 조건부 UPDATE (attendance < maximum) 로 확정
+ * DB 가 기준이고 카운터는 처음 조회한 모임 정보로 채움 - 어긋나면 제거 후 다시 채움
+ */
+@Component
+public class GroupSeatCounter {
+
+    private final Map<Long, Seats> seats = new ConcurrentHashMap<>();
+
+    // 남은 자리가 있는지 확인
+    public boolean hasSeat(Long groupId, int attendance, int maximum) {
+        return seatsOf(groupId, attendance, maximum).hasSeat();
+    }
+
+    /**
+     * 자리 한 개 예약 - 정원이 찼으면 false
+     * 트랜잭션 안에서 호출되면 롤백 시 예약한 자리를 자동으로 반환
+     */
+    public boolean tryReserve(Long groupId, int attendance, int maximum) {
+
+        Seats reserved = seatsOf(groupId, attendance, maximum);
+        if (!reserved.tryReserve()) {
+            return false;
+        }
+
+        // 그 사이 카운터가 제거, 다시 채워졌을 수 있으므로 예약한 카운터에 반환
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        reserved.release();
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    // 모임 수정, 삭제, 완료 또는 DB 와 어긋났을 때 - 다음 요청에서 모임 정보로 다시 채움
+    public void remove(Long groupId) {
+        seats.remove(groupId);
+    }
+
+    private Seats seatsOf(Long groupId, int attendance, int maximum) {
+        return seats.computeIfAbsent(groupId, id -> new Seats(attendance, maximum));
+    }
+
+    private static class Seats {
+        private final AtomicInteger reserved;
+        private final int maximum;
+
+        private Seats(int attendance, int maximum) {
+            this.reserved = new AtomicInteger(attendance);
+            this.maximum = maximum;
+        }
+
+        private boolean hasSeat() {
+            return reserved.get() < maximum;
+        }
+
+        private boolean tryReserve() {
+            int current;
+            do {
+                current = reserved.get();
+                if (current >= maximum) {
+                    return false;
+                }
+            } while (!reserved.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void release() {
+            reserved.decrementAndGet();
+        }
+    }
+
+}
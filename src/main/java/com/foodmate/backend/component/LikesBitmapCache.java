@@ -0,0 +1,198 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.repository.LikesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원별 좋아요 누른 회원 비트맵 캐시
+ * 프로필 조회마다 Likes 를 조회하는 대신 좋아요 받은 회원별로 좋아요 누른 회원 아이디를 압축 비트맵 (RoaringBitmap) 으로 들고 있다가
+ * 좋아요 여부와 좋아요 수를 쿼리 없이 응답
+ * 처음 조회할 때 Likes 에서 읽어 오고, 이후 좋아요, 좋아요 취소가 커밋되면 함께 갱신
+ * 읽는 중에 커밋된 좋아요, 좋아요 취소는 읽은 결과에 포함되었는지 알 수 없으므로 읽은 비트맵을 저장하지 않음 (다음 조회 때 다시 읽음)
+ * 회원 수나 전체 비트맵 크기가 한도를 넘으면 가장 오래 조회되지 않은 회원부터 제거 (LRU)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikesBitmapCache {
+
+    static final int MAX_MEMBERS = 10000;
+    static final long MAX_BYTES = 32L * 1024 * 1024;
+
+    private final LikesRepository likesRepository;
+
+    // 좋아요 받은 회원 아이디 -> 좋아요 누른 회원 비트맵 (조회 순서)
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @return liker 가 liked 에게 좋아요를 눌렀는지 (다른 요청이 비트맵을 읽는 중이면 Likes 조회)
+     */
+    public boolean isLiked(Member liked, Member liker) {
+
+        Entry entry = acquire(liked.getId());
+        if (entry == null) {
+            return likesRepository.findByLikedAndLiker(liked, liker).isPresent();
+        }
+
+        synchronized (entries) {
+            return entry.likers.contains(liker.getId());
+        }
+    }
+
+    /**
+     * @return liked 가 받은 좋아요 수 (다른 요청이 비트맵을 읽는 중이면 Likes 조회)
+     */
+    public long count(Member liked) {
+
+        Entry entry = acquire(liked.getId());
+        if (entry == null) {
+            return likesRepository.countAllByLiked(liked);
+        }
+
+        synchronized (entries) {
+            return entry.likers.getLongCardinality();
+        }
+    }
+
+    // MemberService - 좋아요 (liked = true), 좋아요 취소 (liked = false) 커밋 후 호출 (캐시에 없는 회원은 다음 조회 때 읽음)
+    public void update(Long likedId, Long likerId, boolean liked) {
+
+        synchronized (entries) {
+            Entry entry = entries.get(likedId);
+            if (entry == null) {
+                return;
+            }
+
+            // 읽는 중이면 무효화 - 읽은 결과는 그 요청의 응답에만 사용
+            if (entry.likers == null) {
+                entries.remove(likedId);
+                return;
+            }
+
+            totalBytes -= entry.bytes;
+            entry.apply(likerId, liked);
+            totalBytes += entry.bytes;
+            evict();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // 매 시간 캐시 적중률 기록
+    @Scheduled(cron = "0 0 * * * *")
+    public void logStats() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        synchronized (entries) {
+            log.info("LikesBitmapCache stats : size={}, bytes={}, hits={}, misses={}, evictions={}, hitRate={}",
+                    entries.size(), totalBytes, hitCount, total - hitCount, getEvictionCount(),
+                    total == 0 ? 0 : String.format("%.3f", (double) hitCount / total));
+        }
+    }
+
+    // 캐시에 있으면 반환, 없으면 Likes 에서 읽어 저장 (다른 요청이 읽는 중이면 null)
+    private Entry acquire(Long likedId) {
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(likedId);
+            if (entry != null && entry.likers != null) {
+                hits.increment();
+                return entry;
+            }
+            misses.increment();
+            if (entry != null) {
+                return null;
+            }
+            entry = new Entry();
+            entries.put(likedId, entry);
+        }
+
+        // DB 조회는 락 밖에서
+        Roaring64NavigableMap likers = new Roaring64NavigableMap();
+        try {
+            likesRepository.findLikerIds(likedId).forEach(likers::addLong);
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(likedId, entry);
+            }
+            throw e;
+        }
+        likers.runOptimize();
+
+        synchronized (entries) {
+            entry.load(likers);
+
+            // 읽는 동안 제거되었으면 이번 응답에만 사용
+            if (entries.get(likedId) == entry) {
+                totalBytes += entry.bytes;
+                evict();
+            }
+        }
+
+        return entry;
+    }
+
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while ((entries.size() > MAX_MEMBERS || totalBytes > MAX_BYTES) && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.bytes;
+            evictions.increment();
+        }
+    }
+
+    private static class Entry {
+
+        // null 이면 아직 읽는 중
+        private Roaring64NavigableMap likers;
+        private long bytes;
+
+        private void load(Roaring64NavigableMap likers) {
+            this.likers = likers;
+            bytes = likers.getLongSizeInBytes();
+        }
+
+        private void apply(Long likerId, boolean liked) {
+            if (liked) {
+                likers.addLong(likerId);
+            } else {
+                likers.removeLong(likerId);
+            }
+            bytes = likers.getLongSizeInBytes();
+        }
+    }
+
+}
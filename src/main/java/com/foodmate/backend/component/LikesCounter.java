@@ -0,0 +1,109 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원별 좋아요 수 증감 (write-behind)
+ * 좋아요, 좋아요 취소마다 Member 행을 읽고 고쳐 쓰는 대신 회원별 LongAdder 에 누적하고
+ * 1 초마다 같은 증감량의 회원을 묶어 UPDATE member SET likes = likes + ? 로 반영
+ * 좋아요가 몰리는 회원도 요청마다 같은 행의 락을 잡지 않고, 동시 요청의 증감이 사라지지 않음
+ *
+ * 반영 전 증감은 서버가 내려가면 (정상 종료 시에는 반영) 사라질 수 있으므로 매일 Likes 기준으로 다시 집계해 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikesCounter {
+
+    private static final int FLUSH_CHUNK_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+
+    // 회원 아이디 -> 아직 DB 에 반영하지 않은 증감 (항목은 지우지 않으므로 좋아요를 받은 회원 수만큼)
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // MemberService - 좋아요(+1), 좋아요 취소(-1) 커밋 후
+    public void add(Long memberId, long delta) {
+        if (delta != 0) {
+            pending.computeIfAbsent(memberId, id -> new LongAdder()).add(delta);
+        }
+    }
+
+    /**
+     * @return 저장된 좋아요 수 + 아직 반영하지 않은 증감
+     */
+    public long get(Member member) {
+        return member.getLikes() + pendingOf(member.getId());
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    @PreDestroy
+    public synchronized void flush() {
+
+        // 읽은 만큼만 빼므로 읽는 도중 더해진 증감은 다음 반영으로 넘어감
+        Map<Long, List<Long>> membersByDelta = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                entry.getValue().add(-delta);
+                membersByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        for (Map.Entry<Long, List<Long>> entry : membersByDelta.entrySet()) {
+            long delta = entry.getKey();
+            List<Long> memberIds = entry.getValue();
+
+            for (int from = 0; from < memberIds.size(); from += FLUSH_CHUNK_SIZE) {
+                List<Long> chunk = memberIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, memberIds.size()));
+                try {
+                    memberRepository.addLikes(delta, chunk);
+                } catch (RuntimeException e) {
+                    // 반영하지 못한 증감은 되돌려 다음 번에 다시 시도
+                    log.error("LikesCounter flush failed : {} members", chunk.size(), e);
+                    chunk.forEach(memberId -> add(memberId, delta));
+                }
+            }
+        }
+    }
+
+    // 매일 새벽 4시 30분 - Likes 기준으로 좋아요 수가 어긋난 회원 보정 (반영 대기 중인 증감이 있는 회원은 다음 날)
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcile() {
+
+        flush();
+
+        int reconciled = 0;
+        for (Object[] mismatch : memberRepository.findLikesMismatches()) {
+            Long memberId = ((Number) mismatch[0]).longValue();
+            if (pendingOf(memberId) != 0) {
+                continue;
+            }
+
+            // 그 사이 반영된 증감이 있으면 저장된 값이 달라져 0
+            reconciled += memberRepository.reconcileLikes(memberId,
+                    ((Number) mismatch[1]).longValue(), ((Number) mismatch[2]).longValue());
+        }
+
+        log.info("LikesCounter reconciled : {} members", reconciled);
+    }
+
+    private long pendingOf(Long memberId) {
+        LongAdder adder = pending.get(memberId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.RankingDto;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 랭킹 상위 K 명
+ * 좋아요 수가 가장 적은 회원이 루트인 크기 제한 최소 힙과 회원 아이디별 힙 위치로 상위 회원을 추적하고
+ * 좋아요가 바뀔 때마다 상위 K 명 목록을 새로 만들어 두므로 조회는 DB 접근 없이 만들어 둔 목록을 그대로 반환
+ * 힙에 없는 회원의 좋아요 수 상한을 기억해 두고, 좋아요 취소로 상위 K 명을 확신할 수 없게 되면 DB 에서 다시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikesLeaderboard {
+
+    public static final int TOP_K = 10;
+
+    // 상위 K 명이 좋아요 취소로 내려가도 바로 다음 순위를 채울 수 있도록 여유 있게 추적
+    static final int CAPACITY = TOP_K * 4;
+
+    private static final Comparator<RankingDto.Likes> MOST_LIKED = Comparator
+            .comparingLong(RankingDto.Likes::getLikesCount).reversed()
+            .thenComparing(RankingDto.Likes::getMemberId);
+
+    private final MemberRepository memberRepository;
+
+    private final RankingDto.Likes[] heap = new RankingDto.Likes[CAPACITY];
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int size;
+
+    // 힙에 없는 회원의 좋아요 수는 이 값 이하
+    private long untrackedMax;
+
+    private volatile List<RankingDto.Likes> ranking;
+
+    // 서버 시작 시 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    // 동시에 같은 회원의 좋아요가 바뀌면 나중에 읽은 값이 먼저 반영될 수 있으므로 매 시간 정각에 다시 적재
+    @Scheduled(cron = "0 0 * * * *")
+    public synchronized void refresh() {
+
+        List<Member> members = memberRepository.findAllByOrderByLikesDesc(PageRequest.of(0, CAPACITY + 1));
+
+        Arrays.fill(heap, null);
+        positions.clear();
+        size = 0;
+        untrackedMax = members.size() > CAPACITY ? members.get(CAPACITY).getLikes() : 0;
+
+        for (Member member : members.subList(0, Math.min(CAPACITY, members.size()))) {
+            heap[size] = toLikes(member, member.getLikes());
+            positions.put(member.getId(), size);
+            siftUp(size++);
+        }
+        publish();
+
+        log.info("LikesLeaderboard loaded : {} members", size);
+    }
+
+    public boolean isLoaded() {
+        return ranking != null;
+    }
+
+    // 좋아요 많은 순 상위 K 명 (만들어 둔 불변 목록)
+    public List<RankingDto.Likes> getRanking() {
+        return ranking;
+    }
+
+    // 저장된 좋아요 수로 반영
+    public void update(Member member) {
+        update(member, member.getLikes());
+    }
+
+    // MemberService - 좋아요 수 (LikesCounter 에서 아직 DB 에 반영하지 않은 증감 포함), 프로필 변경 반영
+    public synchronized void update(Member member, long likesCount) {
+
+        if (!isLoaded()) {
+            return;
+        }
+
+        RankingDto.Likes likes = toLikes(member, likesCount);
+        Integer position = positions.get(member.getId());
+
+        if (position != null) {
+            heap[position] = likes;
+            siftDown(siftUp(position));
+        } else if (size < CAPACITY) {
+            heap[size] = likes;
+            positions.put(member.getId(), size);
+            siftUp(size++);
+        } else if (likes.getLikesCount() > heap[0].getLikesCount()) {
+            // 가장 적은 회원을 내보내고 그 자리에 추가
+            untrackedMax = Math.max(untrackedMax, heap[0].getLikesCount());
+            positions.remove(heap[0].getMemberId());
+            heap[0] = likes;
+            positions.put(member.getId(), 0);
+            siftDown(0);
+        } else {
+            untrackedMax = Math.max(untrackedMax, likes.getLikesCount());
+        }
+
+        if (!publish()) {
+            refresh();
+        }
+    }
+
+    // 상위 K 명 목록 갱신, 힙에 없는 회원이 상위 K 명에 들 수 있으면 false
+    private boolean publish() {
+
+        List<RankingDto.Likes> sorted = new ArrayList<>(Arrays.asList(heap).subList(0, size));
+        sorted.sort(MOST_LIKED);
+        List<RankingDto.Likes> top = sorted.subList(0, Math.min(TOP_K, sorted.size()));
+
+        long lowest = top.size() < TOP_K ? 0 : top.get(top.size() - 1).getLikesCount();
+        if (lowest < untrackedMax) {
+            return false;
+        }
+
+        ranking = Collections.unmodifiableList(new ArrayList<>(top));
+        return true;
+    }
+
+    private int siftUp(int index) {
+
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap[parent].getLikesCount() <= heap[index].getLikesCount()) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+        return index;
+    }
+
+    private void siftDown(int index) {
+
+        while (true) {
+            int smallest = index;
+            int left = index * 2 + 1;
+            int right = left + 1;
+            if (left < size && heap[left].getLikesCount() < heap[smallest].getLikesCount()) {
+                smallest = left;
+            }
+            if (right < size && heap[right].getLikesCount() < heap[smallest].getLikesCount()) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        RankingDto.Likes temp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = temp;
+        positions.put(heap[i].getMemberId(), i);
+        positions.put(heap[j].getMemberId(), j);
+    }
+
+    private static RankingDto.Likes toLikes(Member member, long likesCount) {
+        return RankingDto.Likes.builder()
+                .memberId(member.getId())
+                .nickname(member.getNickname())
+                .image(member.getImage())
+                .likesCount(likesCount)
+                .build();
+    }
+
+}
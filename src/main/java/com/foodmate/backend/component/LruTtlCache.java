@@ -0,0 +1,216 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.util.AfterCommit;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 조회 결과 캐시 (read-through) - GroupDetailCache, MemberPrincipalCache, MemberProfileCache 에서 사용
+ * 최대 개수를 넘으면 가장 오래 조회되지 않은 값부터 제거 (LRU), 저장 후 TTL 이 지나면 다시 조회
+ * 보조 키 (이메일, 닉네임 등) 를 지정하면 보조 키로도 조회
+ */
+class LruTtlCache<K, V> {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Function<V, String> aliasOf;
+
+    // 키 -> 값 (조회 순서), 보조 키 -> 키
+    private final Map<K, Entry<V>> entries;
+    private final Map<String, K> keysByAlias = new HashMap<>();
+
+    // 무효화 횟수 - 조회 중 무효화된 값을 저장하지 않기 위해 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    LruTtlCache(int maxSize, Duration ttl, Clock clock) {
+        this(maxSize, ttl, clock, null);
+    }
+
+    LruTtlCache(int maxSize, Duration ttl, Clock clock, Function<V, String> aliasOf) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.aliasOf = aliasOf;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruTtlCache.this.maxSize) {
+                    evictions.increment();
+                    removeAlias(eldest.getKey(), eldest.getValue().value);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없거나 만료됐으면 loader 로 조회해서 저장 (null 은 저장하지 않음)
+     */
+    V get(K key, Function<K, V> loader) {
+
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedGeneration = generation();
+
+        // DB 조회는 락 밖에서
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded, loadedGeneration);
+        }
+        return loaded;
+    }
+
+    // 캐시에 있고 만료되지 않았으면 반환, 아니면 null
+    V getIfPresent(K key) {
+        synchronized (entries) {
+            return getValid(key);
+        }
+    }
+
+    // 보조 키로 조회
+    V getIfPresentByAlias(String alias) {
+        synchronized (entries) {
+            K key = keysByAlias.get(alias);
+            if (key == null) {
+                misses.increment();
+                return null;
+            }
+            return getValid(key);
+        }
+    }
+
+    // 조회를 시작할 때의 무효화 횟수 - 직접 조회해서 put 할 때 사용
+    long generation() {
+        return generation.get();
+    }
+
+    // 조회를 시작한 뒤 무효화가 없었을 때만 저장
+    void put(K key, V value, long loadedGeneration) {
+        synchronized (entries) {
+            if (generation.get() != loadedGeneration) {
+                return;
+            }
+            Entry<V> replaced = entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+            if (replaced != null) {
+                removeAlias(key, replaced.value);
+            }
+            if (aliasOf != null) {
+                keysByAlias.put(aliasOf.apply(value), key);
+            }
+        }
+    }
+
+    /**
+     * 해당 키 무효화
+     * 트랜잭션 안이면 커밋 전에 다른 요청이 이전 값을 다시 저장할 수 있으므로 커밋 후 한 번 더 무효화
+     */
+    void evict(K key) {
+        remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            AfterCommit.run(() -> remove(key));
+        }
+    }
+
+    // 조건에 맞는 값 모두 무효화 (커밋 후 한 번 더)
+    void evictIf(Predicate<V> condition) {
+        removeIf(condition);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            AfterCommit.run(() -> removeIf(condition));
+        }
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(K key) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            Entry<V> entry = entries.remove(key);
+            if (entry != null) {
+                removeAlias(key, entry.value);
+            }
+        }
+    }
+
+    private void removeIf(Predicate<V> condition) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, Entry<V>> entry = iterator.next();
+                if (condition.test(entry.getValue().value)) {
+                    iterator.remove();
+                    removeAlias(entry.getKey(), entry.getValue().value);
+                }
+            }
+        }
+    }
+
+    // 만료된 값은 제거하고 null (락 안에서 호출)
+    private V getValid(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt.isAfter(clock.instant())) {
+            hits.increment();
+            return entry.value;
+        }
+        if (entry != null) {
+            entries.remove(key);
+            removeAlias(key, entry.value);
+        }
+        misses.increment();
+        return null;
+    }
+
+    // 보조 키가 다른 키로 다시 저장됐으면 그대로 둠 (락 안에서 호출)
+    private void removeAlias(K key, V value) {
+        if (aliasOf != null) {
+            keysByAlias.remove(aliasOf.apply(value), key);
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final Instant expiresAt;
+
+        private Entry(V value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
@@ -1,39 +1,26 @@
 package com.foodmate.backend.component;
 
+import com.foodmate.backend.entity.MailOutbox;
+import com.foodmate.backend.repository.MailOutboxRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.stereotype.Component;
 
-import javax.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
 
+/**
+ * 메일 발송 요청
+ * SMTP 로 바로 보내지 않고 호출한 트랜잭션 안에서 발송 대기열 (mail_outbox) 에 저장
+ * 트랜잭션이 커밋되어야 발송되고, 실제 발송은 MailOutboxSender 에서
+ */
 @RequiredArgsConstructor
 @Component
 public class MailComponents {
 
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxRepository mailOutboxRepository;
 
     public boolean sendMail(String mail, String subject, String text) {
-        boolean result = false;
-
-        MimeMessagePreparator msg = new MimeMessagePreparator() {
-
-            @Override
-            public void prepare(MimeMessage mimeMessage) throws Exception {
-                MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-                mimeMessageHelper.setTo(mail);
-                mimeMessageHelper.setSubject(subject);
-                mimeMessageHelper.setText(text, true);
-            }
-        };
-        try {
-            javaMailSender.send(msg);
-        } catch (Exception e) {
-            System.out.println(e.getMessage());
-        }
-
-        return result;
+        mailOutboxRepository.save(MailOutbox.createMailOutbox(mail, subject, text, LocalDateTime.now()));
+        return true;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.MailOutbox;
+import com.foodmate.backend.enums.MailOutboxStatus;
+import com.foodmate.backend.repository.MailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메일 발송 대기열 처리
+ * 1 초마다 발송할 메일을 최대 50 개씩 작업 토큰으로 가져가 발송 스레드 (2 개) 에 넘기고,
+ * 각 스레드는 가져간 메일을 SMTP 연결 하나로 한 번에 발송
+ *
+ * 실패한 메일은 30 초부터 두 배씩 (최대 30 분) 기다렸다가 다시 보내고, 5 번 실패하면 DEAD 로 남김
+ * 발송 중 서버가 내려가 SENDING 으로 남은 메일은 제한 시간 (5 분) 후 다시 발송 대상 (같은 메일이 두 번 갈 수 있음)
+ */
+@Slf4j
+@Component
+public class MailOutboxSender {
+
+    static final int BATCH_SIZE = 50;
+    static final int WORKERS = 2;
+    static final int MAX_ATTEMPTS = 5;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+    private static final int SENT_RETENTION_DAYS = 7;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+
+    private final ExecutorService workers;
+    // 쉬고 있는 발송 스레드 수 - 발송 스레드가 모두 바쁘면 더 가져가지 않음
+    private final Semaphore idleWorkers = new Semaphore(WORKERS);
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dead = new LongAdder();
+
+    public MailOutboxSender(MailOutboxRepository mailOutboxRepository, JavaMailSender javaMailSender) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(WORKERS, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 스케줄러 스레드는 가져가기만 하고 발송은 기다리지 않음 (SMTP 가 느려도 스케줄러 스레드를 오래 잡지 않음, 스레드 수는 application.yml)
+    @Scheduled(fixedDelay = 1000)
+    public void drain() {
+
+        while (idleWorkers.tryAcquire()) {
+            String claimToken = UUID.randomUUID().toString();
+            LocalDateTime now = LocalDateTime.now();
+
+            int claimed;
+            try {
+                claimed = mailOutboxRepository.claim(claimToken, now, now.plus(LEASE), BATCH_SIZE);
+            } catch (RuntimeException e) {
+                idleWorkers.release();
+                log.error("MailOutboxSender claim failed", e);
+                return;
+            }
+
+            if (claimed == 0) {
+                idleWorkers.release();
+                return;
+            }
+
+            workers.execute(() -> {
+                try {
+                    sendBatch(claimToken);
+                } catch (RuntimeException e) {
+                    // 상태를 남기지 못한 메일은 제한 시간 후 다시 발송 대상
+                    log.error("MailOutboxSender batch failed : {}", claimToken, e);
+                } finally {
+                    idleWorkers.release();
+                }
+            });
+        }
+    }
+
+    // 작업 토큰으로 가져간 메일을 SMTP 연결 하나로 발송하고 결과 저장
+    void sendBatch(String claimToken) {
+
+        List<MailOutbox> mails = mailOutboxRepository.findByClaimToken(claimToken);
+        if (mails.isEmpty()) {
+            return;
+        }
+
+        Map<MimeMessage, MailOutbox> byMessage = new HashMap<>();
+        Map<MailOutbox, String> errors = new HashMap<>();
+        for (MailOutbox mail : mails) {
+            try {
+                byMessage.put(createMessage(mail), mail);
+            } catch (MessagingException e) {
+                errors.put(mail, e.getMessage());
+            }
+        }
+
+        try {
+            if (!byMessage.isEmpty()) {
+                javaMailSender.send(byMessage.keySet().toArray(new MimeMessage[0]));
+            }
+        } catch (MailSendException e) {
+            // 실패한 메일만 failedMessages 에 있음 (연결 실패 시에는 전부, 발송 후 연결 종료 실패 시에는 비어 있음)
+            e.getFailedMessages().forEach((message, exception) ->
+                    errors.put(byMessage.get(message), exception.getMessage()));
+        } catch (MailException e) {
+            byMessage.values().forEach(mail -> errors.put(mail, e.getMessage()));
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (MailOutbox mail : mails) {
+            if (!errors.containsKey(mail)) {
+                sentIds.add(mail.getId());
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.markSent(sentIds, LocalDateTime.now());
+            sent.add(sentIds.size());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        errors.forEach((mail, error) -> {
+            mail.fail(error, now, MAX_ATTEMPTS, backoff(mail.getAttempts() + 1));
+            mailOutboxRepository.save(mail);
+            failed.increment();
+            if (mail.getStatus() == MailOutboxStatus.DEAD) {
+                dead.increment();
+                log.error("MailOutbox dead : id={}, attempts={}, error={}", mail.getId(), mail.getAttempts(), error);
+            }
+        });
+    }
+
+    // 매일 새벽 4시 45분 - 발송 완료 후 7 일이 지난 메일 삭제
+    @Scheduled(cron = "0 45 4 * * *")
+    public void deleteSent() {
+        int deleted = mailOutboxRepository.deleteSentBefore(LocalDateTime.now().minusDays(SENT_RETENTION_DAYS));
+        log.info("MailOutbox deleted : {} sent mails", deleted);
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getDeadCount() {
+        return dead.sum();
+    }
+
+    // 매 시간 발송 현황 기록
+    @Scheduled(cron = "0 0 * * * *")
+    public void logStats() {
+        log.info("MailOutboxSender stats : sent={}, failed={}, dead={}, pending={}, deadTotal={}",
+                getSentCount(), getFailedCount(), getDeadCount(),
+                mailOutboxRepository.countByStatus(MailOutboxStatus.PENDING),
+                mailOutboxRepository.countByStatus(MailOutboxStatus.DEAD));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // n 번째 실패 후 대기 시간 : 30 초 * 2^(n-1), 최대 30 분
+    static Duration backoff(int attempts) {
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private MimeMessage createMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        mimeMessageHelper.setTo(mail.getRecipient());
+        mimeMessageHelper.setSubject(mail.getSubject());
+        mimeMessageHelper.setText(mail.getText(), true);
+        return mimeMessage;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.exception.MemberException;
+import com.foodmate.backend.repository.MemberRepository;
+import com.foodmate.backend.security.dto.MemberPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증된 회원 정보 캐시 (회원 아이디, 이메일로 조회)
+ * JwtAuthenticationProcessingFilter 와 서비스가 요청마다 회원을 다시 조회하지 않도록 회원 스냅샷을 TTL 동안 보관
+ * 프로필, 비밀번호 변경, 탈퇴, 정지 시 해당 회원만 무효화하고, 최대 개수를 넘으면 가장 오래 조회되지 않은 회원부터 제거 (LRU)
+ */
+@Component
+public class MemberPrincipalCache {
+
+    static final int MAX_SIZE = 10000;
+    static final Duration TTL = Duration.ofMinutes(5);
+
+    private final MemberRepository memberRepository;
+
+    // 회원 아이디 -> 스냅샷, 보조 키는 이메일
+    private final LruTtlCache<Long, MemberPrincipal> cache;
+
+    @Autowired
+    public MemberPrincipalCache(MemberRepository memberRepository) {
+        this(memberRepository, Clock.systemDefaultZone());
+    }
+
+    MemberPrincipalCache(MemberRepository memberRepository, Clock clock) {
+        this.memberRepository = memberRepository;
+        this.cache = new LruTtlCache<>(MAX_SIZE, TTL, clock, MemberPrincipal::getEmail);
+    }
+
+    // JwtAuthenticationProcessingFilter - 액세스 토큰의 회원 아이디로 조회 (없는 회원은 저장하지 않음)
+    public Optional<MemberPrincipal> findById(Long memberId) {
+        return Optional.ofNullable(cache.get(memberId, id -> memberRepository.findById(id)
+                .map(MemberPrincipal::createMemberPrincipal)
+                .orElse(null)));
+    }
+
+    public Optional<MemberPrincipal> findByEmail(String email) {
+
+        MemberPrincipal cached = cache.getIfPresentByAlias(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long loadedGeneration = cache.generation();
+
+        Optional<MemberPrincipal> loaded = memberRepository.findByEmail(email)
+                .map(MemberPrincipal::createMemberPrincipal);
+        loaded.ifPresent(principal -> cache.put(principal.getId(), principal, loadedGeneration));
+        return loaded;
+    }
+
+    /**
+     * 로그인한 회원을 조회 없이 참조로 반환 (연관관계, 아이디 비교용 - 다른 값을 읽으면 그때 조회)
+     * 참조는 영속성 컨텍스트가 열려 있을 때만 초기화할 수 있으므로 트랜잭션 또는 요청 (open-in-view) 안에서만 사용
+     */
+    public Member getMember(Authentication authentication) {
+        MemberPrincipal principal = findByEmail(authentication.getName())
+                .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
+        return memberRepository.getReferenceById(principal.getId());
+    }
+
+    // MemberService - 프로필, 비밀번호 변경, 탈퇴, 정지 시 무효화
+    public void evict(Long memberId) {
+        cache.evict(memberId);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+}
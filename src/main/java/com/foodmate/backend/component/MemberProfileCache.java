@@ -0,0 +1,67 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.MemberProfileDto;
+import com.foodmate.backend.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 다른 회원 프로필 캐시 (닉네임으로 조회)
+ * 회원과 선호음식을 한 번의 조회로 읽어 TTL 동안 보관 (선호음식마다 음식, 선호음식을 따로 조회하지 않음)
+ * 프로필 이미지, 선호음식 변경, 탈퇴 시 해당 회원만 무효화하고, 최대 개수를 넘으면 가장 오래 조회되지 않은 회원부터 제거 (LRU)
+ */
+@Component
+public class MemberProfileCache {
+
+    static final int MAX_SIZE = 10000;
+    static final Duration TTL = Duration.ofMinutes(10);
+
+    private final MemberRepository memberRepository;
+
+    // 회원 아이디 -> 프로필, 보조 키는 닉네임
+    private final LruTtlCache<Long, MemberProfileDto.Profile> cache;
+
+    @Autowired
+    public MemberProfileCache(MemberRepository memberRepository) {
+        this(memberRepository, Clock.systemDefaultZone());
+    }
+
+    MemberProfileCache(MemberRepository memberRepository, Clock clock) {
+        this.memberRepository = memberRepository;
+        this.cache = new LruTtlCache<>(MAX_SIZE, TTL, clock, MemberProfileDto.Profile::getNickname);
+    }
+
+    // MemberService - 닉네임으로 다른 회원 프로필 조회 (없는 회원은 저장하지 않음)
+    public Optional<MemberProfileDto.Profile> findByNickname(String nickname) {
+
+        MemberProfileDto.Profile cached = cache.getIfPresentByAlias(nickname);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long loadedGeneration = cache.generation();
+
+        MemberProfileDto.Profile loaded =
+                MemberProfileDto.Profile.createProfile(memberRepository.findProfileRowsByNickname(nickname));
+        if (loaded == null) {
+            return Optional.empty();
+        }
+
+        cache.put(loaded.getMemberId(), loaded, loadedGeneration);
+        return Optional.of(loaded);
+    }
+
+    // MemberService - 프로필 이미지, 선호음식 변경, 탈퇴 시 무효화
+    public void evict(Long memberId) {
+        cache.evict(memberId);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+}
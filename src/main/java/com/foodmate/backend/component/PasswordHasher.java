@@ -0,0 +1,157 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.exception.MemberException;
+import com.foodmate.backend.util.RandomStringMaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시, 검증 (BCrypt)
+ * 요청 스레드에서 바로 계산하지 않고 CPU 수만큼의 전용 스레드에서 계산해 로그인이 몰려도 다른 API 의 요청 스레드를 차지하지 않음
+ * 대기열이 가득 차면 기다리지 않고 바로 429 (PASSWORD_HASHING_BUSY)
+ *
+ * 서버 시작 시 해시 한 번이 목표 시간 안에 끝나는 가장 큰 비용 (work factor) 을 측정해 사용하고,
+ * 저장된 해시의 비용이 더 낮을 때만 로그인 성공 시 다시 해시 (MemberService)
+ * 서버마다 측정한 비용이 달라도 높은 비용의 해시를 낮추지 않으므로 서버를 오가며 계속 다시 해시하지 않음
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    static final int MIN_COST = 10;     // BCrypt.gensalt() 기본값
+    static final int MAX_COST = 14;
+    private static final long TARGET_MILLIS = 250;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final ThreadPoolExecutor executor;
+    private volatile int cost = MIN_COST;
+
+    public PasswordHasher() {
+        this(Runtime.getRuntime().availableProcessors(), QUEUE_CAPACITY);
+    }
+
+    PasswordHasher(int threads, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 서버 시작 시 비용 측정 (측정 전에는 기본 비용)
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrate() {
+
+        String sample = RandomStringMaker.randomStringMaker();
+        BCrypt.hashpw(sample, BCrypt.gensalt(4)); // 워밍업
+
+        int calibrated = MIN_COST;
+        for (int candidate = MIN_COST; candidate <= MAX_COST; candidate++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(sample, BCrypt.gensalt(candidate));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (elapsedMillis > TARGET_MILLIS) {
+                break;
+            }
+            calibrated = candidate;
+
+            // 비용이 1 오르면 두 배 걸리므로 목표를 넘을 것이 확실하면 측정하지 않음
+            if (elapsedMillis * 2 > TARGET_MILLIS) {
+                break;
+            }
+        }
+
+        cost = calibrated;
+        log.info("PasswordHasher calibrated : cost={}, target={}ms", cost, TARGET_MILLIS);
+    }
+
+    public String hash(String rawPassword) {
+        int currentCost = cost;
+        return submit(() -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(currentCost)));
+    }
+
+    public boolean matches(String rawPassword, String hashedPassword) {
+        return submit(() -> BCrypt.checkpw(rawPassword, hashedPassword));
+    }
+
+    /**
+     * @return 저장된 해시의 비용이 현재 비용보다 낮으면 (형식이 다르면) true
+     */
+    public boolean needsRehash(String hashedPassword) {
+        return costOf(hashedPassword) < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    <T> T submit(Callable<T> task) {
+
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new MemberException(Error.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new MemberException(Error.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new MemberException(Error.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            // 잘못된 해시 형식 등은 그대로
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // $2a$10$... 형식의 비용 (형식이 다르면 -1)
+    static int costOf(String hashedPassword) {
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hashedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
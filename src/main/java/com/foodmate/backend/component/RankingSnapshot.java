@@ -0,0 +1,146 @@
+package com.foodmate.backend.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodmate.backend.enums.RankingType;
+import com.foodmate.backend.enums.RankingWindow;
+import com.foodmate.backend.service.RankingService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 랭킹 응답 스냅샷
+ * 모든 사용자가 같은 랭킹을 보므로 랭킹 종류, 기간별 응답을 미리 JSON 으로 직렬화하고 ETag 를 붙여 두었다가 그대로 응답
+ * 새로 만든 스냅샷은 전체를 한 번에 교체하므로 조회는 재계산을 기다리지 않고, 랭킹 조회가 몰려도 DB 까지 가지 않음
+ *
+ * 랭킹이 바뀐 종류는 1 초 안에 모아서 다시 만들고, 닉네임, 프로필 이미지, 날짜 변경 등을 반영하기 위해 1 분마다 전체를 다시 만듦
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingSnapshot {
+
+    private static final long FULL_REBUILD_INTERVAL_MILLIS = 60 * 1000L;
+
+    private final RankingService rankingService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Map<RankingType, Map<RankingWindow, Snapshot>>> snapshots =
+            new AtomicReference<>();
+    private final Set<RankingType> changedTypes = ConcurrentHashMap.newKeySet();
+    private volatile long lastFullRebuild;
+
+    @Getter
+    public static class Snapshot {
+        private final byte[] body;
+        private final String eTag;
+
+        private Snapshot(byte[] body) {
+            this.body = body;
+            this.eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        }
+    }
+
+    // 서버 시작 시 첫 스냅샷 (다른 랭킹 저장소보다 먼저 만들어져도 1 분 안에 전체를 다시 만듦)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild(Set.of(RankingType.values()));
+    }
+
+    // MemberService, GroupService, Scheduler - 랭킹이 바뀌는 쓰기 후 호출 (다음 재계산에 반영)
+    public void markChanged(RankingType... types) {
+        changedTypes.addAll(Set.of(types));
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void refresh() {
+
+        if (System.currentTimeMillis() - lastFullRebuild >= FULL_REBUILD_INTERVAL_MILLIS) {
+            changedTypes.clear();
+            rebuild(Set.of(RankingType.values()));
+            return;
+        }
+
+        if (changedTypes.isEmpty()) {
+            return;
+        }
+
+        Set<RankingType> types = Set.copyOf(changedTypes);
+        changedTypes.removeAll(types);
+        rebuild(types);
+    }
+
+    /**
+     * @return 랭킹 종류, 기간의 최신 스냅샷 (첫 스냅샷을 만들기 전에는 그 자리에서 만든 응답)
+     */
+    public Snapshot get(RankingType type, RankingWindow window) {
+
+        Map<RankingType, Map<RankingWindow, Snapshot>> current = snapshots.get();
+        if (current == null) {
+            return build(type, window);
+        }
+        return current.get(type).get(window);
+    }
+
+    // 바뀐 종류만 다시 만들고 나머지는 기존 스냅샷을 그대로 사용해 새 스냅샷으로 교체
+    synchronized void rebuild(Set<RankingType> types) {
+
+        Map<RankingType, Map<RankingWindow, Snapshot>> current = snapshots.get();
+        Map<RankingType, Map<RankingWindow, Snapshot>> next = new EnumMap<>(RankingType.class);
+
+        for (RankingType type : RankingType.values()) {
+            if (current != null && !types.contains(type)) {
+                next.put(type, current.get(type));
+                continue;
+            }
+
+            Map<RankingWindow, Snapshot> byWindow = new EnumMap<>(RankingWindow.class);
+            for (RankingWindow window : RankingWindow.values()) {
+                byWindow.put(window, build(type, window));
+            }
+            next.put(type, byWindow);
+        }
+
+        snapshots.set(next);
+        if (types.size() == RankingType.values().length) {
+            lastFullRebuild = System.currentTimeMillis();
+        }
+    }
+
+    private Snapshot build(RankingType type, RankingWindow window) {
+
+        Object ranking;
+        switch (type) {
+            case LIKES:
+                ranking = rankingService.getLikesRanking(window);
+                break;
+            case MEETING:
+                ranking = rankingService.getMeetingRanking(window);
+                break;
+            case STORE:
+                ranking = rankingService.getStoreRanking(window);
+                break;
+            default:
+                ranking = rankingService.getFoodRanking(window);
+                break;
+        }
+
+        try {
+            return new Snapshot(objectMapper.writeValueAsBytes(ranking));
+        } catch (JsonProcessingException e) {
+            // 랭킹 DTO 는 직렬화에 실패하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -4,8 +4,10 @@ import com.foodmate.backend.entity.ChatRoom;
 import com.foodmate.backend.entity.FoodGroup;
 import com.foodmate.backend.enums.EnrollmentStatus;
 import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.enums.RankingType;
 import com.foodmate.backend.exception.ChatException;
 import com.foodmate.backend.repository.*;
+import com.foodmate.backend.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -13,6 +15,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -25,6 +28,14 @@ public class Scheduler {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMemberRepository chatMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final RankingCounterRepository rankingCounterRepository;
+    private final GroupLocationIndex groupLocationIndex;
+    private final GroupKeywordIndex groupKeywordIndex;
+    private final UpcomingGroupStore upcomingGroupStore;
+    private final GroupDetailCache groupDetailCache;
+    private final GroupSeatCounter groupSeatCounter;
+    private final WindowedRankingCounter windowedRankingCounter;
+    private final RankingSnapshot rankingSnapshot;
 //    private final SimpMessageSendingOperations sendingOperations;
 
     @Transactional
@@ -52,9 +63,52 @@ public class Scheduler {
             chatMemberRepository.deleteAllByChatRoom(chatRoom);
             chatMessageRepository.deleteAllByChatRoom(chatRoom);
             chatRoomRepository.delete(chatRoom);
+
+            // 채팅방이 없어진 모임의 상세 조회 캐시, 자리 카운터 정리
+            groupDetailCache.evict(foodGroup.getId());
+            groupSeatCounter.remove(foodGroup.getId());
         }
 
+        // 검색 인덱스, 모임 목록 저장소에서 지난 모임 정리
+        groupLocationIndex.removeExpired(current);
+        groupKeywordIndex.removeExpired(current);
+        upcomingGroupStore.removeExpired(current);
+
         log.info("Finished processing Group Completion Tasks.");
     }
 
+    /**
+     * 매 시 정각 - 모임 일시가 지난 모임을 랭킹 카운터에 반영 (스케줄러가 멈춰 있던 기간의 모임도 포함, 이미 반영한 모임은 건너뜀)
+     * 기간별 랭킹은 모임 일시의 날짜 버킷에 쌓이므로, 오늘 열린 모임은 늦어도 한 시간 안에 오늘 랭킹에 포함
+     * 메모리의 기간별 랭킹은 DB 반영이 커밋된 뒤에 갱신
+     */
+    @Transactional
+    @Scheduled(cron = "0 0 * * * *")
+    public void processGroupRanking() {
+
+        LocalDateTime current = LocalDateTime.now();
+
+        List<Object[]> ranked = new ArrayList<>();
+        for (Object[] group : foodGroupRepository.findUnrankedGroups(current)) {
+            if (foodGroupRepository.markRanked((Long) group[0], current) == 1) {
+                rankingCounterRepository.increaseAll((Long) group[1], (Long) group[2], (Long) group[3], 1);
+                ranked.add(group);
+            }
+        }
+
+        if (ranked.isEmpty()) {
+            return;
+        }
+
+        AfterCommit.run(() -> {
+            for (Object[] group : ranked) {
+                windowedRankingCounter.addGroup((Long) group[1], (Long) group[2], (Long) group[3],
+                        ((LocalDateTime) group[4]).toLocalDate(), 1);
+            }
+            rankingSnapshot.markChanged(RankingType.MEETING, RankingType.STORE, RankingType.FOOD);
+        });
+
+        log.info("Group ranking processed : {} groups", ranked.size());
+    }
+
 }
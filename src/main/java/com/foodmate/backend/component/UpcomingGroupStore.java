@@ -0,0 +1,414 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.SearchedGroupDto;
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 예정된 모임 목록 (전체, 오늘, 날짜별, 메뉴별 조회) 을 메모리에 보관하는 저장소
+ * 생성일시순, 모임일시순 정렬 목록과 메뉴별 목록을 불변 스냅샷으로 들고 있다가
+ * 변경이 생기면 바뀐 부분만 반영한 새 스냅샷으로 교체 (copy-on-write) 하므로 조회는 락 없이 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpcomingGroupStore {
+
+    private static final Comparator<Entry> LATEST_FIRST = Comparator
+            .comparing((Entry e) -> e.createdDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(e -> e.groupId, Comparator.reverseOrder());
+    private static final Comparator<Entry> EARLIEST_GROUP_FIRST = Comparator
+            .comparing((Entry e) -> e.groupDateTime)
+            .thenComparing(e -> e.groupId);
+
+    private final FoodGroupRepository foodGroupRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean loaded = false;
+
+    // 서버 시작 시 예정된 모임 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+
+        List<Entry> entries = new ArrayList<>();
+        for (SearchedGroupDto group : foodGroupRepository.findUpcomingGroups(LocalDateTime.now())) {
+            entries.add(new Entry(group));
+        }
+
+        snapshot = Snapshot.of(entries);
+        loaded = true;
+
+        log.info("UpcomingGroupStore loaded : {} groups", entries.size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 모임 생성, 수정 시 반영
+    public synchronized void put(FoodGroup foodGroup) {
+
+        if (foodGroup.getId() == null) {
+            return;
+        }
+
+        Entry removed = snapshot.groups.get(foodGroup.getId());
+        Entry added = foodGroup.getIsDeleted() == null ? new Entry(new SearchedGroupDto(foodGroup)) : null;
+        snapshot = snapshot.change(removed, added);
+    }
+
+    // 모임 삭제 시 반영
+    public synchronized void remove(Long groupId) {
+
+        Entry removed = snapshot.groups.get(groupId);
+        if (removed != null) {
+            snapshot = snapshot.change(removed, null);
+        }
+    }
+
+    /**
+     * 모임 신청 수락 시 참여 인원 반영
+     * 참여 인원은 수락으로만 늘어나고 커밋 순서와 반영 순서가 다를 수 있으므로 더 작은 값은 무시
+     */
+    public synchronized void updateAttendance(Long groupId, int attendance) {
+
+        Entry entry = snapshot.groups.get(groupId);
+        if (entry != null && entry.group.getCurrent() < attendance) {
+            snapshot = snapshot.change(entry, new Entry(copy(entry.group, entry.group.getImage(), attendance)));
+        }
+    }
+
+    // 작성자 프로필 이미지 변경 시 반영
+    public synchronized void updateMemberImage(Long memberId, String image) {
+
+        for (Entry entry : snapshot.groups.values()) {
+            if (entry.group.getMemberId().equals(memberId)) {
+                snapshot = snapshot.change(entry, new Entry(copy(entry.group, image, entry.group.getCurrent())));
+            }
+        }
+    }
+
+    // 모임일시가 지난 모임 정리
+    public synchronized void removeExpired(LocalDateTime current) {
+        snapshot = snapshot.filter(entry -> !entry.groupDateTime.isBefore(current));
+    }
+
+    // 전체 모임 조회 - 모임일시가 기간 안에 있는 모임 (최신 생성순)
+    public Page<SearchedGroupDto> findAll(LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        return page(snapshot.latestFirst, start, end, pageable);
+    }
+
+    // 오늘 모임 조회 & 날짜별 조회 (모임일시순)
+    public Page<SearchedGroupDto> findByGroupDateTime(LocalDateTime start, LocalDateTime end, Pageable pageable) {
+
+        List<Entry> entries = snapshot.earliestGroupFirst;
+        int from = position(entries, new Entry(Long.MIN_VALUE, start, null), EARLIEST_GROUP_FIRST);
+        int to = position(entries, new Entry(Long.MAX_VALUE, end, null), EARLIEST_GROUP_FIRST);
+
+        int pageFrom = (int) Math.min(from + pageable.getOffset(), to);
+        int pageTo = Math.min(pageFrom + pageable.getPageSize(), to);
+
+        return new PageImpl<>(groups(entries.subList(pageFrom, pageTo)), pageable, to - from);
+    }
+
+    // 메뉴별 조회 (최신 생성순)
+    public Page<SearchedGroupDto> findByFood(List<String> foods, LocalDateTime start, LocalDateTime end,
+                                             Pageable pageable) {
+        return page(snapshot.byFoods(foods), start, end, pageable);
+    }
+
+    /**
+     * 커서 기반 전체 모임 조회
+     * @return (cursorDate, cursorId) 이후 모임 최대 limit 개 (최신 생성순, 첫 페이지면 cursorId 가 null)
+     */
+    public List<SearchedGroupDto> findAllAfter(LocalDateTime start, LocalDateTime end,
+                                               LocalDateTime cursorDate, Long cursorId, int limit) {
+        return after(snapshot.latestFirst, entry -> entry.isBetween(start, end), cursorDate, cursorId, limit);
+    }
+
+    // 커서 기반 오늘 모임 조회 & 날짜별 조회 (모임일시순)
+    public List<SearchedGroupDto> findByGroupDateTimeAfter(LocalDateTime start, LocalDateTime end,
+                                                           LocalDateTime cursorDate, Long cursorId, int limit) {
+
+        List<Entry> entries = snapshot.earliestGroupFirst;
+        int from = position(entries, new Entry(Long.MIN_VALUE, start, null), EARLIEST_GROUP_FIRST);
+        if (cursorId != null) {
+            from = Math.max(from, position(entries, new Entry(cursorId, cursorDate, null), EARLIEST_GROUP_FIRST));
+        }
+        int to = position(entries, new Entry(Long.MAX_VALUE, end, null), EARLIEST_GROUP_FIRST);
+
+        return groups(entries.subList(Math.min(from, to), Math.min(from + limit, to)));
+    }
+
+    // 커서 기반 메뉴별 조회 (최신 생성순)
+    public List<SearchedGroupDto> findByFoodAfter(List<String> foods, LocalDateTime start, LocalDateTime end,
+                                                  LocalDateTime cursorDate, Long cursorId, int limit) {
+        return after(snapshot.byFoods(foods), entry -> entry.isBetween(start, end), cursorDate, cursorId, limit);
+    }
+
+    // GroupSearchPlanner - 저장된 모임 수
+    public int size() {
+        return snapshot.groups.size();
+    }
+
+    // GroupSearchPlanner - 모임 아이디로 조회 (없으면 null)
+    public SearchedGroupDto get(Long groupId) {
+        Entry entry = snapshot.groups.get(groupId);
+        return entry == null ? null : entry.group;
+    }
+
+    // GroupSearchPlanner - 모임일시가 기간 안에 있는 모임 수
+    public int countByGroupDateTime(LocalDateTime start, LocalDateTime end) {
+        return between(snapshot.earliestGroupFirst, start, end).size();
+    }
+
+    // GroupSearchPlanner - 모임일시가 기간 안에 있는 모임 (모임일시순)
+    public List<SearchedGroupDto> findByGroupDateTime(LocalDateTime start, LocalDateTime end) {
+        return groups(between(snapshot.earliestGroupFirst, start, end));
+    }
+
+    // GroupSearchPlanner - 메뉴별 모임 수
+    public int countByFood(List<String> foods) {
+        int count = 0;
+        for (String food : new HashSet<>(foods)) {
+            count += snapshot.byFood.getOrDefault(food, List.of()).size();
+        }
+        return count;
+    }
+
+    /**
+     * GroupSearchPlanner - 최신 생성순 목록을 커서 이후부터 차례로 확인
+     * @return 조건에 맞는 모임 최대 limit 개 (최신 생성순, 첫 페이지면 cursorId 가 null)
+     */
+    public List<SearchedGroupDto> findAllAfter(Predicate<SearchedGroupDto> filter,
+                                               LocalDateTime cursorDate, Long cursorId, int limit) {
+        return after(snapshot.latestFirst, entry -> filter.test(entry.group), cursorDate, cursorId, limit);
+    }
+
+    // GroupSearchPlanner - 메뉴별 목록을 커서 이후부터 차례로 확인 (최신 생성순)
+    public List<SearchedGroupDto> findByFoodAfter(List<String> foods, Predicate<SearchedGroupDto> filter,
+                                                  LocalDateTime cursorDate, Long cursorId, int limit) {
+        return after(snapshot.byFoods(foods), entry -> filter.test(entry.group), cursorDate, cursorId, limit);
+    }
+
+    // 최신 생성순 목록 중 모임일시가 기간 안에 있는 모임만 페이지로
+    private static Page<SearchedGroupDto> page(List<Entry> entries, LocalDateTime start, LocalDateTime end,
+                                               Pageable pageable) {
+
+        List<SearchedGroupDto> content = new ArrayList<>();
+        int total = 0;
+        for (Entry entry : entries) {
+            if (!entry.isBetween(start, end)) {
+                continue;
+            }
+            if (total >= pageable.getOffset() && content.size() < pageable.getPageSize()) {
+                content.add(entry.group);
+            }
+            total++;
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // 최신 생성순 목록 중 커서 이후, 조건에 맞는 모임 최대 limit 개
+    private static List<SearchedGroupDto> after(List<Entry> entries, Predicate<Entry> filter,
+                                                LocalDateTime cursorDate, Long cursorId, int limit) {
+
+        int from = cursorId == null ? 0 : position(entries, new Entry(cursorId, null, cursorDate), LATEST_FIRST);
+
+        List<SearchedGroupDto> result = new ArrayList<>();
+        for (int i = from; i < entries.size() && result.size() < limit; i++) {
+            if (filter.test(entries.get(i))) {
+                result.add(entries.get(i).group);
+            }
+        }
+        return result;
+    }
+
+    // 모임일시순 목록 중 모임일시가 기간 안에 있는 부분
+    private static List<Entry> between(List<Entry> entries, LocalDateTime start, LocalDateTime end) {
+        int from = position(entries, new Entry(Long.MIN_VALUE, start, null), EARLIEST_GROUP_FIRST);
+        int to = position(entries, new Entry(Long.MAX_VALUE, end, null), EARLIEST_GROUP_FIRST);
+        return entries.subList(Math.min(from, to), to);
+    }
+
+    // 정렬된 목록에서 key 바로 뒤의 위치
+    private static int position(List<Entry> entries, Entry key, Comparator<Entry> order) {
+        int index = Collections.binarySearch(entries, key, order);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static List<SearchedGroupDto> groups(List<Entry> entries) {
+        List<SearchedGroupDto> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            result.add(entry.group);
+        }
+        return result;
+    }
+
+    private static SearchedGroupDto copy(SearchedGroupDto group, String image, int current) {
+        return new SearchedGroupDto(group.getGroupId(), group.getMemberId(), group.getNickname(), image,
+                group.getTitle(), group.getName(), group.getFood(),
+                LocalDateTime.of(group.getDate(), group.getTime()), group.getMaximum(), current,
+                group.getStoreName(), group.getStoreAddress(), group.getCreatedDate());
+    }
+
+    /**
+     * 특정 시점의 예정된 모임 목록 (생성 후 변경하지 않음)
+     */
+    private static class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), List.of(), List.of(), Map.of());
+
+        private final Map<Long, Entry> groups;
+        private final List<Entry> latestFirst;
+        private final List<Entry> earliestGroupFirst;
+        private final Map<String, List<Entry>> byFood;
+
+        private Snapshot(Map<Long, Entry> groups, List<Entry> latestFirst, List<Entry> earliestGroupFirst,
+                         Map<String, List<Entry>> byFood) {
+            this.groups = groups;
+            this.latestFirst = latestFirst;
+            this.earliestGroupFirst = earliestGroupFirst;
+            this.byFood = byFood;
+        }
+
+        private static Snapshot of(Collection<Entry> entries) {
+
+            Map<Long, Entry> groups = new HashMap<>();
+            Map<String, List<Entry>> byFood = new HashMap<>();
+            for (Entry entry : entries) {
+                groups.put(entry.groupId, entry);
+                byFood.computeIfAbsent(entry.food, k -> new ArrayList<>()).add(entry);
+            }
+
+            List<Entry> latestFirst = new ArrayList<>(entries);
+            latestFirst.sort(LATEST_FIRST);
+            List<Entry> earliestGroupFirst = new ArrayList<>(entries);
+            earliestGroupFirst.sort(EARLIEST_GROUP_FIRST);
+            byFood.values().forEach(bucket -> bucket.sort(LATEST_FIRST));
+
+            return new Snapshot(groups, latestFirst, earliestGroupFirst, byFood);
+        }
+
+        // removed 를 빼고 added 를 더한 새 스냅샷 (정렬된 위치에 삽입하므로 다시 정렬하지 않음)
+        private Snapshot change(Entry removed, Entry added) {
+
+            Map<Long, Entry> groups = new HashMap<>(this.groups);
+            List<Entry> latestFirst = new ArrayList<>(this.latestFirst);
+            List<Entry> earliestGroupFirst = new ArrayList<>(this.earliestGroupFirst);
+            Map<String, List<Entry>> byFood = new HashMap<>(this.byFood);
+
+            if (removed != null) {
+                groups.remove(removed.groupId);
+                latestFirst.remove(Collections.binarySearch(latestFirst, removed, LATEST_FIRST));
+                earliestGroupFirst.remove(Collections.binarySearch(earliestGroupFirst, removed, EARLIEST_GROUP_FIRST));
+
+                List<Entry> bucket = new ArrayList<>(byFood.get(removed.food));
+                bucket.remove(Collections.binarySearch(bucket, removed, LATEST_FIRST));
+                if (bucket.isEmpty()) {
+                    byFood.remove(removed.food);
+                } else {
+                    byFood.put(removed.food, bucket);
+                }
+            }
+
+            if (added != null) {
+                groups.put(added.groupId, added);
+                insert(latestFirst, added, LATEST_FIRST);
+                insert(earliestGroupFirst, added, EARLIEST_GROUP_FIRST);
+
+                List<Entry> bucket = new ArrayList<>(byFood.getOrDefault(added.food, List.of()));
+                insert(bucket, added, LATEST_FIRST);
+                byFood.put(added.food, bucket);
+            }
+
+            return new Snapshot(groups, latestFirst, earliestGroupFirst, byFood);
+        }
+
+        // 조건에 맞는 모임만 남긴 새 스냅샷 (순서 유지)
+        private Snapshot filter(Predicate<Entry> keep) {
+
+            Map<Long, Entry> groups = new HashMap<>();
+            List<Entry> latestFirst = new ArrayList<>();
+            Map<String, List<Entry>> byFood = new HashMap<>();
+            for (Entry entry : this.latestFirst) {
+                if (keep.test(entry)) {
+                    groups.put(entry.groupId, entry);
+                    latestFirst.add(entry);
+                    byFood.computeIfAbsent(entry.food, k -> new ArrayList<>()).add(entry);
+                }
+            }
+
+            List<Entry> earliestGroupFirst = new ArrayList<>();
+            for (Entry entry : this.earliestGroupFirst) {
+                if (keep.test(entry)) {
+                    earliestGroupFirst.add(entry);
+                }
+            }
+
+            return new Snapshot(groups, latestFirst, earliestGroupFirst, byFood);
+        }
+
+        // 여러 메뉴의 목록을 최신 생성순으로 합침
+        private List<Entry> byFoods(List<String> foods) {
+
+            if (foods.size() == 1) {
+                return byFood.getOrDefault(foods.get(0), List.of());
+            }
+
+            List<Entry> merged = new ArrayList<>();
+            for (String food : new HashSet<>(foods)) {
+                merged.addAll(byFood.getOrDefault(food, List.of()));
+            }
+            merged.sort(LATEST_FIRST);
+            return merged;
+        }
+
+        private static void insert(List<Entry> entries, Entry entry, Comparator<Entry> order) {
+            entries.add(-Collections.binarySearch(entries, entry, order) - 1, entry);
+        }
+    }
+
+    private static class Entry {
+        private final Long groupId;
+        private final LocalDateTime groupDateTime;
+        private final LocalDateTime createdDate;
+        private final String food;
+        private final SearchedGroupDto group;
+
+        private Entry(SearchedGroupDto group) {
+            this.groupId = group.getGroupId();
+            this.groupDateTime = LocalDateTime.of(group.getDate(), group.getTime());
+            this.createdDate = group.getCreatedDate();
+            this.food = group.getFood();
+            this.group = group;
+        }
+
+        // 정렬 목록 탐색용 키
+        private Entry(Long groupId, LocalDateTime groupDateTime, LocalDateTime createdDate) {
+            this.groupId = groupId;
+            this.groupDateTime = groupDateTime;
+            this.createdDate = createdDate;
+            this.food = null;
+            this.group = null;
+        }
+
+        private boolean isBetween(LocalDateTime start, LocalDateTime end) {
+            return !groupDateTime.isBefore(start) && !groupDateTime.isAfter(end);
+        }
+    }
+
+}
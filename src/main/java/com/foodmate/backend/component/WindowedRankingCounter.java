@@ -0,0 +1,181 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.enums.RankingType;
+import com.foodmate.backend.enums.RankingWindow;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import com.foodmate.backend.repository.LikesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 기간별 (오늘, 최근 7 일, 최근 30 일) 랭킹
+ * 가장 긴 기간만큼의 일별 버킷을 링으로 들고 있다가 랭킹 조회 시 기간에 해당하는 버킷만 합쳐 상위 N 개를 계산
+ * 버킷은 날짜로 구분하므로 자정이 지나면 오래된 버킷은 새 날짜로 재사용되고, 비용은 전체 이력이 아닌 최근 30 일 활동량에 비례
+ * 계산한 상위 N 개는 카운터가 바뀌거나 날짜가 바뀔 때까지 재사용
+ *
+ * 모임 (MEETING, STORE, FOOD) 은 랭킹에 반영된 모임의 모임 일시, 좋아요 (LIKES) 는 좋아요 일시 기준
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WindowedRankingCounter {
+
+    static final int DAYS = RankingWindow.MONTH.getDays();
+
+    private final FoodGroupRepository foodGroupRepository;
+    private final LikesRepository likesRepository;
+
+    private final Bucket[] ring = new Bucket[DAYS];
+    private final Map<String, List<Map.Entry<Object, Long>>> topCache = new HashMap<>();
+    private volatile boolean loaded;
+
+    // 서버 시작 시 최근 30 일 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+
+        LocalDate today = LocalDate.now();
+        LocalDateTime from = today.minusDays(DAYS - 1).atStartOfDay();
+
+        Arrays.fill(ring, null);
+        topCache.clear();
+
+        List<Object[]> groups = foodGroupRepository.findRankedGroupsSince(from);
+        for (Object[] group : groups) {
+            addGroup((Long) group[0], (Long) group[1], (Long) group[2],
+                    ((LocalDateTime) group[3]).toLocalDate(), 1, today);
+        }
+
+        List<Object[]> likes = likesRepository.findLikedSince(from);
+        for (Object[] like : likes) {
+            add(RankingType.LIKES, like[0], ((LocalDateTime) like[1]).toLocalDate(), 1, today);
+        }
+
+        loaded = true;
+
+        log.info("WindowedRankingCounter loaded : {} groups, {} likes", groups.size(), likes.size());
+    }
+
+    // 자정 - 지난 날짜의 버킷 정리, 계산해 둔 상위 N 개 폐기
+    @Scheduled(cron = "0 0 0 * * *")
+    public synchronized void rollover() {
+
+        LocalDate oldest = LocalDate.now().minusDays(DAYS - 1);
+        for (int i = 0; i < DAYS; i++) {
+            if (ring[i] != null && ring[i].day.isBefore(oldest)) {
+                ring[i] = null;
+            }
+        }
+        topCache.clear();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // Scheduler, GroupService - 모임이 랭킹에 반영(+1) 되거나 반영된 모임이 삭제(-1) 될 때
+    public synchronized void addGroup(Long memberId, Long foodId, Long storeId, LocalDate day, long delta) {
+        addGroup(memberId, foodId, storeId, day, delta, LocalDate.now());
+    }
+
+    // MemberService - 좋아요(+1), 좋아요 취소(-1) 커밋 후
+    public synchronized void addLikes(Long memberId, LocalDate day, long delta) {
+        add(RankingType.LIKES, memberId, day, delta, LocalDate.now());
+    }
+
+    /**
+     * @return 기간 내 합계가 많은 순 상위 limit 개 [대상 키, 합계]
+     * 대상 키 - MEETING, LIKES : 회원 아이디, FOOD : 음식 아이디, STORE : 식당 아이디
+     */
+    public synchronized List<Map.Entry<Object, Long>> top(RankingType type, RankingWindow window, int limit) {
+
+        LocalDate today = LocalDate.now();
+        String cacheKey = type + ":" + window + ":" + limit + ":" + today;
+
+        List<Map.Entry<Object, Long>> cached = topCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 기간에 해당하는 버킷 합치기
+        LocalDate oldest = today.minusDays(window.getDays() - 1);
+        Map<Object, Long> merged = new HashMap<>();
+        for (Bucket bucket : ring) {
+            if (bucket == null || bucket.day.isBefore(oldest) || bucket.day.isAfter(today)) {
+                continue;
+            }
+            Map<Object, Long> counts = bucket.counts.get(type);
+            if (counts != null) {
+                counts.forEach((key, count) -> merged.merge(key, count, Long::sum));
+            }
+        }
+
+        // 크기 limit 의 최소 힙으로 상위 limit 개
+        PriorityQueue<Map.Entry<Object, Long>> heap = new PriorityQueue<>(Map.Entry.<Object, Long>comparingByValue());
+        for (Map.Entry<Object, Long> entry : merged.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+            } else if (entry.getValue() > heap.peek().getValue()) {
+                heap.poll();
+                heap.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+            }
+        }
+
+        List<Map.Entry<Object, Long>> result = new ArrayList<>(heap);
+        result.sort(Map.Entry.<Object, Long>comparingByValue().reversed());
+        result = Collections.unmodifiableList(result);
+
+        topCache.put(cacheKey, result);
+        return result;
+    }
+
+    private void addGroup(Long memberId, Long foodId, Long storeId, LocalDate day, long delta, LocalDate today) {
+        add(RankingType.MEETING, memberId, day, delta, today);
+        add(RankingType.FOOD, foodId, day, delta, today);
+        add(RankingType.STORE, storeId, day, delta, today);
+    }
+
+    private void add(RankingType type, Object key, LocalDate day, long delta, LocalDate today) {
+
+        // 링 밖의 날짜 (30 일보다 오래되었거나 미래) 는 어느 기간에도 포함되지 않음
+        if (key == null || day.isBefore(today.minusDays(DAYS - 1)) || day.isAfter(today)) {
+            return;
+        }
+
+        int index = (int) Math.floorMod(day.toEpochDay(), (long) DAYS);
+        if (ring[index] == null || !ring[index].day.equals(day)) {
+            ring[index] = new Bucket(day);
+        }
+
+        ring[index].counts.computeIfAbsent(type, t -> new HashMap<>()).merge(key, delta, Long::sum);
+        topCache.keySet().removeIf(cacheKey -> cacheKey.startsWith(type + ":"));
+    }
+
+    private static class Bucket {
+        private final LocalDate day;
+        private final Map<RankingType, Map<Object, Long>> counts = new EnumMap<>(RankingType.class);
+
+        private Bucket(LocalDate day) {
+            this.day = day;
+        }
+    }
+
+}
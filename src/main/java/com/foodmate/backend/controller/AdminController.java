@@ -0,0 +1,83 @@
+package com.foodmate.backend.controller;
+
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.enums.ExportFormat;
+import com.foodmate.backend.exception.ExportException;
+import com.foodmate.backend.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+// 관리자 전용 (SecurityConfig 에서 ADMIN 권한 확인)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin")
+public class AdminController {
+
+    private final ExportService exportService;
+
+    // 모임 내보내기 (updatedSince 이후 변경된 모임만, 없으면 전체)
+    @GetMapping("/export/groups")
+    public ResponseEntity<StreamingResponseBody> exportGroups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime updatedSince,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        ExportFormat exportFormat = getExportFormat(format);
+        return export("groups", exportFormat,
+                out -> exportService.exportGroups(updatedSince, exportFormat, out));
+    }
+
+    // 신청 내보내기 (updatedSince 이후 변경된 신청만, 없으면 전체)
+    @GetMapping("/export/enrollments")
+    public ResponseEntity<StreamingResponseBody> exportEnrollments(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime updatedSince,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        ExportFormat exportFormat = getExportFormat(format);
+        return export("enrollments", exportFormat,
+                out -> exportService.exportEnrollments(updatedSince, exportFormat, out));
+    }
+
+    // 채팅 메시지 내보내기 (updatedSince 이후 작성된 메시지만, 없으면 전체)
+    @GetMapping("/export/chat-messages")
+    public ResponseEntity<StreamingResponseBody> exportChatMessages(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime updatedSince,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        ExportFormat exportFormat = getExportFormat(format);
+        return export("chat-messages", exportFormat,
+                out -> exportService.exportChatMessages(updatedSince, exportFormat, out));
+    }
+
+    private ExportFormat getExportFormat(String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        if (exportFormat == null) {
+            throw new ExportException(Error.INVALID_EXPORT_FORMAT);
+        }
+        return exportFormat;
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format,
+                                                         StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+}
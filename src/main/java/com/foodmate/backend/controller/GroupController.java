@@ -21,6 +21,8 @@ import java.util.List;
 @RequestMapping("/group")
 public class GroupController {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final GroupService groupService;
 
     // 모임 생성
@@ -127,6 +129,16 @@ public class GroupController {
         return ResponseEntity.ok(groupService.getComments(groupId, pageable));
     }
 
+    // 커서 기반 대댓글 조회
+    @GetMapping("/{groupId}/comment/{commentId}/reply")
+    public ResponseEntity<CursorDto<ReplyDto.Response>> getReplies(@PathVariable Long groupId,
+                                                                   @PathVariable Long commentId,
+                                                                   @RequestParam(required = false) Long cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        validateCursorSize(size);
+        return ResponseEntity.ok(groupService.getReplies(groupId, commentId, cursor, size));
+    }
+
     // 검색 기능
     @GetMapping("/search")
     public ResponseEntity<Page<SearchedGroupDto>> searchByKeyword(@RequestParam String keyword,
@@ -184,10 +196,123 @@ public class GroupController {
         return ResponseEntity.ok(groupService.getNearbyGroupList(latitude, longitude, pageable));
     }
 
+    // 커서 기반 검색 기능
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorDto<SearchedGroupDto>> searchByKeywordWithCursor(@RequestParam String keyword,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "20") int size) {
+        validateCursorSize(size);
+        return ResponseEntity.ok(groupService.searchByKeywordWithCursor(keyword, cursor, size));
+    }
+
+    // 커서 기반 오늘 모임 조회
+    @GetMapping("/today/cursor")
+    public ResponseEntity<CursorDto<SearchedGroupDto>> getTodayGroupListWithCursor(@RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(defaultValue = "20") int size) {
+        validateCursorSize(size);
+        return ResponseEntity.ok(groupService.getTodayGroupListWithCursor(cursor, size));
+    }
+
+    // 커서 기반 전체 모임 조회
+    @GetMapping("/all/cursor")
+    public ResponseEntity<CursorDto<SearchedGroupDto>> getAllGroupListWithCursor(@RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "20") int size) {
+        validateCursorSize(size);
+        return ResponseEntity.ok(groupService.getAllGroupListWithCursor(cursor, size));
+    }
+
+    // 커서 기반 거리순 조회
+    @GetMapping("/search/distance/cursor")
+    public ResponseEntity<CursorDto<SearchedGroupDto>> searchByLocationWithCursor(@RequestParam String latitude,
+                                                                                  @RequestParam String longitude,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "20") int size) {
+        validateCursorSize(size);
+        return ResponseEntity.ok(groupService.searchByLocationWithCursor(latitude, longitude, cursor, size));
+    }
+
+    // 커서 기반 날짜별 조회
+    @GetMapping("/search/date/cursor")
+    public ResponseEntity<CursorDto<SearchedGroupDto>> searchByDateWithCursor(@RequestParam
+                                                                              @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate start,
+                                                                              @RequestParam
+                                                                              @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate end,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @RequestParam(defaultValue = "20") int size) {
+
+        if (start.isBefore(LocalDate.now()) || end.isBefore(start)) {
+            throw new GroupException(Error.INVALID_DATE_RANGE);
+        }
+        validateCursorSize(size);
+
+        return ResponseEntity.ok(groupService.searchByDateWithCursor(start, end, cursor, size));
+    }
+
+    // 커서 기반 메뉴별 조회
+    @GetMapping("/search/food/cursor")
+    public ResponseEntity<CursorDto<SearchedGroupDto>> searchByFoodWithCursor(@RequestParam List<String> foods,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @RequestParam(defaultValue = "20") int size) {
+        validateCursorSize(size);
+        return ResponseEntity.ok(groupService.searchByFoodWithCursor(foods, cursor, size));
+    }
+
+    // 커서 기반 내 근처 모임
+    @GetMapping("/near/cursor")
+    public ResponseEntity<CursorDto<NearbyGroupDto>> getNearbyGroupListWithCursor(@RequestParam String latitude,
+                                                                                  @RequestParam String longitude,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "20") int size) {
+        validateCursorSize(size);
+        return ResponseEntity.ok(groupService.getNearbyGroupListWithCursor(latitude, longitude, cursor, size));
+    }
+
+    // 복합 조건 검색 (커서 기반, 최신 생성순)
+    @GetMapping("/search/combined")
+    public ResponseEntity<CursorDto<SearchedGroupDto>> searchGroups(@RequestParam(required = false) String keyword,
+                                                                    @RequestParam(required = false) List<String> foods,
+                                                                    @RequestParam(required = false)
+                                                                    @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate start,
+                                                                    @RequestParam(required = false)
+                                                                    @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate end,
+                                                                    @RequestParam(required = false) String latitude,
+                                                                    @RequestParam(required = false) String longitude,
+                                                                    @RequestParam(required = false) Double radius,
+                                                                    @RequestParam(defaultValue = "false") boolean available,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size) {
+
+        // 기간은 시작일, 종료일을 함께 입력
+        if ((start == null) != (end == null)
+                || (start != null && (start.isBefore(LocalDate.now()) || end.isBefore(start)))) {
+            throw new GroupException(Error.INVALID_DATE_RANGE);
+        }
+        validateCursorSize(size);
+
+        GroupDto.SearchRequest request = GroupDto.SearchRequest.builder()
+                .keyword(keyword)
+                .foods(foods)
+                .start(start)
+                .end(end)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radius(radius)
+                .available(available)
+                .build();
+
+        return ResponseEntity.ok(groupService.searchGroups(request, cursor, size));
+    }
+
     // 로그인한 사용자가 참여한 모임 조회
     @GetMapping("/accepted")
     public ResponseEntity<GroupDto.AcceptedGroup> getAcceptedGroupList(Authentication authentication) {
         return ResponseEntity.ok(groupService.getAcceptedGroupList(authentication));
     }
 
+    private void validateCursorSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new GroupException(Error.INVALID_CURSOR_SIZE);
+        }
+    }
+
 }
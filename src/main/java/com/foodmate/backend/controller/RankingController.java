@@ -1,44 +1,73 @@
 package com.foodmate.backend.controller;
 
-import com.foodmate.backend.dto.RankingDto;
-import com.foodmate.backend.service.RankingService;
+import com.foodmate.backend.component.RankingSnapshot;
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.enums.RankingType;
+import com.foodmate.backend.enums.RankingWindow;
+import com.foodmate.backend.exception.RankingException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
+/**
+ * 랭킹 응답은 미리 직렬화해 둔 스냅샷 그대로 반환
+ * If-None-Match 가 스냅샷의 ETag 와 같으면 Spring MVC 가 본문 없이 304 로 응답
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/ranking")
 public class RankingController {
 
-    private final RankingService rankingService;
+    private final RankingSnapshot rankingSnapshot;
 
-    // 좋아요 랭킹
+    // 좋아요 랭킹 (window - all, day, week, month)
     @GetMapping("/likes")
-    public ResponseEntity<List<RankingDto.Likes>> getLikesRanking() {
-        return ResponseEntity.ok(rankingService.getLikesRanking());
+    public ResponseEntity<byte[]> getLikesRanking(
+            @RequestParam(defaultValue = "all") String window) {
+        return getRanking(RankingType.LIKES, window);
     }
 
     // 모임왕 랭킹
     @GetMapping("/meeting")
-    public ResponseEntity<List<RankingDto.Meeting>> getMeetingRanking() {
-        return ResponseEntity.ok(rankingService.getMeetingRanking());
+    public ResponseEntity<byte[]> getMeetingRanking(
+            @RequestParam(defaultValue = "all") String window) {
+        return getRanking(RankingType.MEETING, window);
     }
 
     // 많이찾는 식당 랭킹
     @GetMapping("/store")
-    public ResponseEntity<List<RankingDto.Store>> getStoreRanking() {
-        return ResponseEntity.ok(rankingService.getStoreRanking());
+    public ResponseEntity<byte[]> getStoreRanking(
+            @RequestParam(defaultValue = "all") String window) {
+        return getRanking(RankingType.STORE, window);
     }
 
     // 음식 카테고리 랭킹
     @GetMapping("/food")
-    public ResponseEntity<List<RankingDto.Food>> getFoodRanking() {
-        return ResponseEntity.ok(rankingService.getFoodRanking());
+    public ResponseEntity<byte[]> getFoodRanking(
+            @RequestParam(defaultValue = "all") String window) {
+        return getRanking(RankingType.FOOD, window);
+    }
+
+    private ResponseEntity<byte[]> getRanking(RankingType type, String window) {
+        RankingSnapshot.Snapshot snapshot = rankingSnapshot.get(type, getRankingWindow(window));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getBody());
+    }
+
+    private RankingWindow getRankingWindow(String window) {
+        RankingWindow rankingWindow = RankingWindow.fromString(window);
+        if (rankingWindow == null) {
+            throw new RankingException(Error.INVALID_RANKING_WINDOW);
+        }
+        return rankingWindow;
     }
 
 }
@@ -0,0 +1,34 @@
+package com.foodmate.backend.controller;
+
+import com.foodmate.backend.dto.SearchedGroupDto;
+import com.foodmate.backend.dto.StoreDto;
+import com.foodmate.backend.service.StoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/store")
+public class StoreController {
+
+    private final StoreService storeService;
+
+    // 식당 정보
+    @GetMapping("/{storeId}")
+    public ResponseEntity<StoreDto.Response> getStore(@PathVariable Long storeId) {
+        return ResponseEntity.ok(storeService.getStore(storeId));
+    }
+
+    // 식당의 모임 목록
+    @GetMapping("/{storeId}/groups")
+    public ResponseEntity<Page<SearchedGroupDto>> getStoreGroups(@PathVariable Long storeId, Pageable pageable) {
+        return ResponseEntity.ok(storeService.getStoreGroups(storeId, pageable));
+    }
+
+}
@@ -35,8 +35,12 @@ public class CommentDto {
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
         private LocalDateTime updatedDate;
         private List<ReplyDto.Response> replies;
+        private long replyCount;
+        private String nextReplyCursor;
 
-        public static Response createCommentResponse(Comment comment, List<ReplyDto.Response> replies) {
+        // replies 는 대댓글 앞부분, 나머지는 nextReplyCursor 로 이어서 조회
+        public static Response createCommentResponse(Comment comment, List<ReplyDto.Response> replies,
+                                                     long replyCount) {
             return Response.builder()
                     .commentId(comment.getId())
                     .memberId(comment.getMember().getId())
@@ -46,6 +50,9 @@ public class CommentDto {
                     .createdDate(comment.getCreatedDate())
                     .updatedDate(comment.getUpdatedDate())
                     .replies(replies)
+                    .replyCount(replyCount)
+                    .nextReplyCursor(replies.isEmpty() || replies.size() >= replyCount ? null
+                            : String.valueOf(replies.get(replies.size() - 1).getReplyId()))
                     .build();
         }
     }
@@ -0,0 +1,17 @@
+package com.foodmate.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CursorDto<T> {
+
+    private List<T> content;
+    // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+
+}
@@ -0,0 +1,126 @@
+package com.foodmate.backend.dto;
+
+import com.foodmate.backend.enums.EnrollmentStatus;
+import lombok.Getter;
+import org.locationtech.jts.geom.Point;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 내보내기 한 행 (리포지토리 컬럼 프로젝션)
+ * 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않음
+ */
+public class ExportDto {
+
+    // CSV 한 줄의 값 (COLUMNS 순서)
+    public interface Row {
+        Object[] values();
+    }
+
+    @Getter
+    public static class Group implements Row {
+
+        public static final String[] COLUMNS = {"id", "memberId", "food", "title", "name", "groupDateTime",
+                "maximum", "attendance", "storeName", "storeAddress", "latitude", "longitude",
+                "createdDate", "deletedDate", "updatedDate"};
+
+        private final Long id;
+        private final Long memberId;
+        private final String food;
+        private final String title;
+        private final String name;
+        private final LocalDateTime groupDateTime;
+        private final int maximum;
+        private final int attendance;
+        private final String storeName;
+        private final String storeAddress;
+        private final Double latitude;
+        private final Double longitude;
+        private final LocalDateTime createdDate;
+        private final LocalDateTime deletedDate;
+        private final LocalDateTime updatedDate;
+
+        public Group(Long id, Long memberId, String food, String title, String name, LocalDateTime groupDateTime,
+                     int maximum, int attendance, String storeName, String storeAddress, Point location,
+                     LocalDateTime createdDate, LocalDateTime deletedDate, LocalDateTime updatedDate) {
+            this.id = id;
+            this.memberId = memberId;
+            this.food = food;
+            this.title = title;
+            this.name = name;
+            this.groupDateTime = groupDateTime;
+            this.maximum = maximum;
+            this.attendance = attendance;
+            this.storeName = storeName;
+            this.storeAddress = storeAddress;
+            this.latitude = location == null ? null : location.getY();
+            this.longitude = location == null ? null : location.getX();
+            this.createdDate = createdDate;
+            this.deletedDate = deletedDate;
+            this.updatedDate = updatedDate;
+        }
+
+        @Override
+        public Object[] values() {
+            return new Object[]{id, memberId, food, title, name, groupDateTime, maximum, attendance,
+                    storeName, storeAddress, latitude, longitude, createdDate, deletedDate, updatedDate};
+        }
+    }
+
+    @Getter
+    public static class Enrollment implements Row {
+
+        public static final String[] COLUMNS = {"id", "memberId", "groupId", "status",
+                "enrollDate", "decisionDate", "updatedDate"};
+
+        private final Long id;
+        private final Long memberId;
+        private final Long groupId;
+        private final EnrollmentStatus status;
+        private final LocalDateTime enrollDate;
+        private final LocalDateTime decisionDate;
+        private final LocalDateTime updatedDate;
+
+        public Enrollment(Long id, Long memberId, Long groupId, EnrollmentStatus status,
+                          LocalDateTime enrollDate, LocalDateTime decisionDate, LocalDateTime updatedDate) {
+            this.id = id;
+            this.memberId = memberId;
+            this.groupId = groupId;
+            this.status = status;
+            this.enrollDate = enrollDate;
+            this.decisionDate = decisionDate;
+            this.updatedDate = updatedDate;
+        }
+
+        @Override
+        public Object[] values() {
+            return new Object[]{id, memberId, groupId, status, enrollDate, decisionDate, updatedDate};
+        }
+    }
+
+    @Getter
+    public static class ChatMessage implements Row {
+
+        public static final String[] COLUMNS = {"id", "chatRoomId", "memberId", "content", "createDateTime"};
+
+        private final Long id;
+        private final Long chatRoomId;
+        private final Long memberId;
+        private final String content;
+        private final LocalDateTime createDateTime;
+
+        public ChatMessage(Long id, Long chatRoomId, Long memberId, String content, LocalDateTime createDateTime) {
+            this.id = id;
+            this.chatRoomId = chatRoomId;
+            this.memberId = memberId;
+            this.content = content;
+            this.createDateTime = createDateTime;
+        }
+
+        @Override
+        public Object[] values() {
+            return new Object[]{id, chatRoomId, memberId, content, createDateTime};
+        }
+    }
+
+}
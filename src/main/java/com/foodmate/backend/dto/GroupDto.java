@@ -54,6 +54,7 @@ public class GroupDto {
         private LocalTime time;
         private int maximum;
         private int current;
+        private Long storeId;
         private String storeName;
         private String storeAddress;
         private String latitude;
@@ -76,6 +77,7 @@ public class GroupDto {
                     .time(foodGroup.getGroupDateTime().toLocalTime())
                     .maximum(foodGroup.getMaximum())
                     .current(foodGroup.getAttendance())
+                    .storeId(foodGroup.getStore() == null ? null : foodGroup.getStore().getId())
                     .storeName(foodGroup.getStoreName())
                     .storeAddress(foodGroup.getStoreAddress())
                     .latitude(Double.toString(foodGroup.getLocation().getY()))
@@ -86,6 +88,21 @@ public class GroupDto {
         }
     }
 
+    // 복합 조건 검색 요청 (모든 조건은 선택)
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class SearchRequest {
+        private String keyword;
+        private List<String> foods;
+        private LocalDate start;
+        private LocalDate end;
+        private String latitude;
+        private String longitude;
+        private Double radius;
+        private boolean available;
+    }
+
     @Getter
     public static class AcceptedGroup {
         private List<Long> enrollmentList;
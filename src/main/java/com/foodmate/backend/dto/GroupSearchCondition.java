@@ -0,0 +1,38 @@
+package com.foodmate.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 복합 조건 검색 조건 (GroupDto.SearchRequest 를 검증, 기본값 적용한 결과)
+ * 검색어가 없으면 null, 메뉴가 없으면 빈 목록, 위치가 없으면 위도, 경도가 null
+ */
+@Getter
+@Builder
+public class GroupSearchCondition {
+
+    private final String keyword;
+    private final List<String> foods;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final Double latitude;
+    private final Double longitude;
+    private final double radius;
+    private final boolean available;
+
+    public boolean hasKeyword() {
+        return keyword != null;
+    }
+
+    public boolean hasFoods() {
+        return !foods.isEmpty();
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+}
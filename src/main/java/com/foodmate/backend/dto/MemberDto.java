@@ -112,26 +112,15 @@ public class MemberDto {
         List<String> food;
         boolean status;
 
-        public static MemberDto.otherMemberInfoResponse createMemberDtoResponse(Member member, List<String> food, boolean status){
+        // MemberProfileCache 의 프로필 + 좋아요 비트맵의 좋아요 수, 여부
+        public static MemberDto.otherMemberInfoResponse createMemberDtoResponse(MemberProfileDto.Profile profile, String image, long likes, boolean status){
             return otherMemberInfoResponse.builder()
-                    .memberId(member.getId())
-                    .email(member.getEmail())
-                    .nickname(member.getNickname())
-                    .image(member.getImage())
-                    .likes(member.getLikes())
-                    .food(food)
-                    .status(status)
-                    .build();
-        }
-
-        public static MemberDto.otherMemberInfoResponse createMemberDtoResponse(Member member,  List<String> food, String defaultImage, boolean status){
-            return otherMemberInfoResponse.builder()
-                    .memberId(member.getId())
-                    .email(member.getEmail())
-                    .nickname(member.getNickname())
-                    .image(defaultImage)
-                    .likes(member.getLikes())
-                    .food(food)
+                    .memberId(profile.getMemberId())
+                    .email(profile.getEmail())
+                    .nickname(profile.getNickname())
+                    .image(image)
+                    .likes(likes)
+                    .food(profile.getFood())
                     .status(status)
                     .build();
         }
@@ -0,0 +1,73 @@
+package com.foodmate.backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 다른 회원 프로필 조회용 읽기 모델 (MemberProfileCache 에 저장)
+ * 좋아요 여부, 좋아요 수는 조회하는 회원마다 다르고 자주 바뀌므로 포함하지 않음 (LikesBitmapCache 에서)
+ */
+public class MemberProfileDto {
+
+    // MemberRepository 프로필 조회 컬럼 프로젝션 (회원 + 선호음식 한 개, 선호음식이 없으면 food 가 null 인 한 행)
+    @Getter
+    public static class Row {
+
+        private final Long memberId;
+        private final String email;
+        private final String nickname;
+        private final String image;
+        private final LocalDateTime isDeleted;
+        private final String food;
+
+        public Row(Long memberId, String email, String nickname, String image, LocalDateTime isDeleted, String food) {
+            this.memberId = memberId;
+            this.email = email;
+            this.nickname = nickname;
+            this.image = image;
+            this.isDeleted = isDeleted;
+            this.food = food;
+        }
+    }
+
+    // 변경 불가
+    @Getter
+    public static class Profile {
+
+        private final Long memberId;
+        private final String email;
+        private final String nickname;
+        private final String image;
+        private final boolean deleted;
+        private final List<String> food;
+
+        private Profile(Row row, List<String> food) {
+            this.memberId = row.getMemberId();
+            this.email = row.getEmail();
+            this.nickname = row.getNickname();
+            this.image = row.getImage();
+            this.deleted = row.getIsDeleted() != null;
+            this.food = Collections.unmodifiableList(food);
+        }
+
+        // 한 회원의 행들을 프로필 하나로 (행이 없으면 null)
+        public static Profile createProfile(List<Row> rows) {
+            if (rows.isEmpty()) {
+                return null;
+            }
+            Long memberId = rows.get(0).getMemberId();
+            List<String> food = new ArrayList<>();
+            for (Row row : rows) {
+                if (row.getMemberId().equals(memberId) && row.getFood() != null) {
+                    food.add(row.getFood());
+                }
+            }
+            return new Profile(rows.get(0), food);
+        }
+    }
+
+}
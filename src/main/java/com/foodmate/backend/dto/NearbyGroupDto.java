@@ -3,6 +3,7 @@ package com.foodmate.backend.dto;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.foodmate.backend.entity.FoodGroup;
 import lombok.Getter;
+import org.locationtech.jts.geom.Geometry;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,22 +33,33 @@ public class NearbyGroupDto {
     private LocalDateTime createdDate;
 
     public NearbyGroupDto(FoodGroup foodGroup) {
-        this.groupId = foodGroup.getId();
-        this.memberId = foodGroup.getMember().getId();
-        this.nickname = foodGroup.getMember().getNickname();
-        this.image = foodGroup.getMember().getImage();
-        this.title = foodGroup.getTitle();
-        this.name = foodGroup.getName();
-        this.food = foodGroup.getFood().getType();
-        this.date = foodGroup.getGroupDateTime().toLocalDate();
-        this.time = foodGroup.getGroupDateTime().toLocalTime();
-        this.maximum = foodGroup.getMaximum();
-        this.current = foodGroup.getAttendance();
-        this.storeName = foodGroup.getStoreName();
-        this.storeAddress = foodGroup.getStoreAddress();
-        this.latitude = String.valueOf(foodGroup.getLocation().getY());
-        this.longitude = String.valueOf(foodGroup.getLocation().getX());
-        this.createdDate = foodGroup.getCreatedDate();
+        this(foodGroup.getId(), foodGroup.getMember().getId(), foodGroup.getMember().getNickname(),
+                foodGroup.getMember().getImage(), foodGroup.getTitle(), foodGroup.getName(),
+                foodGroup.getFood().getType(), foodGroup.getGroupDateTime(), foodGroup.getMaximum(),
+                foodGroup.getAttendance(), foodGroup.getStoreName(), foodGroup.getStoreAddress(),
+                foodGroup.getLocation(), foodGroup.getCreatedDate());
+    }
+
+    // FoodGroupRepository 목록 조회 컬럼 프로젝션 (공간 타입 컬럼은 Geometry 로 조회됨)
+    public NearbyGroupDto(Long groupId, Long memberId, String nickname, String image, String title,
+                          String name, String food, LocalDateTime groupDateTime, int maximum, int current,
+                          String storeName, String storeAddress, Geometry location, LocalDateTime createdDate) {
+        this.groupId = groupId;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.image = image;
+        this.title = title;
+        this.name = name;
+        this.food = food;
+        this.date = groupDateTime.toLocalDate();
+        this.time = groupDateTime.toLocalTime();
+        this.maximum = maximum;
+        this.current = current;
+        this.storeName = storeName;
+        this.storeAddress = storeAddress;
+        this.latitude = String.valueOf(location.getCoordinate().getY());
+        this.longitude = String.valueOf(location.getCoordinate().getX());
+        this.createdDate = createdDate;
     }
 
 }
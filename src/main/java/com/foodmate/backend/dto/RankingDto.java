@@ -26,6 +26,7 @@ public class RankingDto {
     @Getter
     @Builder
     public static class Store {
+        private Long storeId;
         private String storeName;
         private String address;
         private long count;
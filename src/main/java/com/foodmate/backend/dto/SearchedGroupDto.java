@@ -30,20 +30,31 @@ public class SearchedGroupDto {
     private LocalDateTime createdDate;
 
     public SearchedGroupDto(FoodGroup foodGroup) {
-        this.groupId = foodGroup.getId();
-        this.memberId = foodGroup.getMember().getId();
-        this.nickname = foodGroup.getMember().getNickname();
-        this.image = foodGroup.getMember().getImage();
-        this.title = foodGroup.getTitle();
-        this.name = foodGroup.getName();
-        this.food = foodGroup.getFood().getType();
-        this.date = foodGroup.getGroupDateTime().toLocalDate();
-        this.time = foodGroup.getGroupDateTime().toLocalTime();
-        this.maximum = foodGroup.getMaximum();
-        this.current = foodGroup.getAttendance();
-        this.storeName = foodGroup.getStoreName();
-        this.storeAddress = foodGroup.getStoreAddress();
-        this.createdDate = foodGroup.getCreatedDate();
+        this(foodGroup.getId(), foodGroup.getMember().getId(), foodGroup.getMember().getNickname(),
+                foodGroup.getMember().getImage(), foodGroup.getTitle(), foodGroup.getName(),
+                foodGroup.getFood().getType(), foodGroup.getGroupDateTime(), foodGroup.getMaximum(),
+                foodGroup.getAttendance(), foodGroup.getStoreName(), foodGroup.getStoreAddress(),
+                foodGroup.getCreatedDate());
+    }
+
+    // FoodGroupRepository 목록 조회 컬럼 프로젝션
+    public SearchedGroupDto(Long groupId, Long memberId, String nickname, String image, String title,
+                            String name, String food, LocalDateTime groupDateTime, int maximum, int current,
+                            String storeName, String storeAddress, LocalDateTime createdDate) {
+        this.groupId = groupId;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.image = image;
+        this.title = title;
+        this.name = name;
+        this.food = food;
+        this.date = groupDateTime.toLocalDate();
+        this.time = groupDateTime.toLocalTime();
+        this.maximum = maximum;
+        this.current = current;
+        this.storeName = storeName;
+        this.storeAddress = storeAddress;
+        this.createdDate = createdDate;
     }
 
 }
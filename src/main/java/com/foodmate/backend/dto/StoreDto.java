@@ -0,0 +1,32 @@
+package com.foodmate.backend.dto;
+
+import com.foodmate.backend.entity.Store;
+import lombok.Builder;
+import lombok.Getter;
+
+public class StoreDto {
+
+    @Getter
+    @Builder
+    public static class Response {
+        private Long storeId;
+        private String name;
+        private String address;
+        private String latitude;
+        private String longitude;
+        // 랭킹에 반영된 (지난) 모임 수
+        private long groupCount;
+
+        public static Response createStoreResponse(Store store, long groupCount) {
+            return Response.builder()
+                    .storeId(store.getId())
+                    .name(store.getName())
+                    .address(store.getAddress())
+                    .latitude(store.getLocation() == null ? null : Double.toString(store.getLocation().getY()))
+                    .longitude(store.getLocation() == null ? null : Double.toString(store.getLocation().getX()))
+                    .groupCount(groupCount)
+                    .build();
+        }
+    }
+
+}
@@ -37,6 +37,10 @@ public class Enrollment {
     @LastModifiedDate
     private LocalDateTime decisionDate;
 
+    // 마지막 변경 일시 (DB 에서 갱신, 증분 내보내기용) - 커넥션 시간대를 애플리케이션 시간대로 고정해서 LocalDateTime.now() 와 같은 기준
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime updatedDate;
+
     public void updateEnrollmentStatus(EnrollmentStatus status) {
         this.status = status;
     }
@@ -41,18 +41,34 @@ public class FoodGroup {
 
     private int attendance;
 
+    // 모임 작성자가 입력한 식당 이름, 주소 (화면 표시용)
     private String storeName;
 
     private String storeAddress;
 
+    // 같은 식당의 모임을 묶는 식당 (랭킹, 식당별 모임 조회는 이 아이디로 집계, 주소가 없으면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Store store;
+
     @Column(columnDefinition = "POINT")
     private Point location;
 
+    // 위치 기반 검색 시 후보를 먼저 거르기 위한 격자 셀 번호 (GeoCell)
+    private Long geocell;
+
     @CreatedDate
     private LocalDateTime createdDate;
 
     private LocalDateTime isDeleted;
 
+    // 랭킹에 반영한 일시 (Scheduler, GroupService 에서 조건부 UPDATE 로만 변경)
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime isRanked;
+
+    // 마지막 변경 일시 (DB 에서 갱신, 증분 내보내기용) - 커넥션 시간대를 애플리케이션 시간대로 고정해서 LocalDateTime.now() 와 같은 기준
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime updatedDate;
+
     public void updateEnrollmentAttendance(int attendance) {
         this.attendance = attendance;
     }
@@ -4,9 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
+@EntityListeners(AuditingEntityListener.class)
 @Entity
 @Getter
 @AllArgsConstructor
@@ -23,6 +27,9 @@ public class Likes {
     @ManyToOne
     private Member liker;
 
+    @CreatedDate
+    private LocalDateTime createdDate;
+
     public static Likes makeLikes(Member liked, Member liker){
         return Likes.builder()
                 .liked(liked)
@@ -0,0 +1,76 @@
+package com.foodmate.backend.entity;
+
+import com.foodmate.backend.enums.MailOutboxStatus;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 메일 발송 대기열 (MailComponents 에서 저장, MailOutboxSender 에서 발송)
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Entity
+public class MailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    private MailOutboxStatus status;
+
+    private int attempts;
+
+    // PENDING - 다음 발송 시각, SENDING - 이 시각까지 끝나지 않으면 다시 발송 대상
+    private LocalDateTime nextAttemptAt;
+
+    // 발송 대상으로 가져간 작업 구분
+    private String claimToken;
+
+    private String lastError;
+
+    private LocalDateTime createdDate;
+
+    private LocalDateTime sentDate;
+
+    public static MailOutbox createMailOutbox(String recipient, String subject, String text, LocalDateTime now) {
+        return MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .text(text)
+                .status(MailOutboxStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdDate(now)
+                .build();
+    }
+
+    /**
+     * 발송 실패 - 최대 횟수 전에는 backoff 후 재시도, 넘으면 DEAD
+     */
+    public void fail(String error, LocalDateTime now, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        this.claimToken = null;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error : error.substring(0, MAX_ERROR_LENGTH);
+
+        if (attempts >= maxAttempts) {
+            this.status = MailOutboxStatus.DEAD;
+            return;
+        }
+        this.status = MailOutboxStatus.PENDING;
+        this.nextAttemptAt = now.plus(backoff);
+    }
+
+}
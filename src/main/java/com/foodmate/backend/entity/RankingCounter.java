@@ -0,0 +1,31 @@
+package com.foodmate.backend.entity;
+
+import com.foodmate.backend.enums.RankingType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+// 랭킹 대상별 완료된 모임 수 (모임 완료 시 증가, 완료된 모임 삭제 시 감소)
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RankingCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private RankingType type;
+
+    // MEETING - 회원 아이디, FOOD - 음식 아이디, STORE - 식당 아이디
+    private Long targetId;
+
+    private long total;
+
+}
@@ -0,0 +1,39 @@
+package com.foodmate.backend.entity;
+
+import lombok.*;
+import org.locationtech.jts.geom.Point;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 식당 - 정규화한 주소가 같고 가까운 위치의 모임은 같은 식당으로 묶음 (StoreService)
+@EntityListeners(AuditingEntityListener.class)
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@Entity
+public class Store {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 처음 등록된 모임의 식당 이름, 주소
+    private String name;
+
+    private String address;
+
+    // StoreAddress.normalize 결과 (같은 식당 찾기용)
+    private String normalizedAddress;
+
+    @Column(columnDefinition = "POINT")
+    private Point location;
+
+    @CreatedDate
+    private LocalDateTime createdDate;
+
+}
@@ -20,6 +20,7 @@ public enum Error {
     EMAIL_AUTH_FAILED("이메일 인증이 되지 않은 상태입니다.", HttpStatus.UNAUTHORIZED),
     USER_NOT_GENERAL("일반 로그인 사용자가 아닙니다.", HttpStatus.FORBIDDEN),
     USER_NOT_KAKAO("카카오 로그인 사용자가 아닙니다.", HttpStatus.FORBIDDEN),
+    PASSWORD_HASHING_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // FoodException
     FOOD_NOT_FOUND("입력한 음식은 DB에 존재하지 않습니다.", HttpStatus.BAD_REQUEST),
@@ -31,6 +32,9 @@ public enum Error {
     NO_MODIFY_PERMISSION_GROUP("해당 모임을 수정할 권한이 없습니다.", HttpStatus.FORBIDDEN),
     NO_DELETE_PERMISSION_GROUP("해당 모임을 삭제할 권한이 없습니다.", HttpStatus.FORBIDDEN),
     INVALID_DATE_RANGE("검색 시작일 혹은 종료일 정보가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("커서 정보가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR_SIZE("한 번에 조회 가능한 모임 수는 1 ~ 100 개 입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_SEARCH_LOCATION("위치 검색은 위도, 경도와 1 ~ 20000m 사이의 반경이 필요합니다.", HttpStatus.BAD_REQUEST),
 
     // ChatException
     CHATROOM_NOT_FOUND("채팅방이 존재하지 않습니다.", HttpStatus.NOT_FOUND),
@@ -43,6 +47,7 @@ public enum Error {
     GROUP_FULL("해당 모임의 정원이 다 찼습니다.", HttpStatus.BAD_REQUEST),
     REQUEST_NOT_FOUND("입력한 요청이 존재하지 않습니다.", HttpStatus.NOT_FOUND),
     ENROLLMENT_CANCEL_NOT_STATUS("해당 신청은 취소가능한 상태가 아닙니다.", HttpStatus.ACCEPTED),
+    ENROLLMENT_ACCEPT_NOT_STATUS("해당 신청은 수락가능한 상태가 아닙니다.", HttpStatus.BAD_REQUEST),
 
     // CommentException
     COMMENT_NOT_FOUND("해당 아이디의 댓글은 존재하지 않습니다.", HttpStatus.NOT_FOUND),
@@ -63,7 +68,16 @@ public enum Error {
 
     // WebSocketException
     MISSING_SESSION_ATTRIBUTE("세션 속성이 없습니다. 연결에 필요한 정보가 없습니다.", HttpStatus.BAD_REQUEST),
-    MISSING_DESTINATION("웹소켓 요청에 목적지(destination) 정보가 비어 있습니다.", HttpStatus.BAD_REQUEST);
+    MISSING_DESTINATION("웹소켓 요청에 목적지(destination) 정보가 비어 있습니다.", HttpStatus.BAD_REQUEST),
+
+    // StoreException
+    STORE_NOT_FOUND("해당 아이디의 식당은 존재하지 않습니다.", HttpStatus.NOT_FOUND),
+
+    // RankingException
+    INVALID_RANKING_WINDOW("랭킹 기간은 all, day, week, month 중 하나입니다.", HttpStatus.BAD_REQUEST),
+
+    // ExportException
+    INVALID_EXPORT_FORMAT("내보내기 형식은 ndjson, csv 중 하나입니다.", HttpStatus.BAD_REQUEST);
 
     private final String message;
     private final HttpStatus httpStatus;
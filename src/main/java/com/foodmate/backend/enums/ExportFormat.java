@@ -0,0 +1,26 @@
+package com.foodmate.backend.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), ".ndjson"),   // 한 줄에 JSON 하나
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), ".csv");                    // 첫 줄은 컬럼명
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static ExportFormat fromString(String text) {
+        for (ExportFormat format : ExportFormat.values()) {
+            if (format.toString().equalsIgnoreCase(text)) {
+                return format;
+            }
+        }
+        return null; // 일치하는 열거형 값이 없을 경우 null 반환
+    }
+}
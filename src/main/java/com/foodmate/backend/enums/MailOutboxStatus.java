@@ -0,0 +1,8 @@
+package com.foodmate.backend.enums;
+
+public enum MailOutboxStatus {
+    PENDING,    // 발송 대기 (실패 후 재시도 대기 포함)
+    SENDING,    // 발송 중 (정해진 시간 안에 끝나지 않으면 다시 발송 대상)
+    SENT,       // 발송 완료
+    DEAD        // 재시도 횟수 초과
+}
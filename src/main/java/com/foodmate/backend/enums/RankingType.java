@@ -0,0 +1,8 @@
+package com.foodmate.backend.enums;
+
+public enum RankingType {
+    MEETING,    // 모임왕 (모임 생성자)
+    STORE,      // 많이찾는 식당
+    FOOD,       // 음식 카테고리
+    LIKES       // 좋아요 (기간별 랭킹에서만 사용, 전체 기간은 LikesLeaderboard)
+}
@@ -0,0 +1,24 @@
+package com.foodmate.backend.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RankingWindow {
+    ALL(0),       // 전체 기간
+    DAY(1),       // 오늘
+    WEEK(7),      // 오늘 포함 최근 7 일
+    MONTH(30);    // 오늘 포함 최근 30 일
+
+    private final int days;
+
+    public static RankingWindow fromString(String text) {
+        for (RankingWindow window : RankingWindow.values()) {
+            if (window.toString().equalsIgnoreCase(text)) {
+                return window;
+            }
+        }
+        return null; // 일치하는 열거형 값이 없을 경우 null 반환
+    }
+}
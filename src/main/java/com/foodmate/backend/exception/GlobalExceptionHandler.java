@@ -59,6 +59,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(e.getHttpStatus()).body(e.getMessage());
     }
 
+    @ExceptionHandler(StoreException.class)
+    public ResponseEntity<String> handleStoreException(StoreException e) {
+        log.error("StoreException", e);
+        return ResponseEntity.status(e.getHttpStatus()).body(e.getMessage());
+    }
+
+    @ExceptionHandler(RankingException.class)
+    public ResponseEntity<String> handleRankingException(RankingException e) {
+        log.error("RankingException", e);
+        return ResponseEntity.status(e.getHttpStatus()).body(e.getMessage());
+    }
+
+    @ExceptionHandler(ExportException.class)
+    public ResponseEntity<String> handleExportException(ExportException e) {
+        log.error("ExportException", e);
+        return ResponseEntity.status(e.getHttpStatus()).body(e.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<String> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
         log.error("MethodArgumentNotValidException", e);
@@ -1,13 +1,20 @@
 package com.foodmate.backend.repository;
 
+import com.foodmate.backend.dto.ExportDto;
 import com.foodmate.backend.entity.ChatMessage;
 import com.foodmate.backend.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
@@ -21,4 +28,13 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     // 해당 채팅방의 모든 데이터 삭제
     void deleteAllByChatRoom(ChatRoom chatRoom);
 
+    // ExportService - 작성 일시 이후 메시지 내보내기 (메시지는 수정되지 않으므로 작성 일시 기준)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.foodmate.backend.dto.ExportDto$ChatMessage(" +
+            "cm.id, cm.chatRoom.id, cm.member.id, cm.content, cm.createDateTime) " +
+            "FROM ChatMessage cm " +
+            "WHERE cm.createDateTime >= :createdSince " +
+            "ORDER BY cm.createDateTime ASC, cm.id ASC")
+    Stream<ExportDto.ChatMessage> streamForExport(LocalDateTime createdSince);
+
 }
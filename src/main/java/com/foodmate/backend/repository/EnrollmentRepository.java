@@ -1,6 +1,7 @@
 package com.foodmate.backend.repository;
 
 import com.foodmate.backend.dto.EnrollmentDto;
+import com.foodmate.backend.dto.ExportDto;
 import com.foodmate.backend.entity.Enrollment;
 import com.foodmate.backend.entity.FoodGroup;
 import com.foodmate.backend.entity.Member;
@@ -10,12 +11,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
@@ -25,6 +31,13 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     @Query("UPDATE Enrollment e SET e.status = :status WHERE e.foodGroup.id = :groupId")
     void updateStatusByGroupId(Long groupId, EnrollmentStatus status);
 
+    // 신청 상태가 currentStatus 일 때만 변경 (동시에 같은 신청을 처리해도 한 번만 반영)
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.status = :status, e.decisionDate = :decisionDate " +
+            "WHERE e.id = :enrollmentId AND e.status = :currentStatus")
+    int updateStatusIfCurrent(Long enrollmentId, EnrollmentStatus currentStatus, EnrollmentStatus status,
+                              LocalDateTime decisionDate);
+
     // 해당 모임에 신청 이력이 존재하는지 확인
     boolean existsByMemberAndFoodGroup(Member member, FoodGroup foodGroup);
 
@@ -65,4 +78,13 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     @Query("UPDATE Enrollment e SET e.status = 'GROUP_COMPLETE' WHERE e.foodGroup = :foodGroup AND e.status = :status")
     void updateStatusToGroupCompleteByFoodGroupAndStatus(FoodGroup foodGroup, EnrollmentStatus status);
 
+    // ExportService - 변경 일시 이후 신청 내보내기 (MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때 한 행씩 스트리밍)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.foodmate.backend.dto.ExportDto$Enrollment(" +
+            "e.id, e.member.id, e.foodGroup.id, e.status, e.enrollDate, e.decisionDate, e.updatedDate) " +
+            "FROM Enrollment e " +
+            "WHERE e.updatedDate >= :updatedSince " +
+            "ORDER BY e.updatedDate ASC, e.id ASC")
+    Stream<ExportDto.Enrollment> streamForExport(LocalDateTime updatedSince);
+
 }
@@ -1,5 +1,6 @@
 package com.foodmate.backend.repository;
 
+import com.foodmate.backend.dto.ExportDto;
 import com.foodmate.backend.dto.NearbyGroupDto;
 import com.foodmate.backend.dto.SearchedGroupDto;
 import com.foodmate.backend.entity.FoodGroup;
@@ -7,28 +8,39 @@ import org.locationtech.jts.geom.Point;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface FoodGroupRepository extends JpaRepository<FoodGroup, Long> {
+public interface FoodGroupRepository extends JpaRepository<FoodGroup, Long>, FoodGroupSearchRepository {
 
-    // RankingService - 많이찾는 식당 랭킹
-    @Query("SELECT fg.storeName, fg.storeAddress, COUNT(*) AS count " +
+    // GroupService - 모임 목록 조회 공통 컬럼 프로젝션
+    // 작성자, 음식을 조인해 목록에 필요한 컬럼만 한 번의 쿼리로 조회 (연관 엔티티 추가 조회, content 로딩 없음)
+    String SEARCHED_GROUP = "SELECT new com.foodmate.backend.dto.SearchedGroupDto(" +
+            "fg.id, m.id, m.nickname, m.image, fg.title, fg.name, f.type, fg.groupDateTime, " +
+            "fg.maximum, fg.attendance, fg.storeName, fg.storeAddress, fg.createdDate) " +
             "FROM FoodGroup fg " +
-            "WHERE fg.groupDateTime < :comparisonDate " +
-            "AND fg.isDeleted IS NULL " +
-            "GROUP BY fg.storeName, fg.storeAddress " +
-            "ORDER BY COUNT(*) DESC")
-    List<Object[]> findTop10StoreWithCount(LocalDateTime comparisonDate, Pageable pageable);
+            "JOIN fg.member m " +
+            "JOIN fg.food f ";
 
-    // GroupService - 검색 기능
-    @Query("SELECT new com.foodmate.backend.dto.SearchedGroupDto(fg) " +
+    String NEARBY_GROUP = "SELECT new com.foodmate.backend.dto.NearbyGroupDto(" +
+            "fg.id, m.id, m.nickname, m.image, fg.title, fg.name, f.type, fg.groupDateTime, " +
+            "fg.maximum, fg.attendance, fg.storeName, fg.storeAddress, fg.location, fg.createdDate) " +
             "FROM FoodGroup fg " +
-            "JOIN Member m ON fg.member.id = m.id " +
+            "JOIN fg.member m " +
+            "JOIN fg.food f ";
+
+    // GroupService - 검색 기능
+    @Query(SEARCHED_GROUP +
             "WHERE (fg.title LIKE %:keyword% OR m.nickname LIKE %:keyword%) " +
             "AND fg.groupDateTime BETWEEN :start AND :end " +
             "AND fg.isDeleted IS NULL " +
@@ -36,50 +48,208 @@ public interface FoodGroupRepository extends JpaRepository<FoodGroup, Long> {
     Page<SearchedGroupDto> searchByKeyword(String keyword, LocalDateTime start, LocalDateTime end, Pageable pageable);
 
     // GroupService - 오늘 모임 조회 &  날짜별 조회
-    Page<FoodGroup> findAllByGroupDateTimeBetweenAndIsDeletedIsNullOrderByGroupDateTimeAsc(
-            LocalDateTime start, LocalDateTime end, Pageable pageable);
-
-    default Page<SearchedGroupDto> searchByDate(LocalDateTime start, LocalDateTime end, Pageable pageable) {
-        return findAllByGroupDateTimeBetweenAndIsDeletedIsNullOrderByGroupDateTimeAsc(
-                start, end, pageable).map(foodGroup -> new SearchedGroupDto(foodGroup));
-    }
+    @Query(SEARCHED_GROUP +
+            "WHERE fg.groupDateTime BETWEEN :start AND :end " +
+            "AND fg.isDeleted IS NULL " +
+            "ORDER BY fg.groupDateTime ASC")
+    Page<SearchedGroupDto> searchByDate(LocalDateTime start, LocalDateTime end, Pageable pageable);
 
     // GroupService - 전체 모임 조회
-    Page<FoodGroup> findAllByGroupDateTimeBetweenAndIsDeletedIsNullOrderByCreatedDateDesc(
-            LocalDateTime start, LocalDateTime end, Pageable pageable);
-
-    default Page<SearchedGroupDto> getAllGroupList(LocalDateTime start, LocalDateTime end, Pageable pageable) {
-        return findAllByGroupDateTimeBetweenAndIsDeletedIsNullOrderByCreatedDateDesc(
-                start, end, pageable).map(foodGroup -> new SearchedGroupDto(foodGroup));
-    }
+    @Query(SEARCHED_GROUP +
+            "WHERE fg.groupDateTime BETWEEN :start AND :end " +
+            "AND fg.isDeleted IS NULL " +
+            "ORDER BY fg.createdDate DESC")
+    Page<SearchedGroupDto> getAllGroupList(LocalDateTime start, LocalDateTime end, Pageable pageable);
 
     // GroupService - 거리순 조회
-    @Query("SELECT new com.foodmate.backend.dto.SearchedGroupDto(fg) " +
-            "FROM FoodGroup fg " +
+    @Query(SEARCHED_GROUP +
             "WHERE fg.groupDateTime BETWEEN :start AND :end " +
             "AND fg.isDeleted IS NULL " +
             "ORDER BY FUNCTION('ST_Distance_Sphere', fg.location, :userLocation)")
     Page<SearchedGroupDto> searchByLocation(Point userLocation, LocalDateTime start, LocalDateTime end, Pageable pageable);
 
     // GroupService - 메뉴별 조회
-    @Query("SELECT new com.foodmate.backend.dto.SearchedGroupDto(fg) " +
-            "FROM FoodGroup fg " +
-            "JOIN Food f ON fg.food.id = f.id " +
+    @Query(SEARCHED_GROUP +
             "WHERE f.type IN :foodTypes " +
             "AND fg.groupDateTime BETWEEN :start AND :end " +
             "AND fg.isDeleted IS NULL " +
             "ORDER BY fg.createdDate DESC")
     Page<SearchedGroupDto> searchByFood(List<String> foodTypes, LocalDateTime start, LocalDateTime end, Pageable pageable);
 
-    // GroupService - 내 근처 모임
-    @Query("SELECT new com.foodmate.backend.dto.NearbyGroupDto(fg) " +
-            "FROM FoodGroup fg " +
-            "WHERE fg.groupDateTime BETWEEN :start AND :end " +
+    // GroupService - 내 근처 모임 (geocell 인덱스로 반경을 포함하는 셀만 먼저 거른 뒤 거리 계산)
+    @Query(NEARBY_GROUP +
+            "WHERE fg.geocell IN :cells " +
+            "AND fg.groupDateTime BETWEEN :start AND :end " +
             "AND fg.isDeleted IS NULL " +
             "AND FUNCTION('ST_Distance_Sphere', fg.location, :userLocation) < 5000 " +
             "ORDER BY FUNCTION('ST_Distance_Sphere', fg.location, :userLocation)")
-    Page<NearbyGroupDto> getNearbyGroupList(Point userLocation, LocalDateTime start, LocalDateTime end, Pageable pageable);
+    Page<NearbyGroupDto> getNearbyGroupList(Point userLocation, List<Long> cells,
+                                            LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    // StoreService - 식당의 모임 (store_id, 모임 일시 인덱스, 최근 모임순)
+    @Query(SEARCHED_GROUP +
+            "WHERE fg.store.id = :storeId " +
+            "AND fg.isDeleted IS NULL " +
+            "ORDER BY fg.groupDateTime DESC")
+    Page<SearchedGroupDto> findByStoreId(Long storeId, Pageable pageable);
+
+    // GroupService - 인덱스에서 찾은 모임 아이디로 목록 조회 (순서는 서비스에서 맞춤)
+    @Query(SEARCHED_GROUP +
+            "WHERE fg.id IN :groupIds " +
+            "AND fg.isDeleted IS NULL")
+    List<SearchedGroupDto> findSearchedGroupsByIdIn(List<Long> groupIds);
+
+    @Query(NEARBY_GROUP +
+            "WHERE fg.id IN :groupIds " +
+            "AND fg.isDeleted IS NULL")
+    List<NearbyGroupDto> findNearbyGroupsByIdIn(List<Long> groupIds);
 
     List<FoodGroup> findAllByGroupDateTimeBetween(LocalDateTime start, LocalDateTime end);
 
+    // GroupService - 커서 기반 검색 기능 (생성일시, 아이디 내림차순으로 커서 이후만 조회)
+    @Query(SEARCHED_GROUP +
+            "WHERE (fg.title LIKE %:keyword% OR m.nickname LIKE %:keyword%) " +
+            "AND fg.groupDateTime BETWEEN :start AND :end " +
+            "AND fg.isDeleted IS NULL " +
+            "AND (:cursorId IS NULL OR fg.createdDate < :cursorDate " +
+            "OR (fg.createdDate = :cursorDate AND fg.id < :cursorId)) " +
+            "ORDER BY fg.createdDate DESC, fg.id DESC")
+    List<SearchedGroupDto> searchByKeywordAfter(String keyword, LocalDateTime start, LocalDateTime end,
+                                                LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
+    // GroupService - 커서 기반 오늘 모임 조회 & 날짜별 조회 (모임일시, 아이디 오름차순)
+    @Query(SEARCHED_GROUP +
+            "WHERE fg.groupDateTime BETWEEN :start AND :end " +
+            "AND fg.isDeleted IS NULL " +
+            "AND (:cursorId IS NULL OR fg.groupDateTime > :cursorDate " +
+            "OR (fg.groupDateTime = :cursorDate AND fg.id > :cursorId)) " +
+            "ORDER BY fg.groupDateTime ASC, fg.id ASC")
+    List<SearchedGroupDto> searchByDateAfter(LocalDateTime start, LocalDateTime end,
+                                             LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
+    // GroupService - 커서 기반 전체 모임 조회 (생성일시, 아이디 내림차순)
+    @Query(SEARCHED_GROUP +
+            "WHERE fg.groupDateTime BETWEEN :start AND :end " +
+            "AND fg.isDeleted IS NULL " +
+            "AND (:cursorId IS NULL OR fg.createdDate < :cursorDate " +
+            "OR (fg.createdDate = :cursorDate AND fg.id < :cursorId)) " +
+            "ORDER BY fg.createdDate DESC, fg.id DESC")
+    List<SearchedGroupDto> getAllGroupListAfter(LocalDateTime start, LocalDateTime end,
+                                                LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
+    // GroupService - 커서 기반 메뉴별 조회 (생성일시, 아이디 내림차순)
+    @Query(SEARCHED_GROUP +
+            "WHERE f.type IN :foodTypes " +
+            "AND fg.groupDateTime BETWEEN :start AND :end " +
+            "AND fg.isDeleted IS NULL " +
+            "AND (:cursorId IS NULL OR fg.createdDate < :cursorDate " +
+            "OR (fg.createdDate = :cursorDate AND fg.id < :cursorId)) " +
+            "ORDER BY fg.createdDate DESC, fg.id DESC")
+    List<SearchedGroupDto> searchByFoodAfter(List<String> foodTypes, LocalDateTime start, LocalDateTime end,
+                                             LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
+    // GroupService - 커서 기반 거리순 조회 (거리, 아이디 오름차순)
+    // 다음 커서를 만들 수 있도록 DB 에서 계산한 거리를 함께 반환 [모임 아이디, 거리]
+    @Query(value = "SELECT fg.id, ST_Distance_Sphere(fg.location, POINT(:longitude, :latitude)) AS distance " +
+            "FROM food_group fg " +
+            "WHERE fg.group_date_time BETWEEN :start AND :end " +
+            "AND fg.is_deleted IS NULL " +
+            "AND (ST_Distance_Sphere(fg.location, POINT(:longitude, :latitude)) > :cursorDistance " +
+            "OR (ST_Distance_Sphere(fg.location, POINT(:longitude, :latitude)) = :cursorDistance " +
+            "AND fg.id > :cursorId)) " +
+            "ORDER BY distance ASC, fg.id ASC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchByLocationAfter(double latitude, double longitude, LocalDateTime start, LocalDateTime end,
+                                         double cursorDistance, Long cursorId, int limit);
+
+    // GroupService - 커서 기반 내 근처 모임 (거리, 아이디 오름차순) [모임 아이디, 거리]
+    @Query(value = "SELECT fg.id, ST_Distance_Sphere(fg.location, POINT(:longitude, :latitude)) AS distance " +
+            "FROM food_group fg " +
+            "WHERE fg.geocell IN :cells " +
+            "AND fg.group_date_time BETWEEN :start AND :end " +
+            "AND fg.is_deleted IS NULL " +
+            "AND ST_Distance_Sphere(fg.location, POINT(:longitude, :latitude)) < 5000 " +
+            "AND (ST_Distance_Sphere(fg.location, POINT(:longitude, :latitude)) > :cursorDistance " +
+            "OR (ST_Distance_Sphere(fg.location, POINT(:longitude, :latitude)) = :cursorDistance " +
+            "AND fg.id > :cursorId)) " +
+            "ORDER BY distance ASC, fg.id ASC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Object[]> getNearbyGroupListAfter(double latitude, double longitude, List<Long> cells,
+                                           LocalDateTime start, LocalDateTime end,
+                                           double cursorDistance, Long cursorId, int limit);
+
+    // GroupLocationIndex - 예정된 모임 좌표 적재
+    @Query("SELECT fg.id, fg.location, fg.groupDateTime " +
+            "FROM FoodGroup fg " +
+            "WHERE fg.groupDateTime > :current " +
+            "AND fg.isDeleted IS NULL")
+    List<Object[]> findUpcomingGroupLocations(LocalDateTime current);
+
+    // GroupKeywordIndex - 예정된 모임 검색어 색인 대상 적재
+    @Query("SELECT fg.id, fg.title, m.nickname, fg.groupDateTime, fg.createdDate " +
+            "FROM FoodGroup fg " +
+            "JOIN fg.member m " +
+            "WHERE fg.groupDateTime > :current " +
+            "AND fg.isDeleted IS NULL")
+    List<Object[]> findUpcomingGroupKeywords(LocalDateTime current);
+
+    // EnrollmentService - 남은 자리가 있을 때만 참여 인원 1 증가 (동시에 수락해도 정원을 넘지 않음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FoodGroup fg SET fg.attendance = fg.attendance + 1 " +
+            "WHERE fg.id = :groupId " +
+            "AND fg.attendance < fg.maximum " +
+            "AND fg.isDeleted IS NULL")
+    int increaseAttendance(Long groupId);
+
+    // EnrollmentService - 현재 참여 인원
+    @Query("SELECT fg.attendance FROM FoodGroup fg WHERE fg.id = :groupId")
+    int findAttendanceById(Long groupId);
+
+    // UpcomingGroupStore - 예정된 모임 목록 적재
+    @Query(SEARCHED_GROUP +
+            "WHERE fg.groupDateTime > :current " +
+            "AND fg.isDeleted IS NULL")
+    List<SearchedGroupDto> findUpcomingGroups(LocalDateTime current);
+
+    // Scheduler - 랭킹에 아직 반영하지 않은 지난 모임 [모임 아이디, 회원 아이디, 음식 아이디, 식당 아이디, 모임 일시]
+    @Query("SELECT fg.id, fg.member.id, fg.food.id, fg.store.id, fg.groupDateTime " +
+            "FROM FoodGroup fg " +
+            "WHERE fg.isRanked IS NULL " +
+            "AND fg.groupDateTime < :current " +
+            "AND fg.isDeleted IS NULL")
+    List<Object[]> findUnrankedGroups(LocalDateTime current);
+
+    // Scheduler - 랭킹 반영 표시 (이미 반영했거나 삭제된 모임이면 0)
+    @Modifying
+    @Query("UPDATE FoodGroup fg SET fg.isRanked = :current " +
+            "WHERE fg.id = :groupId " +
+            "AND fg.isRanked IS NULL " +
+            "AND fg.isDeleted IS NULL")
+    int markRanked(Long groupId, LocalDateTime current);
+
+    // WindowedRankingCounter - 기간별 랭킹 적재, from 이후 열린 랭킹 반영 모임 [회원 아이디, 음식 아이디, 식당 아이디, 모임 일시]
+    @Query("SELECT fg.member.id, fg.food.id, fg.store.id, fg.groupDateTime " +
+            "FROM FoodGroup fg " +
+            "WHERE fg.groupDateTime >= :from " +
+            "AND fg.isRanked IS NOT NULL")
+    List<Object[]> findRankedGroupsSince(LocalDateTime from);
+
+    // GroupService - 모임 삭제 시 랭킹 반영 취소 (반영 전이면 0)
+    @Modifying
+    @Query("UPDATE FoodGroup fg SET fg.isRanked = NULL " +
+            "WHERE fg.id = :groupId " +
+            "AND fg.isRanked IS NOT NULL")
+    int unmarkRanked(Long groupId);
+
+    // ExportService - 변경 일시 이후 모임 내보내기 (MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때 한 행씩 스트리밍)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.foodmate.backend.dto.ExportDto$Group(" +
+            "fg.id, fg.member.id, f.type, fg.title, fg.name, fg.groupDateTime, fg.maximum, fg.attendance, " +
+            "fg.storeName, fg.storeAddress, fg.location, fg.createdDate, fg.isDeleted, fg.updatedDate) " +
+            "FROM FoodGroup fg " +
+            "LEFT JOIN fg.food f " +
+            "WHERE fg.updatedDate >= :updatedSince " +
+            "ORDER BY fg.updatedDate ASC, fg.id ASC")
+    Stream<ExportDto.Group> streamForExport(LocalDateTime updatedSince);
+
 }
@@ -0,0 +1,17 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.dto.GroupSearchCondition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// FoodGroupRepository 에서 조건에 따라 쿼리를 조립하는 검색 (FoodGroupSearchRepositoryImpl)
+public interface FoodGroupSearchRepository {
+
+    /**
+     * GroupService - 복합 조건 검색 (생성일시, 아이디 내림차순) [모임 아이디]
+     * 입력된 조건만 WHERE 에 추가, 첫 페이지면 cursorId 가 null
+     */
+    List<Long> searchGroupIdsAfter(GroupSearchCondition condition, LocalDateTime cursorDate, Long cursorId, int limit);
+
+}
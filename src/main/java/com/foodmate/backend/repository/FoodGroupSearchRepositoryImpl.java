@@ -0,0 +1,96 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.dto.GroupSearchCondition;
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.util.GeoCell;
+import org.locationtech.jts.geom.Point;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class FoodGroupSearchRepositoryImpl implements FoodGroupSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> searchGroupIdsAfter(GroupSearchCondition condition, LocalDateTime cursorDate, Long cursorId,
+                                          int limit) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<FoodGroup> group = query.from(FoodGroup.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.between(group.<LocalDateTime>get("groupDateTime"),
+                condition.getStart(), condition.getEnd()));
+        predicates.add(cb.isNull(group.get("isDeleted")));
+
+        // GroupSearchPlanner 와 같이 대소문자만 구분하지 않고 비교
+        // 검색어를 바이너리로 전달해 컬럼 collation 의 악센트 무시 비교를 쓰지 않음
+        ParameterExpression<byte[]> keyword = null;
+        if (condition.hasKeyword()) {
+            keyword = cb.parameter(byte[].class, "keyword");
+            Join<FoodGroup, Member> member = group.join("member");
+            predicates.add(cb.or(
+                    contains(cb, group.<String>get("title"), keyword),
+                    contains(cb, member.<String>get("nickname"), keyword)));
+        }
+
+        if (condition.hasFoods()) {
+            predicates.add(group.join("food").get("type").in(condition.getFoods()));
+        }
+
+        if (condition.isAvailable()) {
+            predicates.add(cb.lessThan(group.<Integer>get("attendance"), group.<Integer>get("maximum")));
+        }
+
+        // 반경을 덮는 격자로 후보를 줄인 뒤 거리 비교
+        if (condition.hasLocation()) {
+            predicates.add(group.get("geocell").in(
+                    GeoCell.covering(condition.getLatitude(), condition.getLongitude(), condition.getRadius())));
+            Expression<Double> distance = cb.function("ST_Distance_Sphere", Double.class, group.get("location"),
+                    cb.function("POINT", Point.class,
+                            cb.literal(condition.getLongitude()), cb.literal(condition.getLatitude())));
+            predicates.add(cb.lessThan(distance, condition.getRadius()));
+        }
+
+        if (cursorId != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(group.<LocalDateTime>get("createdDate"), cursorDate),
+                    cb.and(cb.equal(group.get("createdDate"), cursorDate),
+                            cb.lessThan(group.<Long>get("id"), cursorId))));
+        }
+
+        query.select(group.<Long>get("id"))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(group.get("createdDate")), cb.desc(group.get("id")));
+
+        TypedQuery<Long> typedQuery = entityManager.createQuery(query).setMaxResults(limit);
+        if (keyword != null) {
+            typedQuery.setParameter(keyword,
+                    condition.getKeyword().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+        }
+        return typedQuery.getResultList();
+    }
+
+    // LOWER(컬럼) 에 검색어가 포함되는지 (바이너리 검색어는 바이트 단위로 비교)
+    private static Predicate contains(CriteriaBuilder cb, Expression<String> column, Expression<byte[]> keyword) {
+        return cb.greaterThan(cb.function("LOCATE", Integer.class, keyword, cb.lower(column)), 0);
+    }
+
+}
@@ -3,8 +3,12 @@ package com.foodmate.backend.repository;
 import com.foodmate.backend.entity.Likes;
 import com.foodmate.backend.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,23 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
     Long countAllByLiked(Member liked);
 
     Optional<Likes> findByLikedAndLiker(Member liked, Member liker);
+
+    // MemberService - 좋아요 (liked_id, liker_id 유니크 인덱스로 이미 있으면 무시하고 0)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (liked_id, liker_id, created_date) " +
+            "VALUES (:likedId, :likerId, :createdDate)", nativeQuery = true)
+    int insertLikes(Long likedId, Long likerId, LocalDateTime createdDate);
+
+    // MemberService - 좋아요 취소 (이미 취소되었으면 0)
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.id = :likesId")
+    int deleteLikes(Long likesId);
+
+    // LikesBitmapCache - 회원에게 좋아요 누른 회원 아이디
+    @Query("SELECT l.liker.id FROM Likes l WHERE l.liked.id = :likedId")
+    List<Long> findLikerIds(Long likedId);
+
+    // WindowedRankingCounter - 기간별 좋아요 랭킹 적재 [좋아요 받은 회원 아이디, 좋아요 일시]
+    @Query("SELECT l.liked.id, l.createdDate FROM Likes l WHERE l.createdDate >= :from")
+    List<Object[]> findLikedSince(LocalDateTime from);
 }
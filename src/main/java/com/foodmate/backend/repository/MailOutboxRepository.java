@@ -0,0 +1,44 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.entity.MailOutbox;
+import com.foodmate.backend.enums.MailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // MailOutboxSender - 발송할 메일을 작업 토큰으로 가져감 (발송 시각이 된 대기 메일 + 제한 시간이 지난 발송 중 메일)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE mail_outbox " +
+            "SET status = 'SENDING', claim_token = :claimToken, next_attempt_at = :leaseUntil " +
+            "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    int claim(String claimToken, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    List<MailOutbox> findByClaimToken(String claimToken);
+
+    // MailOutboxSender - 발송 완료
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.foodmate.backend.enums.MailOutboxStatus.SENT, " +
+            "m.sentDate = :sentDate, m.claimToken = null WHERE m.id IN :ids")
+    int markSent(Collection<Long> ids, LocalDateTime sentDate);
+
+    // MailOutboxSender - 오래된 발송 완료 메일 정리
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status = com.foodmate.backend.enums.MailOutboxStatus.SENT " +
+            "AND m.sentDate < :before")
+    int deleteSentBefore(LocalDateTime before);
+
+    long countByStatus(MailOutboxStatus status);
+}
@@ -1,12 +1,15 @@
 package com.foodmate.backend.repository;
 
+import com.foodmate.backend.dto.MemberProfileDto;
 import com.foodmate.backend.entity.Member;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,25 +19,48 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // RankingService - 좋아요 랭킹
     List<Member> findTop10ByOrderByLikesDesc();
 
+    // LikesLeaderboard - 좋아요 많은 순 상위 회원 적재
+    List<Member> findAllByOrderByLikesDesc(Pageable pageable);
+
+    // LikesCounter - 누적된 좋아요 증감 반영 (같은 증감량의 회원을 한 번에)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.likes = m.likes + :delta WHERE m.id IN :memberIds")
+    int addLikes(long delta, Collection<Long> memberIds);
+
+    // LikesCounter - 저장된 좋아요 수가 실제 좋아요 수와 다른 회원 [회원 아이디, 저장된 좋아요 수, 실제 좋아요 수]
+    @Query(value = "SELECT m.id, m.likes, COUNT(l.id) " +
+            "FROM member m " +
+            "LEFT JOIN likes l ON l.liked_id = m.id " +
+            "GROUP BY m.id, m.likes " +
+            "HAVING m.likes <> COUNT(l.id)", nativeQuery = true)
+    List<Object[]> findLikesMismatches();
+
+    // LikesCounter - 좋아요 수 보정 (조회 후 증감이 반영되어 저장된 값이 달라졌으면 0)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.likes = :actual WHERE m.id = :memberId AND m.likes = :expected")
+    int reconcileLikes(Long memberId, long expected, long actual);
+
     // 이메일을 통해 회원 찾기
     Optional<Member> findByEmail(String email);
 
     // 닉네임을 통해 회원 찾기
     Optional<Member> findByNickname(String nickname);
 
+    // MemberProfileCache - 회원과 선호음식을 한 번에 (선호음식 하나당 한 행)
+    @Query("SELECT new com.foodmate.backend.dto.MemberProfileDto$Row(" +
+            "m.id, m.email, m.nickname, m.image, m.isDeleted, f.type) " +
+            "FROM Member m " +
+            "LEFT JOIN Preference p ON p.member = m " +
+            "LEFT JOIN p.food f " +
+            "WHERE m.nickname = :nickname " +
+            "ORDER BY p.id ASC")
+    List<MemberProfileDto.Row> findProfileRowsByNickname(String nickname);
+
     // RefreshToken 정보 찾기
     Optional<Member> findByRefreshToken(String refreshToken);
 
-    // RankingService - 모임왕 랭킹
-    @Query("SELECT m.id, m.nickname, m.image, COUNT(fg.member) AS count " +
-            "FROM Member m " +
-            "JOIN FoodGroup fg ON m.id = fg.member.id " +
-            "WHERE fg.groupDateTime < :comparisonDate " +
-            "AND fg.isDeleted IS NULL " +
-            "GROUP BY m.id, m.nickname, m.image " +
-            "ORDER BY COUNT(fg.member) DESC")
-    List<Object[]> findTop10MemberWithCount(LocalDateTime comparisonDate, Pageable pageable);
-
     Optional<Member> findByEmailAuthKey(String emailAuthKey);
 
 }
@@ -0,0 +1,67 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.entity.RankingCounter;
+import com.foodmate.backend.enums.RankingType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RankingCounterRepository extends JpaRepository<RankingCounter, Long> {
+
+    // RankingService - 모임왕 랭킹 (type, total 인덱스로 상위 N 개만 조회)
+    @Query("SELECT m.id, m.nickname, m.image, rc.total " +
+            "FROM RankingCounter rc " +
+            "JOIN Member m ON m.id = rc.targetId " +
+            "WHERE rc.type = com.foodmate.backend.enums.RankingType.MEETING " +
+            "AND rc.total > 0 " +
+            "ORDER BY rc.total DESC")
+    List<Object[]> findTopMembers(Pageable pageable);
+
+    // RankingService - 많이찾는 식당 랭킹
+    @Query("SELECT s.id, s.name, s.address, rc.total " +
+            "FROM RankingCounter rc " +
+            "JOIN Store s ON s.id = rc.targetId " +
+            "WHERE rc.type = com.foodmate.backend.enums.RankingType.STORE " +
+            "AND rc.total > 0 " +
+            "ORDER BY rc.total DESC")
+    List<Object[]> findTopStores(Pageable pageable);
+
+    // RankingService - 음식 카테고리 랭킹
+    @Query("SELECT f.type, f.image, rc.total " +
+            "FROM RankingCounter rc " +
+            "JOIN Food f ON f.id = rc.targetId " +
+            "WHERE rc.type = com.foodmate.backend.enums.RankingType.FOOD " +
+            "AND rc.total > 0 " +
+            "ORDER BY rc.total DESC")
+    List<Object[]> findTopFoods(Pageable pageable);
+
+    // StoreService - 식당 정보의 모임 수
+    Optional<RankingCounter> findByTypeAndTargetId(RankingType type, Long targetId);
+
+    // 대상의 카운터를 delta 만큼 변경 (없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO ranking_counter (type, target_id, total) " +
+            "VALUES (:type, :targetId, :delta) " +
+            "ON DUPLICATE KEY UPDATE total = total + :delta", nativeQuery = true)
+    void increase(String type, Long targetId, long delta);
+
+    // Scheduler, GroupService - 모임 하나가 완료(+1) 되거나 완료된 모임이 삭제(-1) 될 때 세 랭킹 모두 반영
+    default void increaseAll(Long memberId, Long foodId, Long storeId, long delta) {
+        if (memberId != null) {
+            increase(RankingType.MEETING.name(), memberId, delta);
+        }
+        if (foodId != null) {
+            increase(RankingType.FOOD.name(), foodId, delta);
+        }
+        if (storeId != null) {
+            increase(RankingType.STORE.name(), storeId, delta);
+        }
+    }
+
+}
@@ -2,7 +2,9 @@ package com.foodmate.backend.repository;
 
 import com.foodmate.backend.entity.Comment;
 import com.foodmate.backend.entity.Reply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,7 +15,31 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
     // 해당 댓글의 대댓글 일괄 삭제
     void deleteAllByComment(Comment comment);
 
-    // 해당 댓글의 대댓글 전체 조회
-    List<Reply> findAllByComment(Comment comment);
+    // 여러 댓글의 대댓글 앞부분 (댓글별 limit 개) 을 한 번에 조회
+    // [대댓글 아이디, 댓글 아이디, 해당 댓글의 전체 대댓글 수]
+    @Query(value = "SELECT t.id, t.comment_id, t.total " +
+            "FROM (SELECT r.id, r.comment_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY r.comment_id ORDER BY r.id) AS rn, " +
+            "COUNT(*) OVER (PARTITION BY r.comment_id) AS total " +
+            "FROM reply r " +
+            "WHERE r.comment_id IN (:commentIds)) t " +
+            "WHERE t.rn <= :limit " +
+            "ORDER BY t.comment_id, t.id", nativeQuery = true)
+    List<Object[]> findFirstReplyIdsByCommentIds(List<Long> commentIds, int limit);
+
+    // 대댓글 아이디 목록으로 작성자와 함께 조회
+    @Query("SELECT r FROM Reply r " +
+            "JOIN FETCH r.member " +
+            "WHERE r.id IN :replyIds " +
+            "ORDER BY r.id ASC")
+    List<Reply> findAllWithMemberByIdIn(List<Long> replyIds);
+
+    // 커서 기반 대댓글 조회 - cursorId 이후 대댓글을 작성자와 함께 조회 (첫 페이지면 cursorId 가 null)
+    @Query("SELECT r FROM Reply r " +
+            "JOIN FETCH r.member " +
+            "WHERE r.comment.id = :commentId " +
+            "AND (:cursorId IS NULL OR r.id > :cursorId) " +
+            "ORDER BY r.id ASC")
+    List<Reply> findAllByCommentAfter(Long commentId, Long cursorId, Pageable pageable);
 
 }
@@ -0,0 +1,23 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.entity.Store;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StoreRepository extends JpaRepository<Store, Long> {
+
+    // StoreService - 같은 식당 후보 (정규화 주소 인덱스)
+    List<Store> findByNormalizedAddress(String normalizedAddress);
+
+    // StoreService - 주소별 잠금 행을 만들거나 이미 있으면 배타 잠금 (트랜잭션이 끝날 때 해제)
+    @Modifying
+    @Query(value = "INSERT INTO store_address_lock (normalized_address) VALUES (:normalizedAddress) " +
+            "ON DUPLICATE KEY UPDATE normalized_address = normalized_address", nativeQuery = true)
+    int lockAddress(String normalizedAddress);
+
+}
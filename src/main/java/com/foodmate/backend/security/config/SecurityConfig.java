@@ -52,6 +52,7 @@ public class SecurityConfig {
         http
                 .authorizeRequests()
                 .mvcMatchers("/test", "/test2").authenticated()
+                .mvcMatchers("/admin/**").hasRole("ADMIN")
                 .anyRequest().permitAll();
         http
                 .oauth2Login()
@@ -0,0 +1,37 @@
+package com.foodmate.backend.security.dto;
+
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.enums.MemberRole;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인증된 회원 정보 스냅샷 (MemberPrincipalCache 에 저장, 변경 불가)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class MemberPrincipal {
+
+    private final Long id;
+    private final String email;
+    private final String nickname;
+    private final MemberRole memberRole;
+    private final String image;
+    private final boolean deleted;
+    private final boolean banned;
+
+    public static MemberPrincipal createMemberPrincipal(Member member) {
+        return MemberPrincipal.builder()
+                .id(member.getId())
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .memberRole(member.getMemberRole())
+                .image(member.getImage())
+                .deleted(member.getIsDeleted() != null)
+                .banned(member.getBanDate() != null)
+                .build();
+    }
+}
@@ -1,20 +1,23 @@
 package com.foodmate.backend.security.filter;
 
+import com.foodmate.backend.component.MemberPrincipalCache;
 import com.foodmate.backend.entity.Member;
 import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.enums.MemberRole;
 import com.foodmate.backend.exception.AuthException;
 import com.foodmate.backend.repository.MemberRepository;
+import com.foodmate.backend.security.dto.MemberPrincipal;
 import com.foodmate.backend.security.service.JwtTokenProvider;
-import com.foodmate.backend.util.RandomStringMaker;
+import com.foodmate.backend.security.service.JwtTokenVerifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -23,6 +26,9 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -44,9 +50,20 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final JwtTokenVerifier jwtTokenVerifier;
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
+    // 권한별 GrantedAuthority (요청마다 만들지 않음)
+    private static final Map<MemberRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(MemberRole.class);
+
+    static {
+        for (MemberRole role : MemberRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
@@ -88,34 +105,27 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     /**
      * [액세스 토큰 체크 & 인증 처리]
+     * 토큰은 JwtTokenVerifier 에서 한 번만 검증하고, 회원 정보는 MemberPrincipalCache 에서 (요청마다 회원을 조회하지 않음)
+     * 탈퇴, 정지된 회원은 토큰이 유효해도 인증하지 않음
      */
     public void checkAccessTokenAndAuthentication(HttpServletRequest request) throws ServletException, IOException {
-        log.info("checkAccessTokenAndAuthentication() 호출");
+        log.debug("checkAccessTokenAndAuthentication() 호출");
         jwtTokenProvider.extractAccessToken(request)
-                .filter(jwtTokenProvider::isTokenValid)
-                .ifPresent(accessToken -> jwtTokenProvider.extractId(accessToken)
-                        .ifPresent(id -> memberRepository.findById(id)
-                                .ifPresent(this::setAuthentication)));
+                .flatMap(jwtTokenVerifier::verify)
+                .flatMap(memberPrincipalCache::findById)
+                .filter(member -> !member.isDeleted() && !member.isBanned())
+                .ifPresent(this::setAuthentication);
     }
 
     /**
      * [인증 허가]
      */
-    public void setAuthentication(Member member) {
-        String password = member.getPassword();
-        if (password == null) { // 소셜 로그인 유저의 비밀번호 임의로 설정 하여 인증 되도록 설정
-            password = RandomStringMaker.randomStringMaker();
-        }
-
-        UserDetails userDetailsUser = User.builder()
-                .username(member.getEmail())
-                .password(password)
-                .roles(member.getMemberRole().name())
-                .build();
+    public void setAuthentication(MemberPrincipal member) {
 
+        // 서비스는 authentication.getName() (이메일) 만 사용하므로 UserDetails, 비밀번호 없이 이메일을 principal 로
         Authentication authentication =
-                new UsernamePasswordAuthenticationToken(userDetailsUser, null,
-                        authoritiesMapper.mapAuthorities(userDetailsUser.getAuthorities()));
+                new UsernamePasswordAuthenticationToken(member.getEmail(), null,
+                        authoritiesMapper.mapAuthorities(AUTHORITIES.get(member.getMemberRole())));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
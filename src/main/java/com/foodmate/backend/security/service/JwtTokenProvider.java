@@ -4,7 +4,7 @@ package com.foodmate.backend.security.service;
 import com.foodmate.backend.entity.Member;
 import com.foodmate.backend.repository.MemberRepository;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -27,6 +27,9 @@ import java.util.Optional;
 public class JwtTokenProvider {
 
     private Key key;
+
+    // 서명 키가 정해진 파서는 스레드 안전하므로 하나를 재사용
+    private final JwtParser jwtParser;
     @Value("${jwt.access.header}")
     private String accessHeader;
 
@@ -38,11 +41,15 @@ public class JwtTokenProvider {
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, MemberRepository memberRepository) {
         byte[] bytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(bytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
 
         this.memberRepository = memberRepository;
     }
 
     public static final String MEMBER_ID = "memberId";
+    private static final String BEARER_PREFIX = "Bearer ";
 
 
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30;    // 30분
@@ -97,37 +104,37 @@ public class JwtTokenProvider {
     /**
      * 헤더에서 AccessToken 추출
      * 토큰 형식 : Bearer XXX에서 Bearer를 제외하고 순수 토큰만 가져오기 위해서
-     * 헤더를 가져온 후 "Bearer"를 삭제(""로 replace)
+     * 헤더를 가져온 후 "Bearer " 뒤의 문자열만 사용
      */
     public Optional<String> extractAccessToken(HttpServletRequest request) {
         return Optional.ofNullable(request.getHeader(accessHeader))
-                .filter(accessToken -> accessToken.startsWith("Bearer "))
-                .map(accessToken -> accessToken.replace("Bearer ", ""));
+                .filter(accessToken -> accessToken.startsWith(BEARER_PREFIX))
+                .map(accessToken -> accessToken.substring(BEARER_PREFIX.length()));
     }
 
     /**
      * 헤더에서 RefreshToken 추출
      * 토큰 형식 : Bearer XXX에서 Bearer를 제외하고 순수 토큰만 가져오기 위해서
-     * 헤더를 가져온 후 "Bearer"를 삭제하기(""로 replace 진행)
+     * 헤더를 가져온 후 "Bearer " 뒤의 문자열만 사용
      */
     public Optional<String> extractRefreshToken(HttpServletRequest request) {
         return Optional.ofNullable(request.getHeader(refreshHeader))
-                .filter(refreshToken -> refreshToken.startsWith("Bearer "))
-                .map(refreshToken -> refreshToken.replace("Bearer ", ""));
+                .filter(refreshToken -> refreshToken.startsWith(BEARER_PREFIX))
+                .map(refreshToken -> refreshToken.substring(BEARER_PREFIX.length()));
     }
 
     /**
      * AccessToken에서 Id 추출
      */
     public Optional<Long> extractId(String accessToken) {
-        Jws<Claims> claimsJws = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(accessToken);
+        return Optional.ofNullable(parseClaims(accessToken).get(MEMBER_ID, Long.class));
+    }
 
-        // Email 클레임 추출
-        Long idClaim = claimsJws.getBody().get(MEMBER_ID, Long.class);
-        return Optional.ofNullable(idClaim);
+    /**
+     * 서명, 만료 검증 후 클레임 반환 (유효하지 않으면 JwtException)
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -158,10 +165,7 @@ public class JwtTokenProvider {
      * Token 유효성 검사
      */
     public boolean isTokenValid(String token) {
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+        parseClaims(token);
         return true;
     }
 }
\ No newline at end of file
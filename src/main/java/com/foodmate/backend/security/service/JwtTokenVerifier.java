@@ -0,0 +1,93 @@
+package com.foodmate.backend.security.service;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 액세스 토큰 검증
+ * 요청마다 토큰을 한 번만 파싱, 검증하고 검증된 토큰은 SHA-256 다이제스트로 만료 시각까지 보관
+ * 같은 토큰으로 다시 요청하면 서명 검증과 JSON 파싱 없이 회원 아이디 반환 (최대 개수를 넘으면 오래 사용되지 않은 토큰부터 제거)
+ */
+@Service
+@RequiredArgsConstructor
+public class JwtTokenVerifier {
+
+    static final int MAX_SIZE = 10000;
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    // 토큰 다이제스트 -> 검증 결과 (사용 순서)
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    /**
+     * @return 토큰의 회원 아이디 (회원 아이디 클레임이 없는 토큰이면 empty), 유효하지 않은 토큰이면 JwtException
+     */
+    public Optional<Long> verify(String accessToken) {
+
+        String digest = digest(accessToken);
+        long now = System.currentTimeMillis();
+
+        synchronized (verifiedTokens) {
+            VerifiedToken verified = verifiedTokens.get(digest);
+            if (verified != null) {
+                if (verified.expiresAt > now) {
+                    return Optional.ofNullable(verified.memberId);
+                }
+                verifiedTokens.remove(digest);
+            }
+        }
+
+        // 검증은 락 밖에서 (만료, 서명 오류는 그대로 던져 ExceptionHandlerFilter 에서 처리)
+        Claims claims = jwtTokenProvider.parseClaims(accessToken);
+        Long memberId = claims.get(JwtTokenProvider.MEMBER_ID, Long.class);
+
+        if (claims.getExpiration() != null) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(digest, new VerifiedToken(memberId, claims.getExpiration().getTime()));
+            }
+        }
+
+        return Optional.ofNullable(memberId);
+    }
+
+    public int size() {
+        synchronized (verifiedTokens) {
+            return verifiedTokens.size();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에서 지원
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class VerifiedToken {
+        private final Long memberId;
+        private final long expiresAt;
+
+        private VerifiedToken(Long memberId, long expiresAt) {
+            this.memberId = memberId;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
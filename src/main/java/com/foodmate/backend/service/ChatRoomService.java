@@ -1,5 +1,6 @@
 package com.foodmate.backend.service;
 
+import com.foodmate.backend.component.MemberPrincipalCache;
 import com.foodmate.backend.dto.ChatDto;
 import com.foodmate.backend.entity.ChatMember;
 import com.foodmate.backend.entity.ChatMessage;
@@ -29,14 +30,13 @@ public class ChatRoomService {
     private final ChatMemberRepository chatMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Value("${S3_GENERAL_IMAGE_PATH}")
     private String defaultProfileImage;
 
     public List<ChatDto.ChatRoomListResponse> getChatRoomList(Authentication authentication) {
-        Member member = memberRepository.findByEmail(authentication.getName()).orElseThrow(
-                () -> new MemberException(Error.USER_NOT_FOUND)
-        );
+        Member member = memberPrincipalCache.getMember(authentication);
         List<ChatMember>  chatMembers = chatMemberRepository.findByMember(member);
 
         if(chatMembers == null || chatMembers.isEmpty()){
@@ -87,9 +87,7 @@ public class ChatRoomService {
                 () -> new ChatException(Error.CHATROOM_NOT_FOUND)
         );
 
-        Member loginMember = memberRepository.findByEmail(authentication.getName()).orElseThrow(
-                () -> new MemberException(Error.USER_NOT_FOUND)
-        );
+        Member loginMember = memberPrincipalCache.getMember(authentication);
 
         List<ChatMessage> chatMessages = chatMessageRepository.findByChatRoom_Id(chatRoomId);
         List<ChatDto.ChatRoomMessageResponse> chatRoomMessageResponseList = new ArrayList<>();
@@ -1,5 +1,9 @@
 package com.foodmate.backend.service;
 
+import com.foodmate.backend.component.GroupDetailCache;
+import com.foodmate.backend.component.GroupSeatCounter;
+import com.foodmate.backend.component.MemberPrincipalCache;
+import com.foodmate.backend.component.UpcomingGroupStore;
 import com.foodmate.backend.dto.EnrollmentDto;
 import com.foodmate.backend.entity.Enrollment;
 import com.foodmate.backend.entity.FoodGroup;
@@ -8,10 +12,9 @@ import com.foodmate.backend.enums.EnrollmentStatus;
 import com.foodmate.backend.enums.Error;
 import com.foodmate.backend.exception.EnrollmentException;
 import com.foodmate.backend.exception.GroupException;
-import com.foodmate.backend.exception.MemberException;
 import com.foodmate.backend.repository.EnrollmentRepository;
 import com.foodmate.backend.repository.FoodGroupRepository;
-import com.foodmate.backend.repository.MemberRepository;
+import com.foodmate.backend.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,6 +24,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,8 +35,11 @@ import java.util.List;
 public class EnrollmentService {
 
     private final EnrollmentRepository enrollmentRepository;
-    private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
     private final FoodGroupRepository foodGroupRepository;
+    private final UpcomingGroupStore upcomingGroupStore;
+    private final GroupDetailCache groupDetailCache;
+    private final GroupSeatCounter groupSeatCounter;
 
     @Value("${S3_GENERAL_IMAGE_PATH}")
     private String defaultProfileImage;
@@ -42,8 +49,7 @@ public class EnrollmentService {
         LocalDateTime currentDate = LocalDateTime.now();
 
         // 사용자 정보 조회
-        Member member = memberRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
+        Member member = memberPrincipalCache.getMember(authentication);
         // 정렬 정보를 포함한 pageable 객체 생성
         Pageable pageableWithSorting = PageRequest.of(
                 pageable.getPageNumber(), // 현재 페이지 번호
@@ -63,8 +69,7 @@ public class EnrollmentService {
         LocalDateTime currentDate = LocalDateTime.now();
 
         // 사용자 정보 조회
-        Member member = memberRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
+        Member member = memberPrincipalCache.getMember(authentication);
         // 정렬 정보를 포함한 pageable 객체 생성
         Pageable pageableWithSorting = PageRequest.of(
                 pageable.getPageNumber(), // 현재 페이지 번호
@@ -86,8 +91,7 @@ public class EnrollmentService {
         LocalDateTime currentDate = LocalDateTime.now();
 
         // 사용자 정보 조회
-        Member member = memberRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
+        Member member = memberPrincipalCache.getMember(authentication);
 
         // 정렬 정보를 포함한 pageable 객체 생성
         Pageable pageableWithSorting = PageRequest.of(
@@ -114,8 +118,7 @@ public class EnrollmentService {
 
     public Page<EnrollmentDto.myEnrollmentReceiveResponse> enrollmentList(String decision, Authentication authentication, Pageable pageable) {
 
-        Member member = memberRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
+        Member member = memberPrincipalCache.getMember(authentication);
 
         Page<Enrollment> enrollmentsPage;
 
@@ -133,8 +136,7 @@ public class EnrollmentService {
 
     public Page<EnrollmentDto.myReceiveEnrollmentResponse> allEnrollmentList(Authentication authentication, Pageable pageable) {
 
-        Member member = memberRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
+        Member member = memberPrincipalCache.getMember(authentication);
 
         Page<EnrollmentDto.myReceiveEnrollmentResponse>  enrollmentsPage = enrollmentRepository.findByFoodGroupMember(member, pageable);
 
@@ -148,17 +150,55 @@ public class EnrollmentService {
 
     }
 
+    /**
+     * 신청 수락 - 동시에 수락해도 정원을 넘지 않도록 메모리에서 자리를 먼저 예약하고,
+     * 예약한 요청만 DB 조건부 UPDATE 로 참여 인원을 늘림 (정원이 찬 모임은 DB 에 쓰지 않고 거절)
+     */
+    @Transactional
     public Enrollment acceptEnrollment(Long enrollmentId) {
 
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new EnrollmentException(Error.ENROLLMENT_NOT_FOUND));
-        enrollment.updateEnrollmentStatus(EnrollmentStatus.ACCEPT);
+
+        if (enrollment.getStatus() != EnrollmentStatus.SUBMIT) {
+            throw new EnrollmentException(Error.ENROLLMENT_ACCEPT_NOT_STATUS);
+        }
+
         FoodGroup foodGroup = foodGroupRepository.findById(enrollment.getFoodGroup().getId())
                 .orElseThrow(() -> new GroupException(Error.GROUP_NOT_FOUND));
-        foodGroup.updateEnrollmentAttendance(foodGroup.getAttendance() + 1);
-        enrollmentRepository.save(enrollment);
+        // 삭제된 모임은 조건부 UPDATE 가 0 을 반환하므로 정원 초과로 보이기 전에 거절
+        if (foodGroup.getIsDeleted() != null) {
+            throw new GroupException(Error.GROUP_NOT_FOUND);
+        }
+        Long groupId = foodGroup.getId();
 
-        return enrollment;
+        // 자리 예약 (트랜잭션이 롤백되면 자동 반환)
+        if (!groupSeatCounter.tryReserve(groupId, foodGroup.getAttendance(), foodGroup.getMaximum())) {
+            throw new EnrollmentException(Error.GROUP_FULL);
+        }
+
+        // 같은 신청을 동시에 수락해도 한 번만 반영
+        if (enrollmentRepository.updateStatusIfCurrent(enrollmentId, EnrollmentStatus.SUBMIT,
+                EnrollmentStatus.ACCEPT, LocalDateTime.now()) == 0) {
+            throw new EnrollmentException(Error.ENROLLMENT_ACCEPT_NOT_STATUS);
+        }
+
+        // 남은 자리가 있을 때만 참여 인원 증가 - 카운터가 DB 와 어긋났으면 다음 요청에서 다시 채움
+        if (foodGroupRepository.increaseAttendance(groupId) == 0) {
+            groupSeatCounter.remove(groupId);
+            throw new EnrollmentException(Error.GROUP_FULL);
+        }
+
+        // 목록, 상세 캐시는 커밋 후 반영 (참여 인원은 이 트랜잭션에서 늘린 값)
+        int attendance = foodGroupRepository.findAttendanceById(groupId);
+        AfterCommit.run(() -> {
+            upcomingGroupStore.updateAttendance(groupId, attendance);
+            groupDetailCache.evict(groupId);
+        });
+
+        // 조건부 UPDATE 로 영속성 컨텍스트가 비워졌으므로 변경된 신청을 다시 조회
+        return enrollmentRepository.findById(enrollmentId)
+                .orElseThrow(() -> new EnrollmentException(Error.ENROLLMENT_NOT_FOUND));
     }
 
 
@@ -172,8 +212,7 @@ public class EnrollmentService {
 
 
     public void cancelEnrollment(Long enrollmentId, Authentication authentication) {
-        Member member = memberRepository.findByEmail(authentication.getName()).orElseThrow(
-                () -> new MemberException(Error.USER_NOT_FOUND));
+        Member member = memberPrincipalCache.getMember(authentication);
 
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId).orElseThrow(
                 () -> new EnrollmentException(Error.ENROLLMENT_NOT_FOUND));
@@ -0,0 +1,120 @@
+package com.foodmate.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodmate.backend.dto.ExportDto;
+import com.foodmate.backend.enums.ExportFormat;
+import com.foodmate.backend.repository.ChatMessageRepository;
+import com.foodmate.backend.repository.EnrollmentRepository;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 대량 내보내기 (NDJSON, CSV)
+ * 전진 전용 커서로 한 행씩 읽어 바로 응답에 쓰므로 테이블 크기와 관계없이 메모리 사용량이 일정
+ * 스트림은 트랜잭션 안에서만 읽을 수 있으므로 StreamingResponseBody 안에서 호출
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    // updatedSince 를 지정하지 않으면 전체 내보내기
+    private static final LocalDateTime EXPORT_ALL = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final FoodGroupRepository foodGroupRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    // 모임 내보내기 (변경 일시, 아이디 순)
+    @Transactional(readOnly = true)
+    public void exportGroups(LocalDateTime updatedSince, ExportFormat format, OutputStream out) throws IOException {
+
+        try (Stream<ExportDto.Group> rows = foodGroupRepository.streamForExport(since(updatedSince))) {
+            write(rows, ExportDto.Group.COLUMNS, format, out);
+        }
+    }
+
+    // 신청 내보내기 (변경 일시, 아이디 순)
+    @Transactional(readOnly = true)
+    public void exportEnrollments(LocalDateTime updatedSince, ExportFormat format, OutputStream out)
+            throws IOException {
+
+        try (Stream<ExportDto.Enrollment> rows = enrollmentRepository.streamForExport(since(updatedSince))) {
+            write(rows, ExportDto.Enrollment.COLUMNS, format, out);
+        }
+    }
+
+    // 채팅 메시지 내보내기 (작성 일시, 아이디 순)
+    @Transactional(readOnly = true)
+    public void exportChatMessages(LocalDateTime updatedSince, ExportFormat format, OutputStream out)
+            throws IOException {
+
+        try (Stream<ExportDto.ChatMessage> rows = chatMessageRepository.streamForExport(since(updatedSince))) {
+            write(rows, ExportDto.ChatMessage.COLUMNS, format, out);
+        }
+    }
+
+    private static LocalDateTime since(LocalDateTime updatedSince) {
+        return updatedSince == null ? EXPORT_ALL : updatedSince;
+    }
+
+    private <T extends ExportDto.Row> void write(Stream<T> rows, String[] columns, ExportFormat format,
+                                                 OutputStream out) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns);
+        }
+
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, row.values());
+            } else {
+                // JSON 문자열 안의 줄바꿈은 이스케이프되므로 한 줄에 한 행
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    // 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 안의 큰따옴표는 두 번 (RFC 4180)
+    private static String escapeCsv(String value) {
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+}
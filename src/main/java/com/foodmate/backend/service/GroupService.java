@@ -1,26 +1,48 @@
 package com.foodmate.backend.service;
 
+import com.foodmate.backend.component.FoodCatalog;
+import com.foodmate.backend.component.GroupDetailCache;
+import com.foodmate.backend.component.GroupKeywordIndex;
+import com.foodmate.backend.component.GroupLocationIndex;
+import com.foodmate.backend.component.GroupSearchPlanner;
+import com.foodmate.backend.component.GroupSeatCounter;
+import com.foodmate.backend.component.MemberPrincipalCache;
+import com.foodmate.backend.component.RankingSnapshot;
+import com.foodmate.backend.component.UpcomingGroupStore;
+import com.foodmate.backend.component.WindowedRankingCounter;
 import com.foodmate.backend.dto.*;
 import com.foodmate.backend.entity.*;
 import com.foodmate.backend.enums.EnrollmentStatus;
 import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.enums.RankingType;
 import com.foodmate.backend.exception.*;
 import com.foodmate.backend.repository.*;
+import com.foodmate.backend.util.AfterCommit;
+import com.foodmate.backend.util.GeoCell;
+import com.foodmate.backend.util.GroupCursor;
 import lombok.RequiredArgsConstructor;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,16 +51,30 @@ public class GroupService {
     private static final int RESERVATION_INTERVAL_HOUR = 1;
     private static final int RESERVATION_RANGE_MONTH = 1;
     private static final int SEARCH_INTERVAL_MINUTE = 10;
+    private static final double NEARBY_RADIUS_METER = 5000;
+    private static final double MAX_SEARCH_RADIUS_METER = 20000;
+    private static final int REPLY_PREVIEW_SIZE = 10;
 
-    private final MemberRepository memberRepository;
-    private final FoodRepository foodRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
     private final FoodGroupRepository foodGroupRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final CommentRepository commentRepository;
     private final ReplyRepository replyRepository;
-
-    // 모임 생성
+    private final GroupLocationIndex groupLocationIndex;
+    private final GroupKeywordIndex groupKeywordIndex;
+    private final UpcomingGroupStore upcomingGroupStore;
+    private final FoodCatalog foodCatalog;
+    private final GroupDetailCache groupDetailCache;
+    private final GroupSeatCounter groupSeatCounter;
+    private final GroupSearchPlanner groupSearchPlanner;
+    private final RankingCounterRepository rankingCounterRepository;
+    private final WindowedRankingCounter windowedRankingCounter;
+    private final RankingSnapshot rankingSnapshot;
+    private final StoreService storeService;
+
+    // 모임 생성 (StoreService.findOrCreate 가 잠금 이후 커밋된 식당을 읽도록 READ COMMITTED)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void addGroup(Authentication authentication, GroupDto.Request request) {
 
         Member member = getMember(authentication);
@@ -63,7 +99,9 @@ public class GroupService {
                 .attendance(1)
                 .storeName(request.getStoreName())
                 .storeAddress(request.getStoreAddress())
+                .store(storeService.findOrCreate(request.getStoreName(), request.getStoreAddress(), storeLocation))
                 .location(storeLocation)
+                .geocell(GeoCell.of(storeLocation.getY(), storeLocation.getX()))
                 .build();
 
         // 모임 저장
@@ -71,10 +109,21 @@ public class GroupService {
 
         // 채팅방 생성
         chatRoomRepository.save(new ChatRoom(foodGroup));
+
+        // 검색 인덱스는 커밋 후 반영
+        AfterCommit.run(() -> {
+            groupLocationIndex.put(foodGroup);
+            groupKeywordIndex.put(foodGroup);
+            upcomingGroupStore.put(foodGroup);
+        });
     }
 
     // 특정 모임 상세 조회
     public GroupDto.DetailResponse getGroupDetail(Long groupId) {
+        return groupDetailCache.get(groupId, this::loadGroupDetail);
+    }
+
+    private GroupDto.DetailResponse loadGroupDetail(Long groupId) {
 
         FoodGroup group = validateGroupId(groupId);
 
@@ -84,7 +133,8 @@ public class GroupService {
         return GroupDto.DetailResponse.createGroupDetailResponse(group, chatRoom);
     }
 
-    // 특정 모임 수정
+    // 특정 모임 수정 (StoreService.findOrCreate 가 잠금 이후 커밋된 식당을 읽도록 READ COMMITTED)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void updateGroup(Long groupId, Authentication authentication, GroupDto.Request request) {
 
         FoodGroup group = validateGroupId(groupId);
@@ -113,9 +163,20 @@ public class GroupService {
         group.setMaximum(request.getMaximum());
         group.setStoreName(request.getStoreName());
         group.setStoreAddress(request.getStoreAddress());
+        group.setStore(storeService.findOrCreate(request.getStoreName(), request.getStoreAddress(), storeLocation));
         group.setLocation(storeLocation);
+        group.setGeocell(GeoCell.of(storeLocation.getY(), storeLocation.getX()));
 
         foodGroupRepository.save(group);
+
+        // 커밋 전에 지우면 다른 요청이 이전 정원, 상세 정보로 다시 채울 수 있으므로 커밋 후 반영
+        AfterCommit.run(() -> {
+            groupLocationIndex.put(group);
+            groupKeywordIndex.put(group);
+            upcomingGroupStore.put(group);
+            groupDetailCache.evict(groupId);
+            groupSeatCounter.remove(groupId);
+        });
     }
 
     // TODO 삭제된 모임의 댓글 대댓글 일괄삭제 - 스케쥴링으로 하루에 한번?
@@ -137,6 +198,25 @@ public class GroupService {
 
         // 해당 모임에 신청한 모임신청목록들의 상태를 모임취소로 일괄 변경
         enrollmentRepository.updateStatusByGroupId(groupId, EnrollmentStatus.GROUP_CANCEL);
+
+        // 이미 랭킹에 반영된 지난 모임이면 카운터에서 제외
+        if (foodGroupRepository.unmarkRanked(groupId) == 1) {
+            Long storeId = group.getStore() == null ? null : group.getStore().getId();
+            rankingCounterRepository.increaseAll(group.getMember().getId(), group.getFood().getId(), storeId, -1);
+            AfterCommit.run(() -> {
+                windowedRankingCounter.addGroup(group.getMember().getId(), group.getFood().getId(), storeId,
+                        group.getGroupDateTime().toLocalDate(), -1);
+                rankingSnapshot.markChanged(RankingType.MEETING, RankingType.STORE, RankingType.FOOD);
+            });
+        }
+
+        AfterCommit.run(() -> {
+            groupLocationIndex.remove(groupId);
+            groupKeywordIndex.remove(groupId);
+            upcomingGroupStore.remove(groupId);
+            groupDetailCache.evict(groupId);
+            groupSeatCounter.remove(groupId);
+        });
     }
 
     // 특정 모임 신청
@@ -157,7 +237,7 @@ public class GroupService {
         }
 
         // 모임 현재인원 체크
-        if (group.getAttendance() >= group.getMaximum()) {
+        if (!groupSeatCounter.hasSeat(groupId, group.getAttendance(), group.getMaximum())) {
             throw new EnrollmentException(Error.GROUP_FULL);
         }
 
@@ -276,53 +356,89 @@ public class GroupService {
 
         FoodGroup group = validateGroupId(groupId);
 
-        // 댓글 전체 조회
+        // 댓글 전체 조회 (작성자 함께 조회)
         Page<Comment> comments = commentRepository.findAllByFoodGroup(group, pageable);
 
-        Page<CommentDto.Response> commentDTOs = comments.map(comment -> {
+        List<Long> commentIds = comments.map(Comment::getId).getContent();
 
-            List<ReplyDto.Response> replyDTOs = new ArrayList<>();
+        Map<Long, List<ReplyDto.Response>> replyDTOs = new HashMap<>();
+        Map<Long, Long> replyCounts = new HashMap<>();
 
-            // 해당 댓글의 대댓글 전체 조회
-            List<Reply> replies = replyRepository.findAllByComment(comment);
+        if (!commentIds.isEmpty()) {
 
-            // 대댓글 DTO 로 변환 & 리스트에 추가
-            for (Reply reply : replies) {
-                replyDTOs.add(ReplyDto.Response.createReplyResponse(reply));
+            // 이번 페이지 댓글들의 대댓글 앞부분 아이디와 대댓글 수를 한 번에 조회
+            List<Long> replyIds = new ArrayList<>();
+            for (Object[] row : replyRepository.findFirstReplyIdsByCommentIds(commentIds, REPLY_PREVIEW_SIZE)) {
+                replyIds.add(((Number) row[0]).longValue());
+                replyCounts.put(((Number) row[1]).longValue(), ((Number) row[2]).longValue());
             }
 
-            // 댓글 DTO 로 변환 (안에 대댓글 리스트 세팅)
-            return CommentDto.Response.createCommentResponse(comment, replyDTOs);
-        });
+            // 대댓글을 작성자와 함께 한 번에 조회 & 댓글별로 DTO 변환
+            if (!replyIds.isEmpty()) {
+                for (Reply reply : replyRepository.findAllWithMemberByIdIn(replyIds)) {
+                    replyDTOs.computeIfAbsent(reply.getComment().getId(), k -> new ArrayList<>())
+                            .add(ReplyDto.Response.createReplyResponse(reply));
+                }
+            }
+        }
 
-        return commentDTOs;
+        // 댓글 DTO 로 변환 (안에 대댓글 리스트 세팅)
+        return comments.map(comment -> CommentDto.Response.createCommentResponse(comment,
+                replyDTOs.getOrDefault(comment.getId(), new ArrayList<>()),
+                replyCounts.getOrDefault(comment.getId(), 0L)));
+    }
+
+    // 커서 기반 대댓글 조회
+    public CursorDto<ReplyDto.Response> getReplies(Long groupId, Long commentId, Long cursor, int size) {
+
+        validateGroupId(groupId);
+        validateCommentId(groupId, commentId);
+
+        List<ReplyDto.Response> replies = replyRepository.findAllByCommentAfter(
+                        commentId, cursor, PageRequest.of(0, size + 1)).stream()
+                .map(ReplyDto.Response::createReplyResponse)
+                .collect(Collectors.toList());
+
+        return getCursor(replies, size, reply -> String.valueOf(reply.getReplyId()));
     }
 
     // 검색 기능
     public Page<SearchedGroupDto> searchByKeyword(String keyword, Pageable pageable) {
 
         LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
 
-        return foodGroupRepository.searchByKeyword(keyword,
-                current.plusMinutes(SEARCH_INTERVAL_MINUTE),
-                current.plusMonths(RESERVATION_RANGE_MONTH), pageable);
+        // 인덱스 적재 전에는 DB 에서 조회
+        if (!groupKeywordIndex.isLoaded()) {
+            return foodGroupRepository.searchByKeyword(keyword, start, end, pageable);
+        }
+
+        List<Long> groupIds = groupKeywordIndex.search(keyword, start, end);
+
+        return getPageByGroupIds(groupIds, groupIds.size(), pageable,
+                foodGroupRepository::findSearchedGroupsByIdIn, SearchedGroupDto::getGroupId);
     }
 
     // 오늘 모임 조회
     public Page<SearchedGroupDto> getTodayGroupList(Pageable pageable) {
 
-        return foodGroupRepository.searchByDate(LocalDateTime.now(),
-                LocalDate.now().atTime(23, 59, 59), pageable);
+        return searchByDate(LocalDateTime.now(), LocalDate.now().atTime(23, 59, 59), pageable);
     }
 
     // 전체 모임 조회
     public Page<SearchedGroupDto> getAllGroupList(Pageable pageable) {
 
         LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
 
-        return foodGroupRepository.getAllGroupList(
-                current.plusMinutes(SEARCH_INTERVAL_MINUTE),
-                current.plusMonths(RESERVATION_RANGE_MONTH), pageable);
+        // 저장소 적재 전에는 DB 에서 조회
+        if (!upcomingGroupStore.isLoaded()) {
+            return foodGroupRepository.getAllGroupList(start, end, pageable);
+        }
+
+        return upcomingGroupStore.findAll(start, end, pageable);
     }
 
     // 거리순 조회
@@ -331,10 +447,19 @@ public class GroupService {
         Point userLocation = getPoint(latitude, longitude);
 
         LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
 
-        return foodGroupRepository.searchByLocation(userLocation,
-                current.plusMinutes(SEARCH_INTERVAL_MINUTE),
-                current.plusMonths(RESERVATION_RANGE_MONTH), pageable);
+        // 인덱스 적재 전에는 DB 에서 조회
+        if (!groupLocationIndex.isLoaded()) {
+            return foodGroupRepository.searchByLocation(userLocation, start, end, pageable);
+        }
+
+        List<Long> groupIds = groupLocationIndex.findNearest(userLocation.getY(), userLocation.getX(),
+                (int) pageable.getOffset() + pageable.getPageSize(), start, end);
+
+        return getPageByGroupIds(groupIds, groupLocationIndex.count(start, end), pageable,
+                foodGroupRepository::findSearchedGroupsByIdIn, SearchedGroupDto::getGroupId);
     }
 
     // 날짜별 조회
@@ -344,7 +469,7 @@ public class GroupService {
                 LocalDateTime.now().plusMinutes(SEARCH_INTERVAL_MINUTE) : start.atStartOfDay();
         LocalDateTime searchEnd = end.atTime(LocalTime.MAX);
 
-        return foodGroupRepository.searchByDate(searchStart, searchEnd, pageable);
+        return searchByDate(searchStart, searchEnd, pageable);
     }
 
     // 메뉴별 조회
@@ -352,16 +477,21 @@ public class GroupService {
 
         // foods 검증
         for (String foodType : foods) {
-            if (!foodRepository.existsByType(foodType)) {
+            if (!foodCatalog.existsByType(foodType)) {
                 throw new FoodException(Error.FOOD_NOT_FOUND);
             }
         }
 
         LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
 
-        return foodGroupRepository.searchByFood(foods,
-                current.plusMinutes(SEARCH_INTERVAL_MINUTE),
-                current.plusMonths(RESERVATION_RANGE_MONTH), pageable);
+        // 저장소 적재 전에는 DB 에서 조회
+        if (!upcomingGroupStore.isLoaded()) {
+            return foodGroupRepository.searchByFood(foods, start, end, pageable);
+        }
+
+        return upcomingGroupStore.findByFood(foods, start, end, pageable);
     }
 
     // 내 근처 모임
@@ -370,10 +500,181 @@ public class GroupService {
         Point userLocation = getPoint(latitude, longitude);
 
         LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
+
+        // 인덱스 적재 전에는 DB 에서 조회
+        if (!groupLocationIndex.isLoaded()) {
+            return foodGroupRepository.getNearbyGroupList(userLocation,
+                    GeoCell.covering(userLocation.getY(), userLocation.getX(), NEARBY_RADIUS_METER),
+                    start, end, pageable);
+        }
 
-        return foodGroupRepository.getNearbyGroupList(userLocation,
-                current.plusMinutes(SEARCH_INTERVAL_MINUTE),
-                current.plusMonths(RESERVATION_RANGE_MONTH), pageable);
+        List<Long> groupIds = groupLocationIndex.findWithinRadius(userLocation.getY(), userLocation.getX(),
+                NEARBY_RADIUS_METER, start, end);
+
+        return getPageByGroupIds(groupIds, groupIds.size(), pageable,
+                foodGroupRepository::findNearbyGroupsByIdIn, NearbyGroupDto::getGroupId);
+    }
+
+    // 커서 기반 검색 기능
+    public CursorDto<SearchedGroupDto> searchByKeywordWithCursor(String keyword, String cursor, int size) {
+
+        GroupCursor groupCursor = GroupCursor.decode(cursor);
+        LocalDateTime cursorDate = groupCursor == null ? null : groupCursor.getDateTime();
+        Long cursorId = groupCursor == null ? null : groupCursor.getGroupId();
+
+        LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
+
+        // 인덱스 적재 전에는 DB 에서 조회
+        if (!groupKeywordIndex.isLoaded()) {
+            return getCursorByCreatedDate(foodGroupRepository.searchByKeywordAfter(keyword, start, end,
+                    cursorDate, cursorId, PageRequest.of(0, size + 1)), size);
+        }
+
+        List<Long> groupIds = groupKeywordIndex.search(keyword, start, end, cursorDate, cursorId, size + 1);
+
+        return getCursorByGroupIds(groupIds, size,
+                foodGroupRepository::findSearchedGroupsByIdIn, SearchedGroupDto::getGroupId,
+                group -> GroupCursor.encode(group.getCreatedDate(), group.getGroupId()));
+    }
+
+    // 커서 기반 오늘 모임 조회
+    public CursorDto<SearchedGroupDto> getTodayGroupListWithCursor(String cursor, int size) {
+
+        return searchByDateWithCursor(LocalDateTime.now(), LocalDate.now().atTime(23, 59, 59), cursor, size);
+    }
+
+    // 커서 기반 전체 모임 조회
+    public CursorDto<SearchedGroupDto> getAllGroupListWithCursor(String cursor, int size) {
+
+        GroupCursor groupCursor = GroupCursor.decode(cursor);
+        LocalDateTime cursorDate = groupCursor == null ? null : groupCursor.getDateTime();
+        Long cursorId = groupCursor == null ? null : groupCursor.getGroupId();
+
+        LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
+
+        // 저장소 적재 전에는 DB 에서 조회
+        List<SearchedGroupDto> groups = !upcomingGroupStore.isLoaded()
+                ? foodGroupRepository.getAllGroupListAfter(start, end, cursorDate, cursorId,
+                        PageRequest.of(0, size + 1))
+                : upcomingGroupStore.findAllAfter(start, end, cursorDate, cursorId, size + 1);
+
+        return getCursorByCreatedDate(groups, size);
+    }
+
+    // 커서 기반 거리순 조회
+    public CursorDto<SearchedGroupDto> searchByLocationWithCursor(String latitude, String longitude,
+                                                                  String cursor, int size) {
+
+        Point userLocation = getPoint(latitude, longitude);
+
+        GroupCursor groupCursor = GroupCursor.decode(cursor);
+        double cursorDistance = groupCursor == null ? -1 : groupCursor.getDistance();
+        Long cursorId = groupCursor == null ? 0L : groupCursor.getGroupId();
+
+        LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
+
+        // 인덱스 적재 전에는 DB 에서 조회
+        LinkedHashMap<Long, Double> distances = !groupLocationIndex.isLoaded()
+                ? toDistances(foodGroupRepository.searchByLocationAfter(userLocation.getY(), userLocation.getX(),
+                        start, end, cursorDistance, cursorId, size + 1))
+                : groupLocationIndex.findNearest(userLocation.getY(), userLocation.getX(),
+                        size + 1, start, end, cursorDistance, cursorId);
+
+        return getCursorByDistances(distances, size,
+                foodGroupRepository::findSearchedGroupsByIdIn, SearchedGroupDto::getGroupId);
+    }
+
+    // 커서 기반 날짜별 조회
+    public CursorDto<SearchedGroupDto> searchByDateWithCursor(LocalDate start, LocalDate end,
+                                                              String cursor, int size) {
+
+        LocalDateTime searchStart = (start.isEqual(LocalDate.now())) ?
+                LocalDateTime.now().plusMinutes(SEARCH_INTERVAL_MINUTE) : start.atStartOfDay();
+        LocalDateTime searchEnd = end.atTime(LocalTime.MAX);
+
+        return searchByDateWithCursor(searchStart, searchEnd, cursor, size);
+    }
+
+    // 커서 기반 메뉴별 조회
+    public CursorDto<SearchedGroupDto> searchByFoodWithCursor(List<String> foods, String cursor, int size) {
+
+        // foods 검증
+        for (String foodType : foods) {
+            if (!foodCatalog.existsByType(foodType)) {
+                throw new FoodException(Error.FOOD_NOT_FOUND);
+            }
+        }
+
+        GroupCursor groupCursor = GroupCursor.decode(cursor);
+        LocalDateTime cursorDate = groupCursor == null ? null : groupCursor.getDateTime();
+        Long cursorId = groupCursor == null ? null : groupCursor.getGroupId();
+
+        LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
+
+        // 저장소 적재 전에는 DB 에서 조회
+        List<SearchedGroupDto> groups = !upcomingGroupStore.isLoaded()
+                ? foodGroupRepository.searchByFoodAfter(foods, start, end, cursorDate, cursorId,
+                        PageRequest.of(0, size + 1))
+                : upcomingGroupStore.findByFoodAfter(foods, start, end, cursorDate, cursorId, size + 1);
+
+        return getCursorByCreatedDate(groups, size);
+    }
+
+    // 커서 기반 내 근처 모임
+    public CursorDto<NearbyGroupDto> getNearbyGroupListWithCursor(String latitude, String longitude,
+                                                                  String cursor, int size) {
+
+        Point userLocation = getPoint(latitude, longitude);
+
+        GroupCursor groupCursor = GroupCursor.decode(cursor);
+        double cursorDistance = groupCursor == null ? -1 : groupCursor.getDistance();
+        Long cursorId = groupCursor == null ? 0L : groupCursor.getGroupId();
+
+        LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
+
+        // 인덱스 적재 전에는 DB 에서 조회
+        LinkedHashMap<Long, Double> distances = !groupLocationIndex.isLoaded()
+                ? toDistances(foodGroupRepository.getNearbyGroupListAfter(userLocation.getY(), userLocation.getX(),
+                        GeoCell.covering(userLocation.getY(), userLocation.getX(), NEARBY_RADIUS_METER),
+                        start, end, cursorDistance, cursorId, size + 1))
+                : groupLocationIndex.findWithinRadius(userLocation.getY(), userLocation.getX(),
+                        NEARBY_RADIUS_METER, start, end, cursorDistance, cursorId, size + 1);
+
+        return getCursorByDistances(distances, size,
+                foodGroupRepository::findNearbyGroupsByIdIn, NearbyGroupDto::getGroupId);
+    }
+
+    // 복합 조건 검색 (검색어, 메뉴, 기간, 반경, 참여 가능 여부 중 원하는 조건만 조합, 최신 생성순)
+    public CursorDto<SearchedGroupDto> searchGroups(GroupDto.SearchRequest request, String cursor, int size) {
+
+        GroupSearchCondition condition = toSearchCondition(request);
+
+        GroupCursor groupCursor = GroupCursor.decode(cursor);
+        LocalDateTime cursorDate = groupCursor == null ? null : groupCursor.getDateTime();
+        Long cursorId = groupCursor == null ? null : groupCursor.getGroupId();
+
+        // 저장소, 색인 적재 전에는 DB 에서 조회
+        if (!groupSearchPlanner.isReady(condition)) {
+            List<Long> groupIds = foodGroupRepository.searchGroupIdsAfter(condition, cursorDate, cursorId, size + 1);
+
+            return getCursorByGroupIds(groupIds, size,
+                    foodGroupRepository::findSearchedGroupsByIdIn, SearchedGroupDto::getGroupId,
+                    group -> GroupCursor.encode(group.getCreatedDate(), group.getGroupId()));
+        }
+
+        return getCursorByCreatedDate(groupSearchPlanner.search(condition, cursorDate, cursorId, size + 1), size);
     }
 
     // 로그인한 사용자가 참여한 모임 조회
@@ -430,12 +731,11 @@ public class GroupService {
     }
 
     private Member getMember(Authentication authentication) {
-        return memberRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
+        return memberPrincipalCache.getMember(authentication);
     }
 
     private Food validateFood(String foodName) {
-        return foodRepository.findByType(foodName)
+        return foodCatalog.findByType(foodName)
                 .orElseThrow(() -> new FoodException(Error.FOOD_NOT_FOUND));
     }
 
@@ -455,6 +755,157 @@ public class GroupService {
         return groupDateTime;
     }
 
+    // 복합 조건 검색 요청 검증, 기본값 적용 (기간이 없으면 검색 가능한 전체 기간, 반경이 없으면 내 근처 반경)
+    private GroupSearchCondition toSearchCondition(GroupDto.SearchRequest request) {
+
+        List<String> foods = request.getFoods() == null ? List.of() : request.getFoods();
+        for (String foodType : foods) {
+            if (!foodCatalog.existsByType(foodType)) {
+                throw new FoodException(Error.FOOD_NOT_FOUND);
+            }
+        }
+
+        LocalDateTime current = LocalDateTime.now();
+        LocalDateTime start = current.plusMinutes(SEARCH_INTERVAL_MINUTE);
+        LocalDateTime end = current.plusMonths(RESERVATION_RANGE_MONTH);
+        if (request.getStart() != null) {
+            start = request.getStart().isEqual(LocalDate.now()) ? start : request.getStart().atStartOfDay();
+            end = request.getEnd().atTime(LocalTime.MAX);
+        }
+
+        Double latitude = null;
+        Double longitude = null;
+        double radius = request.getRadius() == null ? NEARBY_RADIUS_METER : request.getRadius();
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            if (request.getLatitude() == null || request.getLongitude() == null
+                    || radius < 1 || radius > MAX_SEARCH_RADIUS_METER) {
+                throw new GroupException(Error.INVALID_SEARCH_LOCATION);
+            }
+            try {
+                latitude = Double.parseDouble(request.getLatitude());
+                longitude = Double.parseDouble(request.getLongitude());
+            } catch (NumberFormatException e) {
+                throw new GroupException(Error.INVALID_SEARCH_LOCATION);
+            }
+        }
+
+        return GroupSearchCondition.builder()
+                .keyword(request.getKeyword() == null || request.getKeyword().isBlank() ? null : request.getKeyword())
+                .foods(foods)
+                .start(start)
+                .end(end)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radius(radius)
+                .available(request.isAvailable())
+                .build();
+    }
+
+    // 인덱스에서 정렬된 모임 아이디 목록 중 해당 페이지만 조회하여 순서대로 변환
+    private <T> Page<T> getPageByGroupIds(List<Long> groupIds, long total, Pageable pageable,
+                                          Function<List<Long>, List<T>> finder, Function<T, Long> idOf) {
+
+        int from = (int) Math.min(pageable.getOffset(), groupIds.size());
+        int to = Math.min(from + pageable.getPageSize(), groupIds.size());
+
+        return new PageImpl<>(findAllInOrder(groupIds.subList(from, to), finder, idOf), pageable, total);
+    }
+
+    private Page<SearchedGroupDto> searchByDate(LocalDateTime start, LocalDateTime end, Pageable pageable) {
+
+        // 저장소 적재 전에는 DB 에서 조회
+        if (!upcomingGroupStore.isLoaded()) {
+            return foodGroupRepository.searchByDate(start, end, pageable);
+        }
+
+        return upcomingGroupStore.findByGroupDateTime(start, end, pageable);
+    }
+
+    private CursorDto<SearchedGroupDto> searchByDateWithCursor(LocalDateTime start, LocalDateTime end,
+                                                               String cursor, int size) {
+
+        GroupCursor groupCursor = GroupCursor.decode(cursor);
+        LocalDateTime cursorDate = groupCursor == null ? null : groupCursor.getDateTime();
+        Long cursorId = groupCursor == null ? null : groupCursor.getGroupId();
+
+        // 저장소 적재 전에는 DB 에서 조회
+        List<SearchedGroupDto> groups = !upcomingGroupStore.isLoaded()
+                ? foodGroupRepository.searchByDateAfter(start, end, cursorDate, cursorId,
+                        PageRequest.of(0, size + 1))
+                : upcomingGroupStore.findByGroupDateTimeAfter(start, end, cursorDate, cursorId, size + 1);
+
+        return getCursor(groups, size, group -> GroupCursor.encode(
+                LocalDateTime.of(group.getDate(), group.getTime()), group.getGroupId()));
+    }
+
+    // 생성일시 내림차순 목록의 다음 커서
+    private CursorDto<SearchedGroupDto> getCursorByCreatedDate(List<SearchedGroupDto> groups, int size) {
+        return getCursor(groups, size, group -> GroupCursor.encode(group.getCreatedDate(), group.getGroupId()));
+    }
+
+    // size + 1 개를 조회한 결과로 다음 페이지 존재 여부를 판단하고, 이번 페이지 마지막 항목으로 다음 커서 생성
+    private <T> CursorDto<T> getCursor(List<T> content, int size, Function<T, String> cursorOf) {
+
+        if (content.size() <= size) {
+            return new CursorDto<>(content, null, false);
+        }
+
+        List<T> page = new ArrayList<>(content.subList(0, size));
+        return new CursorDto<>(page, cursorOf.apply(page.get(size - 1)), true);
+    }
+
+    // 인덱스에서 정렬된 모임 아이디 (size + 1 개) 중 이번 페이지만 순서대로 조회
+    private <T> CursorDto<T> getCursorByGroupIds(List<Long> groupIds, int size,
+                                                 Function<List<Long>, List<T>> finder, Function<T, Long> idOf,
+                                                 Function<T, String> cursorOf) {
+
+        List<T> content = findAllInOrder(groupIds.subList(0, Math.min(size, groupIds.size())), finder, idOf);
+
+        boolean hasNext = groupIds.size() > size && !content.isEmpty();
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        return new CursorDto<>(content, nextCursor, hasNext);
+    }
+
+    // 거리순으로 정렬된 [모임 아이디 - 거리] (size + 1 개) 를 순서대로 조회
+    private <T> CursorDto<T> getCursorByDistances(LinkedHashMap<Long, Double> distances, int size,
+                                                  Function<List<Long>, List<T>> finder, Function<T, Long> idOf) {
+
+        return getCursorByGroupIds(new ArrayList<>(distances.keySet()), size, finder, idOf,
+                group -> GroupCursor.encode(distances.get(idOf.apply(group)), idOf.apply(group)));
+    }
+
+    // DB 에서 조회한 [모임 아이디, 거리] 목록을 순서를 유지한 맵으로 변환
+    private LinkedHashMap<Long, Double> toDistances(List<Object[]> rows) {
+
+        LinkedHashMap<Long, Double> distances = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            distances.put(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue());
+        }
+        return distances;
+    }
+
+    // 모임 아이디 목록 순서대로 조회 (조회 사이에 삭제된 모임은 제외)
+    private <T> List<T> findAllInOrder(List<Long> groupIds, Function<List<Long>, List<T>> finder,
+                                       Function<T, Long> idOf) {
+
+        if (groupIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, T> groups = finder.apply(groupIds).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        List<T> result = new ArrayList<>();
+        for (Long groupId : groupIds) {
+            T group = groups.get(groupId);
+            if (group != null) {
+                result.add(group);
+            }
+        }
+        return result;
+    }
+
     private Point getPoint(String latitude, String longitude) {
         return new GeometryFactory().createPoint(
                 new Coordinate(Double.parseDouble(longitude), Double.parseDouble(latitude)));
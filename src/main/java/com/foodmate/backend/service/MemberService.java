@@ -1,7 +1,19 @@
 package com.foodmate.backend.service;
 
+import com.foodmate.backend.component.FoodCatalog;
+import com.foodmate.backend.component.GroupDetailCache;
+import com.foodmate.backend.component.LikesBitmapCache;
+import com.foodmate.backend.component.LikesCounter;
+import com.foodmate.backend.component.LikesLeaderboard;
 import com.foodmate.backend.component.MailComponents;
+import com.foodmate.backend.component.MemberPrincipalCache;
+import com.foodmate.backend.component.MemberProfileCache;
+import com.foodmate.backend.component.PasswordHasher;
+import com.foodmate.backend.component.RankingSnapshot;
+import com.foodmate.backend.component.UpcomingGroupStore;
+import com.foodmate.backend.component.WindowedRankingCounter;
 import com.foodmate.backend.dto.MemberDto;
+import com.foodmate.backend.dto.MemberProfileDto;
 import com.foodmate.backend.entity.Food;
 import com.foodmate.backend.entity.Likes;
 import com.foodmate.backend.entity.Member;
@@ -9,30 +21,32 @@ import com.foodmate.backend.entity.Preference;
 import com.foodmate.backend.enums.EmailContents;
 import com.foodmate.backend.enums.Error;
 import com.foodmate.backend.enums.MemberLoginType;
+import com.foodmate.backend.enums.RankingType;
 import com.foodmate.backend.exception.FileException;
 import com.foodmate.backend.exception.FoodException;
 import com.foodmate.backend.exception.MemberException;
-import com.foodmate.backend.repository.FoodRepository;
 import com.foodmate.backend.repository.LikesRepository;
 import com.foodmate.backend.repository.MemberRepository;
 import com.foodmate.backend.repository.PreferenceRepository;
 import com.foodmate.backend.security.dto.JwtTokenDto;
 import com.foodmate.backend.security.service.JwtTokenProvider;
+import com.foodmate.backend.util.AfterCommit;
 import com.foodmate.backend.util.RandomStringMaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.transaction.Transactional;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -43,7 +57,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PreferenceRepository preferenceRepository;
-    private final FoodRepository foodRepository;
+    private final FoodCatalog foodCatalog;
     private final LikesRepository likesRepository;
     private final S3Uploader s3Uploader;
     private final S3Deleter s3Deleter;
@@ -52,6 +66,17 @@ public class MemberService {
     private String defaultProfileImage;
     private final MailComponents mailComponents;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UpcomingGroupStore upcomingGroupStore;
+    private final GroupDetailCache groupDetailCache;
+    private final LikesLeaderboard likesLeaderboard;
+    private final WindowedRankingCounter windowedRankingCounter;
+    private final RankingSnapshot rankingSnapshot;
+    private final LikesCounter likesCounter;
+    private final LikesBitmapCache likesBitmapCache;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final MemberProfileCache memberProfileCache;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
 
 
 
@@ -93,6 +118,19 @@ public class MemberService {
 
         /* 새로 받아온 사진을 UUID를 사용한 무작위의 파일명으로 변경 후 s3업로드 */
         uploadProfileImage(member, imageFile);
+
+        groupDetailCache.evictByMember(member.getId());
+        memberPrincipalCache.evict(member.getId());
+        memberProfileCache.evict(member.getId());
+
+        /* 모임 목록, 좋아요 랭킹에 보이는 프로필 이미지는 커밋 후 반영 (롤백되면 반영하지 않음) */
+        Long memberId = member.getId();
+        String image = member.getImage();
+        AfterCommit.run(() -> {
+            upcomingGroupStore.updateMemberImage(memberId, image);
+            likesLeaderboard.update(member, likesCounter.get(member));
+            rankingSnapshot.markChanged(RankingType.LIKES, RankingType.MEETING);
+        });
     }
 
 
@@ -197,28 +235,23 @@ public class MemberService {
      * @return 입력받은 nickname 회원 조회
      */
     public MemberDto.otherMemberInfoResponse getMemberInfoByNickname(String nickname, Authentication authentication) {
-        Member loginMember = memberRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
+        Member loginMember = memberPrincipalCache.getMember(authentication);
 
-        Member otherMember = memberRepository.findByNickname(nickname)
+        // 회원, 선호음식은 프로필 캐시에서 (없으면 한 번의 조회)
+        MemberProfileDto.Profile profile = memberProfileCache.findByNickname(nickname)
                 .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
 
-        if(otherMember.getIsDeleted() != null){ // 정지 당한 유저
+        if(profile.isDeleted()){ // 정지 당한 유저
             throw new MemberException(Error.DELETED_USER);
         }
 
-        boolean likeStatus = false;
-
-        Optional<Likes> optionalLikes = likesRepository.findByLikedAndLiker(otherMember, loginMember);
+        // 좋아요 여부, 좋아요 수는 Likes 를 조회하지 않고 좋아요 비트맵에서 (회원은 조회 없이 참조로)
+        Member otherMember = memberRepository.getReferenceById(profile.getMemberId());
+        boolean likeStatus = likesBitmapCache.isLiked(otherMember, loginMember);
 
-        if(optionalLikes.isPresent()) {
-            likeStatus = true;
-        }
-
-        if(otherMember.getImage() == null){
-            return MemberDto.otherMemberInfoResponse.createMemberDtoResponse(otherMember, findPreferences(otherMember) , defaultProfileImage, likeStatus);
-        }
-        return MemberDto.otherMemberInfoResponse.createMemberDtoResponse(otherMember, findPreferences(otherMember), likeStatus);
+        String image = profile.getImage() == null ? defaultProfileImage : profile.getImage();
+        return MemberDto.otherMemberInfoResponse.createMemberDtoResponse(
+                profile, image, likesBitmapCache.count(otherMember), likeStatus);
     }
 
     /**
@@ -230,7 +263,7 @@ public class MemberService {
         List<String> foods = new ArrayList<>();
         List<Preference> preferences = preferenceRepository.findAllByMember(member);
         for (Preference preference : preferences){
-            Food food = foodRepository.findById(preference.getFood().getId()).orElseThrow(
+            Food food = foodCatalog.findById(preference.getFood().getId()).orElseThrow(
                     () -> new FoodException(Error.FOOD_NOT_FOUND)
             );
             foods.add(food.getType());
@@ -248,8 +281,7 @@ public class MemberService {
 
         Member member = Member.createGeneralMember(
                 request,
-                BCrypt.hashpw(request.getPassword(),
-                        BCrypt.gensalt()),
+                passwordHasher.hash(request.getPassword()),
                 uuid);
         memberRepository.save(member);
         processFoodPreferences(member, request.getFood()); // 선호음식 등록
@@ -262,8 +294,7 @@ public class MemberService {
         String uuid = UUID.randomUUID().toString();
         Member member = Member.createGeneralMember(
                 request,
-                BCrypt.hashpw(request.getPassword(),
-                        BCrypt.gensalt()),
+                passwordHasher.hash(request.getPassword()),
                 uuid);
         memberRepository.save(member);
         processFoodPreferences(member, request.getFood()); // 선호음식 등록
@@ -318,7 +349,7 @@ public class MemberService {
     private void processFoodPreferences(Member member, List<String> foodNames){
         if (foodNames != null && !foodNames.isEmpty()) {
             for (String foodName : foodNames) {
-                Food food = foodRepository.findByType(foodName) // 음식 이름으로 음식 엔티티 찾기
+                Food food = foodCatalog.findByType(foodName) // 음식 이름으로 음식 엔티티 찾기
                         .orElseThrow(() -> new FoodException(Error.FOOD_NOT_FOUND));
                 Preference preference = new Preference();
                 preference.updateMember(member);
@@ -340,27 +371,59 @@ public class MemberService {
         Member liked = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND)); // 좋아요 받은 사람
 
-        Member liker = memberRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND)); // 좋아요 누른 사람
+        Member liker = memberPrincipalCache.getMember(authentication); // 좋아요 누른 사람
 
         Optional<Likes> optionalLikes = likesRepository.findByLikedAndLiker(liked, liker);
 
+        // 동시에 같은 요청이 와도 실제로 지우거나 추가한 한 번만 좋아요 수에 반영
+        long delta = 0;
+        LocalDate rankingDay = null; // 기간별 랭킹에 반영할 날짜
         if(optionalLikes.isPresent()){
-            likesRepository.deleteById(optionalLikes.get().getId());
-            liked.setLikes(liked.getLikes() - 1);
+            if (likesRepository.deleteLikes(optionalLikes.get().getId()) == 1) {
+                delta = -1;
+
+                // 기간별 랭킹은 좋아요를 누른 날짜에서 취소 (일시가 없는 이전 좋아요는 전체 기간에만 포함)
+                LocalDateTime likedDate = optionalLikes.get().getCreatedDate();
+                rankingDay = likedDate == null ? null : likedDate.toLocalDate();
+            }
         } else {
-            likesRepository.save(Likes.makeLikes(liked, liker));
-            liked.setLikes(liked.getLikes() + 1);
+            if (likesRepository.insertLikes(liked.getId(), liker.getId(), LocalDateTime.now()) == 1) {
+                delta = 1;
+                rankingDay = LocalDate.now();
+            }
         }
-        memberRepository.save(liked);
 
-        return liked.getLikes();
+        // 좋아요 비트맵은 커밋 후 삭제, 추가 결과와 상관없이 요청한 상태로 (이미 지워졌거나 있던 경우도 같은 상태)
+        Long likedId = liked.getId();
+        Long likerId = liker.getId();
+        boolean likeStatus = optionalLikes.isEmpty();
+        AfterCommit.run(() -> likesBitmapCache.update(likedId, likerId, likeStatus));
+
+        // 응답하는 좋아요 수는 아직 누적 전이므로 이번 증감을 더해서
+        long likes = likesCounter.get(liked) + delta;
+
+        // Member 행은 고치지 않고 LikesCounter 에 누적 (1 초마다 DB 에 반영)
+        // 좋아요 수, 랭킹은 메모리에만 있으므로 롤백된 증감이 남지 않도록 커밋 후 반영
+        if (delta != 0) {
+            long committedDelta = delta;
+            LocalDate committedDay = rankingDay;
+            AfterCommit.run(() -> {
+                likesCounter.add(likedId, committedDelta);
+                if (committedDay != null) {
+                    windowedRankingCounter.addLikes(likedId, committedDay, committedDelta);
+                }
+                likesLeaderboard.update(liked, likesCounter.get(liked));
+                rankingSnapshot.markChanged(RankingType.LIKES);
+            });
+        }
+
+        return likes;
     }
 
         public JwtTokenDto login(MemberDto.loginRequest request) {
             Member member = memberRepository.findByEmail(request.getEmail())
                     .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
-            if (!BCrypt.checkpw(request.getPassword(), member.getPassword())) {
+            if (!passwordHasher.matches(request.getPassword(), member.getPassword())) {
                 throw new MemberException(Error.LOGIN_FAILED);
             }
             if (!member.getIsEmailAuth()) {
@@ -371,6 +434,8 @@ public class MemberService {
                 throw new MemberException(Error.DELETED_USER);
             }
 
+            rehashIfNeeded(member, request.getPassword());
+
             String refreshToken = jwtTokenProvider.createRefreshToken();
 
             jwtTokenProvider.updateRefreshToken(member.getEmail(), refreshToken);
@@ -378,6 +443,22 @@ public class MemberService {
             return JwtTokenDto.createJwtToken(jwtTokenProvider.createAccessToken(member.getId()), refreshToken);
     }
 
+    /**
+     * 저장된 해시의 비용이 현재 비용보다 낮으면 로그인한 비밀번호로 다시 해시
+     * 다시 해시하지 못해도 로그인은 진행 (다음 로그인 때 다시 시도)
+     */
+    private void rehashIfNeeded(Member member, String rawPassword) {
+        if (!passwordHasher.needsRehash(member.getPassword())) {
+            return;
+        }
+        try {
+            member.updatePassword(passwordHasher.hash(rawPassword));
+            memberRepository.save(member);
+        } catch (MemberException e) {
+            log.warn("rehash skipped : memberId={}", member.getId());
+        }
+    }
+
 
     /**
      *
@@ -390,11 +471,12 @@ public class MemberService {
         Member member = memberRepository.findByEmail(authentication.getName())
                 .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
 
-        if (!BCrypt.checkpw(request.getOldPassword(), member.getPassword())) {
+        if (!passwordHasher.matches(request.getOldPassword(), member.getPassword())) {
             throw new MemberException(Error.PASSWORD_NOT_MATCH);
         }
-        member.updatePassword(BCrypt.hashpw(request.getNewPassword(),BCrypt.gensalt()));
+        member.updatePassword(passwordHasher.hash(request.getNewPassword()));
         memberRepository.save(member);
+        memberPrincipalCache.evict(member.getId());
     }
 
 
@@ -417,6 +499,8 @@ public class MemberService {
         logout(request, response);
         member.setIsDeleted(LocalDateTime.now());
         memberRepository.save(member);
+        memberPrincipalCache.evict(member.getId());
+        memberProfileCache.evict(member.getId());
     }
 
     /**
@@ -441,12 +525,14 @@ public class MemberService {
             throw new MemberException(Error.USER_NOT_GENERAL);
         }
 
-        if (!BCrypt.checkpw(deleteMemberRequest.getPassword(), member.getPassword())) {
+        if (!passwordHasher.matches(deleteMemberRequest.getPassword(), member.getPassword())) {
             throw new MemberException(Error.PASSWORD_NOT_MATCH);
         }
 
         member.setIsDeleted(LocalDateTime.now());
         memberRepository.save(member);
+        memberPrincipalCache.evict(member.getId());
+        memberProfileCache.evict(member.getId());
         logout(request, response);
     }
 
@@ -462,17 +548,25 @@ public class MemberService {
 
         preferenceRepository.deleteByMember(member);
         processFoodPreferences(member, request.getFood());
+        memberProfileCache.evict(member.getId());
     }
 
-    @Transactional
+    /**
+     * 비밀번호 초기화
+     * 해시는 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 먼저 계산하고, 비밀번호 변경과 메일 저장만 한 트랜잭션으로 처리
+     */
     public void resetPassword(MemberDto.emailRequest request) {
         Member member = memberRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new MemberException(Error.USER_NOT_FOUND));
 
         String resetPassword = RandomStringMaker.randomStringMaker();
-        sendMailResetPassword(request.getEmail(), resetPassword);
-
-        member.setPassword(BCrypt.hashpw(resetPassword, BCrypt.gensalt()));
-        memberRepository.save(member);
+        String hashedPassword = passwordHasher.hash(resetPassword);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            sendMailResetPassword(request.getEmail(), resetPassword);
+            member.updatePassword(hashedPassword);
+            memberRepository.save(member);
+            memberPrincipalCache.evict(member.getId());
+        });
     }
 }
@@ -1,28 +1,65 @@
 package com.foodmate.backend.service;
 
+import com.foodmate.backend.component.FoodCatalog;
+import com.foodmate.backend.component.LikesLeaderboard;
+import com.foodmate.backend.component.WindowedRankingCounter;
 import com.foodmate.backend.dto.RankingDto;
 import com.foodmate.backend.entity.Member;
-import com.foodmate.backend.repository.FoodGroupRepository;
-import com.foodmate.backend.repository.FoodRepository;
+import com.foodmate.backend.entity.Store;
+import com.foodmate.backend.enums.RankingType;
+import com.foodmate.backend.enums.RankingWindow;
 import com.foodmate.backend.repository.MemberRepository;
+import com.foodmate.backend.repository.RankingCounterRepository;
+import com.foodmate.backend.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RankingService {
 
+    private static final int RANKING_SIZE = 10;
+
     private final MemberRepository memberRepository;
-    private final FoodGroupRepository foodGroupRepository;
-    private final FoodRepository foodRepository;
+    private final RankingCounterRepository rankingCounterRepository;
+    private final LikesLeaderboard likesLeaderboard;
+    private final WindowedRankingCounter windowedRankingCounter;
+    private final FoodCatalog foodCatalog;
+    private final StoreRepository storeRepository;
 
     // 좋아요 랭킹
-    public List<RankingDto.Likes> getLikesRanking() {
+    public List<RankingDto.Likes> getLikesRanking(RankingWindow window) {
+
+        if (window != RankingWindow.ALL) {
+            List<Map.Entry<Object, Long>> top = getWindowedTop(RankingType.LIKES, window);
+            Map<Long, Member> members = findMembers(top);
+
+            List<RankingDto.Likes> result = new ArrayList<>();
+            for (Map.Entry<Object, Long> entry : top) {
+                Member member = members.get((Long) entry.getKey());
+                if (member != null) {
+                    result.add(RankingDto.Likes.builder()
+                            .memberId(member.getId())
+                            .nickname(member.getNickname())
+                            .image(member.getImage())
+                            .likesCount(entry.getValue())
+                            .build());
+                }
+            }
+            return result;
+        }
+
+        // 적재 후에는 좋아요가 바뀔 때마다 갱신되는 상위 10 명을 그대로 반환 (적재 전에는 DB 에서 조회)
+        if (likesLeaderboard.isLoaded()) {
+            return likesLeaderboard.getRanking();
+        }
 
         List<RankingDto.Likes> result = new ArrayList<>();
 
@@ -41,12 +78,30 @@ public class RankingService {
     }
 
     // 모임왕 랭킹
-    public List<RankingDto.Meeting> getMeetingRanking() {
+    public List<RankingDto.Meeting> getMeetingRanking(RankingWindow window) {
 
         List<RankingDto.Meeting> result = new ArrayList<>();
 
-        List<Object[]> list = memberRepository.findTop10MemberWithCount(
-                LocalDateTime.now(), PageRequest.of(0, 10));
+        if (window != RankingWindow.ALL) {
+            List<Map.Entry<Object, Long>> top = getWindowedTop(RankingType.MEETING, window);
+            Map<Long, Member> members = findMembers(top);
+
+            for (Map.Entry<Object, Long> entry : top) {
+                Member member = members.get((Long) entry.getKey());
+                if (member != null) {
+                    result.add(RankingDto.Meeting.builder()
+                            .memberId(member.getId())
+                            .nickname(member.getNickname())
+                            .image(member.getImage())
+                            .count(entry.getValue())
+                            .build());
+                }
+            }
+            return result;
+        }
+
+        // 모임 완료, 삭제 시 갱신되는 카운터에서 상위 10 개만 조회 (지난 모임 수와 무관)
+        List<Object[]> list = rankingCounterRepository.findTopMembers(PageRequest.of(0, RANKING_SIZE));
 
         for (Object[] item : list) {
             result.add(RankingDto.Meeting.builder()
@@ -61,18 +116,36 @@ public class RankingService {
     }
 
     // 많이찾는 식당 랭킹
-    public List<RankingDto.Store> getStoreRanking() {
+    public List<RankingDto.Store> getStoreRanking(RankingWindow window) {
 
         List<RankingDto.Store> result = new ArrayList<>();
 
-        List<Object[]> list = foodGroupRepository.findTop10StoreWithCount(
-                LocalDateTime.now(), PageRequest.of(0, 10));
+        if (window != RankingWindow.ALL) {
+            List<Map.Entry<Object, Long>> top = getWindowedTop(RankingType.STORE, window);
+            Map<Long, Store> stores = findStores(top);
+
+            for (Map.Entry<Object, Long> entry : top) {
+                Store store = stores.get((Long) entry.getKey());
+                if (store != null) {
+                    result.add(RankingDto.Store.builder()
+                            .storeId(store.getId())
+                            .storeName(store.getName())
+                            .address(store.getAddress())
+                            .count(entry.getValue())
+                            .build());
+                }
+            }
+            return result;
+        }
+
+        List<Object[]> list = rankingCounterRepository.findTopStores(PageRequest.of(0, RANKING_SIZE));
 
         for (Object[] item : list) {
             result.add(RankingDto.Store.builder()
-                    .storeName((String) item[0])
-                    .address((String) item[1])
-                    .count((long) item[2])
+                    .storeId((Long) item[0])
+                    .storeName((String) item[1])
+                    .address((String) item[2])
+                    .count((long) item[3])
                     .build());
         }
 
@@ -80,12 +153,23 @@ public class RankingService {
     }
 
     // 음식 카테고리 랭킹
-    public List<RankingDto.Food> getFoodRanking() {
+    public List<RankingDto.Food> getFoodRanking(RankingWindow window) {
 
         List<RankingDto.Food> result = new ArrayList<>();
 
-        List<Object[]> list = foodRepository.findTop10FoodWithCount(
-                LocalDateTime.now(), PageRequest.of(0, 10));
+        if (window != RankingWindow.ALL) {
+            for (Map.Entry<Object, Long> entry : getWindowedTop(RankingType.FOOD, window)) {
+                foodCatalog.findById((Long) entry.getKey()).ifPresent(food ->
+                        result.add(RankingDto.Food.builder()
+                                .foodName(food.getType())
+                                .image(food.getImage())
+                                .count(entry.getValue())
+                                .build()));
+            }
+            return result;
+        }
+
+        List<Object[]> list = rankingCounterRepository.findTopFoods(PageRequest.of(0, RANKING_SIZE));
 
         for (Object[] item : list) {
             result.add(RankingDto.Food.builder()
@@ -98,4 +182,44 @@ public class RankingService {
         return result;
     }
 
+    // 기간별 랭킹 상위 10 개 [대상 키, 기간 내 합계] (적재 전에는 빈 목록)
+    private List<Map.Entry<Object, Long>> getWindowedTop(RankingType type, RankingWindow window) {
+
+        if (!windowedRankingCounter.isLoaded()) {
+            return List.of();
+        }
+
+        return windowedRankingCounter.top(type, window, RANKING_SIZE);
+    }
+
+    // 상위 회원 정보를 아이디로 한 번에 조회
+    private Map<Long, Member> findMembers(List<Map.Entry<Object, Long>> top) {
+
+        if (top.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> memberIds = top.stream()
+                .map(entry -> (Long) entry.getKey())
+                .collect(Collectors.toList());
+
+        return memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+    }
+
+    // 상위 식당 정보를 아이디로 한 번에 조회
+    private Map<Long, Store> findStores(List<Map.Entry<Object, Long>> top) {
+
+        if (top.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> storeIds = top.stream()
+                .map(entry -> (Long) entry.getKey())
+                .collect(Collectors.toList());
+
+        return storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+    }
+
 }
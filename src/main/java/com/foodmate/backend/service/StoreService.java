@@ -0,0 +1,99 @@
+package com.foodmate.backend.service;
+
+import com.foodmate.backend.component.GroupLocationIndex;
+import com.foodmate.backend.dto.SearchedGroupDto;
+import com.foodmate.backend.dto.StoreDto;
+import com.foodmate.backend.entity.RankingCounter;
+import com.foodmate.backend.entity.Store;
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.enums.RankingType;
+import com.foodmate.backend.exception.StoreException;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import com.foodmate.backend.repository.RankingCounterRepository;
+import com.foodmate.backend.repository.StoreRepository;
+import com.foodmate.backend.util.StoreAddress;
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Point;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class StoreService {
+
+    private final StoreRepository storeRepository;
+    private final FoodGroupRepository foodGroupRepository;
+    private final RankingCounterRepository rankingCounterRepository;
+
+    /**
+     * GroupService - 모임 생성, 수정 시 모임의 식당
+     * 정규화한 주소가 같고 50m 안에 있는 식당이 있으면 그 식당, 없으면 새로 등록 (주소가 비어 있으면 null)
+     *
+     * 같은 주소를 동시에 등록하는 요청은 주소별 잠금 행으로 순서대로 처리 (잠금은 호출한 트랜잭션이 끝날 때 해제)
+     * 모임 트랜잭션 안에서 등록하므로 모임이 롤백되면 식당도 남지 않음
+     * 잠금을 잡은 뒤 다른 요청이 커밋한 식당을 읽어야 하므로 호출하는 트랜잭션은 READ COMMITTED
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Store findOrCreate(String name, String address, Point location) {
+
+        String normalizedAddress = StoreAddress.normalize(address);
+        if (normalizedAddress == null) {
+            return null;
+        }
+
+        storeRepository.lockAddress(normalizedAddress);
+
+        for (Store store : storeRepository.findByNormalizedAddress(normalizedAddress)) {
+            if (isNear(store, location)) {
+                return store;
+            }
+        }
+
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .address(address)
+                .normalizedAddress(normalizedAddress)
+                .location(location)
+                .build());
+    }
+
+    // 식당 정보
+    public StoreDto.Response getStore(Long storeId) {
+
+        Store store = validateStoreId(storeId);
+
+        long groupCount = rankingCounterRepository.findByTypeAndTargetId(RankingType.STORE, storeId)
+                .map(RankingCounter::getTotal)
+                .orElse(0L);
+
+        return StoreDto.Response.createStoreResponse(store, groupCount);
+    }
+
+    // 식당의 모임 목록 (최근 모임순)
+    public Page<SearchedGroupDto> getStoreGroups(Long storeId, Pageable pageable) {
+
+        validateStoreId(storeId);
+
+        return foodGroupRepository.findByStoreId(storeId, pageable);
+    }
+
+    private Store validateStoreId(Long storeId) {
+        return storeRepository.findById(storeId)
+                .orElseThrow(() -> new StoreException(Error.STORE_NOT_FOUND));
+    }
+
+    // 위치를 모르는 쪽이 있으면 주소만으로 판단
+    private static boolean isNear(Store store, Point location) {
+
+        if (store.getLocation() == null || location == null) {
+            return true;
+        }
+
+        return GroupLocationIndex.distance(store.getLocation().getY(), store.getLocation().getX(),
+                location.getY(), location.getX()) <= StoreAddress.SAME_STORE_DISTANCE_METER;
+    }
+
+}
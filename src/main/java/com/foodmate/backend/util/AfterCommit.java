@@ -0,0 +1,28 @@
+package com.foodmate.backend.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행
+ * 메모리에만 있는 상태 (검색 인덱스, 캐시, 카운터) 는 롤백되지 않으므로 DB 변경이 커밋된 뒤에 반영
+ * 트랜잭션 밖에서 호출하면 바로 실행
+ */
+public class AfterCommit {
+
+    public static void run(Runnable task) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.foodmate.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위도/경도를 0.05도 격자로 나눈 셀 번호
+ * FoodGroup.geocell 컬럼에 저장하여 B-tree 인덱스로 공간 검색 후보를 먼저 거르는 데 사용
+ * 셀 번호 = 행 * 100000 + 열 (V2 마이그레이션의 geocell 채우기와 같은 계산식)
+ */
+public class GeoCell {
+
+    public static final double CELL_DEGREE = 0.05;
+
+    // MySQL ST_Distance_Sphere 와 동일한 지구 반지름 (m)
+    private static final double EARTH_RADIUS_METER = 6370986;
+    private static final long ROW_UNIT = 100_000L;
+
+    public static Long of(double latitude, double longitude) {
+        return row(latitude) * ROW_UNIT + col(longitude);
+    }
+
+    /**
+     * @return 기준 좌표에서 반경 안의 모든 지점을 포함하는 셀 번호 목록
+     */
+    public static List<Long> covering(double latitude, double longitude, double radiusMeter) {
+
+        double latDelta = Math.toDegrees(radiusMeter / EARTH_RADIUS_METER);
+        // 구면 위 반경 안의 점이 가질 수 있는 최대 경도 차이
+        double lonDelta = Math.toDegrees(Math.asin(Math.min(1,
+                Math.sin(radiusMeter / EARTH_RADIUS_METER) / Math.cos(Math.toRadians(latitude)))));
+
+        List<Long> cells = new ArrayList<>();
+        for (long r = row(latitude - latDelta); r <= row(latitude + latDelta); r++) {
+            for (long c = col(longitude - lonDelta); c <= col(longitude + lonDelta); c++) {
+                cells.add(r * ROW_UNIT + c);
+            }
+        }
+        return cells;
+    }
+
+    private static long row(double latitude) {
+        return (long) Math.floor((latitude + 90) / CELL_DEGREE);
+    }
+
+    private static long col(double longitude) {
+        return (long) Math.floor((longitude + 180) / CELL_DEGREE);
+    }
+
+}
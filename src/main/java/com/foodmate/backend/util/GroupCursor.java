@@ -0,0 +1,76 @@
+package com.foodmate.backend.util;
+
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.exception.GroupException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 모임 목록 조회에서 이전 페이지 마지막 모임의 위치 (정렬 기준 값 + 모임 아이디)
+ * 클라이언트에는 내용을 알 수 없는 Base64 토큰으로 전달
+ */
+@Getter
+public class GroupCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String key;
+    private final Long groupId;
+
+    private GroupCursor(String key, Long groupId) {
+        this.key = key;
+        this.groupId = groupId;
+    }
+
+    public static String encode(LocalDateTime key, Long groupId) {
+        return encode(key.toString(), groupId);
+    }
+
+    public static String encode(double key, Long groupId) {
+        return encode(Double.toString(key), groupId);
+    }
+
+    /**
+     * @return 토큰이 비어있으면 (첫 페이지) null
+     */
+    public static GroupCursor decode(String token) {
+
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new GroupCursor(decoded.substring(0, index), Long.parseLong(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new GroupException(Error.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDateTime getDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new GroupException(Error.INVALID_CURSOR);
+        }
+    }
+
+    public double getDistance() {
+        try {
+            return Double.parseDouble(key);
+        } catch (NumberFormatException e) {
+            throw new GroupException(Error.INVALID_CURSOR);
+        }
+    }
+
+    private static String encode(String key, Long groupId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + DELIMITER + groupId).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.foodmate.backend.util;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 같은 식당을 찾기 위한 주소 정규화
+ * 시/도 표기 ("서울특별시" -> "서울"), 공백, 쉼표와 괄호, 대소문자 차이를 없애 같은 주소가 같은 문자열이 되도록 함
+ * 층, 호수 등 상세 주소는 그대로 남기므로 같은 건물의 다른 층 식당은 서로 다른 주소
+ */
+public class StoreAddress {
+
+    // 정규화한 주소가 같을 때 같은 식당으로 보는 최대 거리 (m)
+    public static final double SAME_STORE_DISTANCE_METER = 50;
+
+    private static final Map<String, String> PROVINCES = Map.ofEntries(
+            Map.entry("서울특별시", "서울"),
+            Map.entry("서울시", "서울"),
+            Map.entry("부산광역시", "부산"),
+            Map.entry("대구광역시", "대구"),
+            Map.entry("인천광역시", "인천"),
+            Map.entry("광주광역시", "광주"),
+            Map.entry("대전광역시", "대전"),
+            Map.entry("울산광역시", "울산"),
+            Map.entry("세종특별자치시", "세종"),
+            Map.entry("경기도", "경기"),
+            Map.entry("강원도", "강원"),
+            Map.entry("강원특별자치도", "강원"),
+            Map.entry("충청북도", "충북"),
+            Map.entry("충청남도", "충남"),
+            Map.entry("전라북도", "전북"),
+            Map.entry("전북특별자치도", "전북"),
+            Map.entry("전라남도", "전남"),
+            Map.entry("경상북도", "경북"),
+            Map.entry("경상남도", "경남"),
+            Map.entry("제주특별자치도", "제주"),
+            Map.entry("제주도", "제주"));
+
+    /**
+     * @return 정규화한 주소 (주소가 비어 있으면 null)
+     */
+    public static String normalize(String address) {
+
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+
+        String[] tokens = address.trim().split("\\s+");
+        tokens[0] = PROVINCES.getOrDefault(tokens[0], tokens[0]);
+
+        String joined = String.join("", tokens)
+                .replaceAll("[,()\\[\\]]", "")
+                .toLowerCase(Locale.ROOT);
+        return joined.isEmpty() ? null : joined;
+    }
+
+}
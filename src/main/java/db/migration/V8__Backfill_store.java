@@ -0,0 +1,166 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 기존 모임의 식당 채우기
+ * 주소 정규화와 거리 계산이 SQL 로는 어려워 Java 마이그레이션으로 작성
+ * 정규화한 주소가 같고 50m 안에 있는 모임은 같은 식당으로 합치고, 식당 이름, 주소, 위치는 가장 먼저 생성된 모임 기준
+ *
+ * 마이그레이션 결과가 이후 코드 변경에 따라 달라지지 않도록 애플리케이션 코드를 쓰지 않고
+ * 작성 시점의 StoreAddress.normalize, GroupLocationIndex.distance 를 그대로 복사해 사용
+ */
+public class V8__Backfill_store extends BaseJavaMigration {
+
+    private static final double SAME_STORE_DISTANCE_METER = 50;
+    private static final double EARTH_RADIUS_METER = 6370986;
+
+    private static final Map<String, String> PROVINCES = Map.ofEntries(
+            Map.entry("서울특별시", "서울"),
+            Map.entry("서울시", "서울"),
+            Map.entry("부산광역시", "부산"),
+            Map.entry("대구광역시", "대구"),
+            Map.entry("인천광역시", "인천"),
+            Map.entry("광주광역시", "광주"),
+            Map.entry("대전광역시", "대전"),
+            Map.entry("울산광역시", "울산"),
+            Map.entry("세종특별자치시", "세종"),
+            Map.entry("경기도", "경기"),
+            Map.entry("강원도", "강원"),
+            Map.entry("강원특별자치도", "강원"),
+            Map.entry("충청북도", "충북"),
+            Map.entry("충청남도", "충남"),
+            Map.entry("전라북도", "전북"),
+            Map.entry("전북특별자치도", "전북"),
+            Map.entry("전라남도", "전남"),
+            Map.entry("경상북도", "경북"),
+            Map.entry("경상남도", "경남"),
+            Map.entry("제주특별자치도", "제주"),
+            Map.entry("제주도", "제주"));
+
+    @Override
+    public void migrate(Context context) {
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        List<Row> rows = jdbcTemplate.query(
+                "SELECT id, store_name, store_address, ST_X(location) AS lon, ST_Y(location) AS lat " +
+                        "FROM food_group " +
+                        "WHERE store_id IS NULL " +
+                        "ORDER BY id",
+                (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("store_address"),
+                        (Double) rs.getObject("lat"), (Double) rs.getObject("lon")));
+
+        // 정규화 주소별로 먼저 나온 모임부터 가까운 식당에 합치고, 없으면 그 모임이 새 식당의 대표
+        Map<String, List<Row>> stores = new HashMap<>();
+        List<Row> representatives = new ArrayList<>();
+        for (Row row : rows) {
+            String normalizedAddress = normalize(row.address);
+            if (normalizedAddress == null) {
+                continue;
+            }
+
+            List<Row> candidates = stores.computeIfAbsent(normalizedAddress, key -> new ArrayList<>());
+            row.normalizedAddress = normalizedAddress;
+            row.representative = candidates.stream()
+                    .filter(candidate -> isNear(candidate, row))
+                    .findFirst()
+                    .orElse(row);
+
+            if (row.representative == row) {
+                candidates.add(row);
+                representatives.add(row);
+            }
+        }
+
+        for (Row representative : representatives) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "INSERT INTO store (name, address, normalized_address, location, created_date) " +
+                                "SELECT store_name, store_address, ?, location, NOW(6) " +
+                                "FROM food_group " +
+                                "WHERE id = ?", Statement.RETURN_GENERATED_KEYS);
+                statement.setString(1, representative.normalizedAddress);
+                statement.setLong(2, representative.groupId);
+                return statement;
+            }, keyHolder);
+            representative.storeId = keyHolder.getKey().longValue();
+        }
+
+        List<Object[]> updates = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.representative != null) {
+                updates.add(new Object[]{row.representative.storeId, row.groupId});
+            }
+        }
+        jdbcTemplate.batchUpdate("UPDATE food_group SET store_id = ? WHERE id = ?", updates);
+    }
+
+    // 위치를 모르는 쪽이 있으면 주소만으로 판단 (StoreService 와 같은 기준)
+    private static boolean isNear(Row a, Row b) {
+
+        if (a.latitude == null || b.latitude == null) {
+            return true;
+        }
+
+        return distance(a.latitude, a.longitude, b.latitude, b.longitude) <= SAME_STORE_DISTANCE_METER;
+    }
+
+    // 시/도 표기, 공백, 쉼표와 괄호, 대소문자 차이 제거 (주소가 비어 있으면 null)
+    private static String normalize(String address) {
+
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+
+        String[] tokens = address.trim().split("\\s+");
+        tokens[0] = PROVINCES.getOrDefault(tokens[0], tokens[0]);
+
+        String joined = String.join("", tokens)
+                .replaceAll("[,()\\[\\]]", "")
+                .toLowerCase(Locale.ROOT);
+        return joined.isEmpty() ? null : joined;
+    }
+
+    // 두 좌표 사이의 거리 (m, 하버사인)
+    private static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static class Row {
+        private final long groupId;
+        private final String address;
+        private final Double latitude;
+        private final Double longitude;
+        private String normalizedAddress;
+        private Row representative;
+        private Long storeId;
+
+        private Row(long groupId, String address, Double latitude, Double longitude) {
+            this.groupId = groupId;
+            this.address = address;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+
+}
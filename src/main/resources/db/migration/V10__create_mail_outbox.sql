@@ -0,0 +1,18 @@
+-- 메일 발송 대기열 - 회원가입, 비밀번호 초기화 트랜잭션에서 함께 저장하고 MailOutboxSender 가 모아서 발송
+CREATE TABLE mail_outbox
+(
+    id              bigint       NOT NULL AUTO_INCREMENT,
+    recipient       varchar(255) NOT NULL,
+    subject         varchar(255) NOT NULL,
+    text            text         NOT NULL,
+    status          varchar(20)  NOT NULL,
+    attempts        int          NOT NULL DEFAULT 0,
+    next_attempt_at datetime(6)  NOT NULL,
+    claim_token     varchar(36),
+    last_error      varchar(500),
+    created_date    datetime(6),
+    sent_date       datetime(6),
+    PRIMARY KEY (id),
+    INDEX idx_mail_outbox_status_next_attempt (status, next_attempt_at),
+    INDEX idx_mail_outbox_claim_token (claim_token)
+) ENGINE = InnoDB;
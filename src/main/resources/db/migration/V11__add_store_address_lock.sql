@@ -0,0 +1,56 @@
+-- 같은 식당 동시 등록 방지 - 정규화 주소별 잠금 행 (StoreService.findOrCreate)
+-- 같은 식당 기준 (정규화 주소가 같고 50m 안) 은 유니크 키로 표현할 수 없으므로, 같은 주소를 등록하는 요청끼리
+-- 이 행의 잠금으로 순서를 정하고 50m 비교는 잠금을 잡은 뒤 애플리케이션에서 (V8 백필과 같은 기준)
+CREATE TABLE store_address_lock
+(
+    normalized_address varchar(255) NOT NULL,
+    PRIMARY KEY (normalized_address)
+);
+
+-- 이미 중복 등록된 식당 정리 - 정규화 주소가 같고 50m 안 (한쪽이라도 위치를 모르면 주소만으로) 인 식당 중
+-- 더 먼저 등록된 같은 식당이 없는 식당 (기준 식당) 으로 합침
+-- 기준 식당끼리는 50m 보다 멀고, 기준 식당과 50m 안이 아닌 식당은 그대로 둠 (StoreService 와 같은 결과)
+CREATE TEMPORARY TABLE store_merge AS
+SELECT duplicate.id, MIN(kept.id) AS kept_id
+FROM store duplicate
+         JOIN store kept
+              ON kept.normalized_address = duplicate.normalized_address
+                  AND kept.id < duplicate.id
+                  AND (kept.location IS NULL OR duplicate.location IS NULL
+                      OR ST_Distance_Sphere(kept.location, duplicate.location) <= 50)
+WHERE NOT EXISTS (SELECT 1
+                  FROM store earlier
+                  WHERE earlier.normalized_address = kept.normalized_address
+                    AND earlier.id < kept.id
+                    AND (earlier.location IS NULL OR kept.location IS NULL
+                      OR ST_Distance_Sphere(earlier.location, kept.location) <= 50))
+GROUP BY duplicate.id;
+
+UPDATE food_group fg
+    JOIN store_merge merged
+    ON merged.id = fg.store_id
+SET fg.store_id = merged.kept_id;
+
+DELETE store
+FROM store
+         JOIN store_merge merged
+              ON merged.id = store.id;
+
+DROP TEMPORARY TABLE store_merge;
+
+-- 합친 식당 기준으로 식당 랭킹 카운터 다시 집계 (V9 와 같은 방식)
+DELETE
+FROM ranking_counter
+WHERE type = 'STORE';
+
+INSERT INTO ranking_counter (type, target_id, total)
+SELECT 'STORE', store_id, COUNT(*)
+FROM food_group
+WHERE is_ranked IS NOT NULL
+  AND store_id IS NOT NULL
+GROUP BY store_id;
+
+-- 이후 등록되는 주소는 StoreService 에서 잠금 행을 만듦
+INSERT INTO store_address_lock (normalized_address)
+SELECT DISTINCT normalized_address
+FROM store;
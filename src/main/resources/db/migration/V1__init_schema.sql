@@ -0,0 +1,144 @@
+-- 기존 ddl-auto: update 로 생성되던 스키마 (Flyway 도입 전 운영 DB 와 같아야 함 - 이후 변경은 V2 부터)
+-- 운영 DB 는 baseline-on-migrate 로 V1 을 적용된 것으로 기록하고 V2 부터 적용
+
+CREATE TABLE member
+(
+    id                bigint       NOT NULL AUTO_INCREMENT,
+    email             varchar(255),
+    nickname          varchar(255),
+    password          varchar(255),
+    image             varchar(255),
+    likes             bigint       NOT NULL,
+    member_role       varchar(255),
+    member_login_type varchar(255),
+    registered_date   datetime(6),
+    updated_date      datetime(6),
+    is_deleted        datetime(6),
+    ban_date          datetime(6),
+    email_auth_key    varchar(255),
+    email_auth_date   datetime(6),
+    is_email_auth     bit,
+    refresh_token     varchar(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE food
+(
+    id    bigint NOT NULL AUTO_INCREMENT,
+    type  varchar(255),
+    image varchar(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE food_group
+(
+    id              bigint NOT NULL AUTO_INCREMENT,
+    member_id       bigint,
+    title           varchar(255),
+    name            varchar(255),
+    content         longtext,
+    food_id         bigint,
+    group_date_time datetime(6),
+    maximum         integer NOT NULL,
+    attendance      integer NOT NULL,
+    store_name      varchar(255),
+    store_address   varchar(255),
+    location        POINT,
+    created_date    datetime(6),
+    is_deleted      datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_food_group_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_food_group_food FOREIGN KEY (food_id) REFERENCES food (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE enrollment
+(
+    id            bigint NOT NULL AUTO_INCREMENT,
+    member_id     bigint,
+    food_group_id bigint,
+    enroll_date   datetime(6),
+    status        varchar(255),
+    decision_date datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_enrollment_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_enrollment_food_group FOREIGN KEY (food_group_id) REFERENCES food_group (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comment
+(
+    id            bigint NOT NULL AUTO_INCREMENT,
+    food_group_id bigint,
+    member_id     bigint,
+    content       longtext,
+    created_date  datetime(6),
+    updated_date  datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_food_group FOREIGN KEY (food_group_id) REFERENCES food_group (id),
+    CONSTRAINT fk_comment_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reply
+(
+    id           bigint NOT NULL AUTO_INCREMENT,
+    comment_id   bigint,
+    member_id    bigint,
+    content      longtext,
+    created_date datetime(6),
+    updated_date datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reply_comment FOREIGN KEY (comment_id) REFERENCES comment (id),
+    CONSTRAINT fk_reply_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_room
+(
+    id            bigint  NOT NULL AUTO_INCREMENT,
+    food_group_id bigint,
+    attendance    integer NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_chat_room_food_group FOREIGN KEY (food_group_id) REFERENCES food_group (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_member
+(
+    id             bigint NOT NULL AUTO_INCREMENT,
+    member_id      bigint,
+    chat_room_id   bigint,
+    insert_time    datetime(6),
+    last_read_time datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_chat_member_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_chat_member_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_message
+(
+    id               bigint NOT NULL AUTO_INCREMENT,
+    chat_room_id     bigint,
+    member_id        bigint,
+    content          varchar(255),
+    create_date_time datetime(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_chat_message_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (id),
+    CONSTRAINT fk_chat_message_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE likes
+(
+    id       bigint NOT NULL AUTO_INCREMENT,
+    liked_id bigint,
+    liker_id bigint,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_likes_liked FOREIGN KEY (liked_id) REFERENCES member (id),
+    CONSTRAINT fk_likes_liker FOREIGN KEY (liker_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE preference
+(
+    id        bigint NOT NULL AUTO_INCREMENT,
+    member_id bigint,
+    food_id   bigint,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_preference_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_preference_food FOREIGN KEY (food_id) REFERENCES food (id)
+) ENGINE = InnoDB;
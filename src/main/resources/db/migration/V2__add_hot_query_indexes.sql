@@ -0,0 +1,96 @@
+-- 자주 실행되는 조회 조건에 맞춘 인덱스
+-- 조회 결과를 Optional 로 받는 컬럼 (이메일, 닉네임 등) 은 중복이 없어야 하므로 유니크 인덱스
+
+-- 유니크 인덱스를 만들기 전에 기존 중복 정리 (DDL 전이므로 아래 확인에서 실패하면 함께 롤백)
+
+-- 같은 채팅방 참여 중복 - 먼저 들어온 행만 남김
+DELETE duplicate
+FROM chat_member duplicate
+         JOIN chat_member kept
+              ON kept.member_id = duplicate.member_id
+                  AND kept.chat_room_id = duplicate.chat_room_id
+                  AND kept.id < duplicate.id;
+
+-- 같은 좋아요 중복 - 먼저 누른 행만 남김 (member.likes 는 LikesCounter 보정에서 맞춰짐)
+DELETE duplicate
+FROM likes duplicate
+         JOIN likes kept
+              ON kept.liked_id = duplicate.liked_id
+                  AND kept.liker_id = duplicate.liker_id
+                  AND kept.id < duplicate.id;
+
+-- 같은 리프레시 토큰 - 가장 최근 회원만 남기고 비움 (나머지는 다시 로그인)
+UPDATE member older
+    JOIN member newer
+    ON newer.refresh_token = older.refresh_token
+        AND newer.id > older.id
+SET older.refresh_token = NULL;
+
+-- 같은 이메일 인증 키 - 이미 인증한 회원은 키가 필요 없으므로 비움
+UPDATE member authed
+    JOIN member other
+    ON other.email_auth_key = authed.email_auth_key
+        AND other.id <> authed.id
+SET authed.email_auth_key = NULL
+WHERE authed.is_email_auth = 1;
+
+-- 자동으로 정리할 수 없는 중복 (같은 이메일, 닉네임, 인증 전 회원의 같은 인증 키) 이 남아 있으면 여기서 중단
+-- 실패한 제약 이름 (chk_v2_member_...) 으로 컬럼을 확인하고, 해당 회원을 직접 정리한 뒤 flyway repair 후 다시 기동
+CREATE TEMPORARY TABLE v2_member_duplicate_check
+(
+    email_duplicates          int NOT NULL,
+    nickname_duplicates       int NOT NULL,
+    email_auth_key_duplicates int NOT NULL,
+    CONSTRAINT chk_v2_member_email_unique CHECK (email_duplicates = 0),
+    CONSTRAINT chk_v2_member_nickname_unique CHECK (nickname_duplicates = 0),
+    CONSTRAINT chk_v2_member_email_auth_key_unique CHECK (email_auth_key_duplicates = 0)
+);
+
+INSERT INTO v2_member_duplicate_check
+SELECT (SELECT COUNT(*)
+        FROM (SELECT email FROM member WHERE email IS NOT NULL GROUP BY email HAVING COUNT(*) > 1) d),
+       (SELECT COUNT(*)
+        FROM (SELECT nickname FROM member WHERE nickname IS NOT NULL GROUP BY nickname HAVING COUNT(*) > 1) d),
+       (SELECT COUNT(*)
+        FROM (SELECT email_auth_key
+              FROM member
+              WHERE email_auth_key IS NOT NULL
+              GROUP BY email_auth_key
+              HAVING COUNT(*) > 1) d);
+
+DROP TEMPORARY TABLE v2_member_duplicate_check;
+
+-- 위치 기반 검색 시 후보를 먼저 거르기 위한 격자 셀 번호 (GeoCell)
+ALTER TABLE food_group ADD COLUMN geocell bigint;
+CREATE INDEX idx_food_group_geocell ON food_group (geocell, group_date_time);
+
+-- 커서 기반 목록 조회 정렬 기준 (InnoDB 보조 인덱스는 PK 를 포함하므로 (값, id) 순서로 탐색)
+CREATE INDEX idx_food_group_created_date ON food_group (created_date);
+CREATE INDEX idx_food_group_group_date_time ON food_group (group_date_time);
+
+-- 모임 목록 (isDeleted IS NULL AND groupDateTime 범위, createdDate 정렬)
+CREATE INDEX idx_food_group_deleted_date_time ON food_group (is_deleted, group_date_time, created_date);
+
+-- 모임 신청 이력, 참여자 확인 (member, foodGroup, status)
+CREATE INDEX idx_enrollment_member_group_status ON enrollment (member_id, food_group_id, status);
+
+-- 채팅방별 마지막 메시지, 안 읽은 메시지 수
+CREATE INDEX idx_chat_message_room_date_time ON chat_message (chat_room_id, create_date_time);
+
+-- 채팅방 참여자 확인, 나가기
+CREATE UNIQUE INDEX uk_chat_member_member_room ON chat_member (member_id, chat_room_id);
+
+-- 로그인, 회원가입 중복 확인, 토큰 재발급, 이메일 인증
+CREATE UNIQUE INDEX uk_member_email ON member (email);
+CREATE UNIQUE INDEX uk_member_nickname ON member (nickname);
+CREATE UNIQUE INDEX uk_member_refresh_token ON member (refresh_token);
+CREATE UNIQUE INDEX uk_member_email_auth_key ON member (email_auth_key);
+
+-- 좋아요 여부 확인, 받은 좋아요 수
+CREATE UNIQUE INDEX uk_likes_liked_liker ON likes (liked_id, liker_id);
+
+-- geocell 컬럼 추가 이전에 생성된 모임의 셀 번호 채우기 (GeoCell 과 같은 계산식)
+UPDATE food_group
+SET geocell = FLOOR((ST_Y(location) + 90) / 0.05) * 100000 + FLOOR((ST_X(location) + 180) / 0.05)
+WHERE geocell IS NULL
+  AND location IS NOT NULL;
@@ -0,0 +1,19 @@
+-- 증분 내보내기 (updatedSince) 를 위한 마지막 변경 일시
+-- 조건부 UPDATE, 일괄 UPDATE 처럼 엔티티를 거치지 않는 변경도 잡도록 DB 에서 갱신
+ALTER TABLE food_group
+    ADD COLUMN updated_date datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+ALTER TABLE enrollment
+    ADD COLUMN updated_date datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+-- 기존 데이터는 알고 있는 마지막 변경 일시로 채움 (컬럼을 직접 지정하면 ON UPDATE 는 적용되지 않음)
+UPDATE food_group
+SET updated_date = COALESCE(is_deleted, created_date, updated_date);
+
+UPDATE enrollment
+SET updated_date = COALESCE(decision_date, enroll_date, updated_date);
+
+-- 내보내기 (변경 일시, 아이디 순)
+CREATE INDEX idx_food_group_updated_date ON food_group (updated_date);
+CREATE INDEX idx_enrollment_updated_date ON enrollment (updated_date);
+CREATE INDEX idx_chat_message_create_date_time ON chat_message (create_date_time);
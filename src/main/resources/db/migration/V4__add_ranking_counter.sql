@@ -0,0 +1,45 @@
+-- 랭킹 카운터 (모임 완료, 완료된 모임 삭제 시 증감) - 랭킹 조회가 전체 모임 GROUP BY 대신 상위 N 개 인덱스 조회
+CREATE TABLE ranking_counter
+(
+    id            bigint       NOT NULL AUTO_INCREMENT,
+    type          varchar(20)  NOT NULL,
+    target_id     bigint       NOT NULL,
+    store_name    varchar(255) NOT NULL,
+    store_address varchar(255) NOT NULL,
+    total         bigint       NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE INDEX uk_ranking_counter_target (type, target_id, store_name, store_address),
+    INDEX idx_ranking_counter_type_total (type, total)
+) ENGINE = InnoDB;
+
+-- 랭킹에 반영한 일시 (NULL 이면 아직 반영 전, 같은 모임을 두 번 세거나 빼지 않기 위함)
+ALTER TABLE food_group
+    ADD COLUMN is_ranked datetime(6);
+
+CREATE INDEX idx_food_group_ranked_date_time ON food_group (is_ranked, group_date_time);
+
+-- 기존 데이터 집계 (기존 랭킹과 같이 지난 모임 중 삭제되지 않은 모임)
+UPDATE food_group
+SET is_ranked = NOW(6)
+WHERE group_date_time < NOW(6)
+  AND is_deleted IS NULL;
+
+INSERT INTO ranking_counter (type, target_id, store_name, store_address, total)
+SELECT 'MEETING', member_id, '', '', COUNT(*)
+FROM food_group
+WHERE is_ranked IS NOT NULL
+  AND member_id IS NOT NULL
+GROUP BY member_id;
+
+INSERT INTO ranking_counter (type, target_id, store_name, store_address, total)
+SELECT 'FOOD', food_id, '', '', COUNT(*)
+FROM food_group
+WHERE is_ranked IS NOT NULL
+  AND food_id IS NOT NULL
+GROUP BY food_id;
+
+INSERT INTO ranking_counter (type, target_id, store_name, store_address, total)
+SELECT 'STORE', 0, COALESCE(store_name, ''), COALESCE(store_address, ''), COUNT(*)
+FROM food_group
+WHERE is_ranked IS NOT NULL
+GROUP BY COALESCE(store_name, ''), COALESCE(store_address, '');
@@ -0,0 +1,2 @@
+-- 좋아요 랭킹 적재 (LikesLeaderboard), 적재 전 상위 10 명 조회가 회원 전체 정렬 대신 인덱스 역순 탐색
+CREATE INDEX idx_member_likes ON member (likes);
@@ -0,0 +1,6 @@
+-- 기간별 좋아요 랭킹 (WindowedRankingCounter) 을 위한 좋아요 일시
+-- 기존 좋아요는 일시를 알 수 없으므로 NULL (전체 기간 랭킹에만 포함)
+ALTER TABLE likes
+    ADD COLUMN created_date datetime(6);
+
+CREATE INDEX idx_likes_created_date ON likes (created_date);
@@ -0,0 +1,19 @@
+-- 식당 - 같은 식당의 모임을 식당 아이디로 묶어 랭킹, 식당별 모임 조회를 정수 키 인덱스로 집계
+CREATE TABLE store
+(
+    id                 bigint       NOT NULL AUTO_INCREMENT,
+    name               varchar(255),
+    address            varchar(255),
+    normalized_address varchar(255) NOT NULL,
+    location           POINT,
+    created_date       datetime(6),
+    PRIMARY KEY (id),
+    INDEX idx_store_normalized_address (normalized_address)
+) ENGINE = InnoDB;
+
+ALTER TABLE food_group
+    ADD COLUMN store_id bigint,
+    ADD CONSTRAINT fk_food_group_store FOREIGN KEY (store_id) REFERENCES store (id);
+
+-- 식당의 모임 목록 (최근 모임순)
+CREATE INDEX idx_food_group_store_date_time ON food_group (store_id, group_date_time);
@@ -0,0 +1,17 @@
+-- 식당 랭킹 카운터를 (식당 이름, 주소) 대신 식당 아이디 기준으로 다시 집계 (V8 에서 모임의 식당을 채운 뒤)
+DELETE
+FROM ranking_counter
+WHERE type = 'STORE';
+
+ALTER TABLE ranking_counter
+    DROP INDEX uk_ranking_counter_target,
+    DROP COLUMN store_name,
+    DROP COLUMN store_address,
+    ADD UNIQUE INDEX uk_ranking_counter_target (type, target_id);
+
+INSERT INTO ranking_counter (type, target_id, total)
+SELECT 'STORE', store_id, COUNT(*)
+FROM food_group
+WHERE is_ranked IS NOT NULL
+  AND store_id IS NOT NULL
+GROUP BY store_id;
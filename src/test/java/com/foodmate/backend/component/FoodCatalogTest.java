@@ -0,0 +1,83 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.Food;
+import com.foodmate.backend.repository.FoodRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FoodCatalogTest {
+
+    @Mock
+    private FoodRepository foodRepository;
+
+    @InjectMocks
+    private FoodCatalog foodCatalog;
+
+    @Test
+    @DisplayName("적재 후 아이디, 이름 조회는 DB 를 거치지 않음")
+    void findAfterLoad() {
+
+        //given
+        given(foodRepository.findAll()).willReturn(List.of(
+                new Food(1L, "치킨", "chicken.png"),
+                new Food(2L, "피자", "pizza.png")));
+
+        //when
+        foodCatalog.load();
+
+        //then
+        assertEquals("피자", foodCatalog.findById(2L).get().getType());
+        assertEquals(1L, foodCatalog.findByType("치킨").get().getId());
+        assertTrue(foodCatalog.existsByType("피자"));
+        assertFalse(foodCatalog.existsByType("치킨피자"));
+        assertFalse(foodCatalog.findById(3L).isPresent());
+
+        verify(foodRepository, times(0)).findByType("치킨피자");
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 변경된 음식 목록으로 교체")
+    void refresh() {
+
+        //given
+        given(foodRepository.findAll())
+                .willReturn(List.of(new Food(1L, "치킨", "chicken.png")))
+                .willReturn(List.of(new Food(1L, "양념치킨", "chicken.png")));
+        foodCatalog.load();
+
+        //when
+        foodCatalog.refresh();
+
+        //then
+        assertFalse(foodCatalog.existsByType("치킨"));
+        assertEquals("양념치킨", foodCatalog.findById(1L).get().getType());
+    }
+
+    @Test
+    @DisplayName("적재 전에는 DB 에서 조회")
+    void findBeforeLoad() {
+
+        //given
+        given(foodRepository.findByType("치킨")).willReturn(Optional.of(new Food(1L, "치킨", "chicken.png")));
+
+        //when, then
+        assertTrue(foodCatalog.existsByType("치킨"));
+        verify(foodRepository, times(1)).findByType("치킨");
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.GroupDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GroupDetailCacheTest {
+
+    private static final Instant NOW = Instant.parse("2023-11-01T09:00:00Z");
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 모임부터 제거")
+    void evictLeastRecentlyUsed() {
+
+        //given
+        GroupDetailCache cache = new GroupDetailCache(2, Duration.ofMinutes(10), Clock.fixed(NOW, ZoneId.of("UTC")));
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+
+        //when
+        cache.get(3L, this::load);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        //then
+        assertEquals(4, loadCount.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 조회")
+    void expireAfterTtl() {
+
+        //given
+        MutableClock clock = new MutableClock(NOW);
+        GroupDetailCache cache = new GroupDetailCache(10, Duration.ofMinutes(10), clock);
+        GroupDto.DetailResponse first = cache.get(1L, this::load);
+
+        //when
+        clock.now = NOW.plus(Duration.ofMinutes(9));
+        GroupDto.DetailResponse cached = cache.get(1L, this::load);
+        clock.now = NOW.plus(Duration.ofMinutes(10));
+        cache.get(1L, this::load);
+
+        //then
+        assertSame(first, cached);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("모임, 작성자 단위 무효화 - 조회 중에 무효화된 결과는 저장하지 않음")
+    void evict() {
+
+        //given
+        GroupDetailCache cache = new GroupDetailCache(10, Duration.ofMinutes(10), Clock.fixed(NOW, ZoneId.of("UTC")));
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(3L, this::load);
+
+        //when
+        cache.evict(1L);
+        cache.evictByMember(30L);
+        cache.get(4L, groupId -> {
+            cache.evict(4L);
+            return load(groupId);
+        });
+
+        //then
+        assertEquals(1, cache.size());
+        cache.get(2L, this::load);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    // 모임 아이디 x 10 을 작성자 아이디로 사용
+    private GroupDto.DetailResponse load(Long groupId) {
+        loadCount.incrementAndGet();
+        return GroupDto.DetailResponse.builder()
+                .groupId(groupId)
+                .memberId(groupId * 10)
+                .build();
+    }
+
+}
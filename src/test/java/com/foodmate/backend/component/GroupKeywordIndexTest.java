@@ -0,0 +1,80 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class GroupKeywordIndexTest {
+
+    @Mock
+    private FoodGroupRepository foodGroupRepository;
+
+    @InjectMocks
+    private GroupKeywordIndex groupKeywordIndex;
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Test
+    @DisplayName("검색어 검색 - 제목, 닉네임 부분 일치를 최신 생성순으로 반환")
+    void search() {
+
+        //given
+        groupKeywordIndex.put(createFoodGroup(1L, "치킨 먹을 사람", "닭다리", 1, 1));
+        groupKeywordIndex.put(createFoodGroup(2L, "마라탕 드실 분", "치킨러버", 1, 2));
+        groupKeywordIndex.put(createFoodGroup(3L, "Pizza Night", "피자왕", 1, 3));
+        groupKeywordIndex.put(createFoodGroup(5L, "파스타", "면요리", 1, 5));
+        groupKeywordIndex.put(createFoodGroup(4L, "점심 모임", "킨", 1, 4));
+
+        //when, then
+        assertEquals(List.of(2L, 1L), groupKeywordIndex.search("치킨", NOW, NOW.plusMonths(1)));
+        assertEquals(List.of(4L, 2L, 1L), groupKeywordIndex.search("킨", NOW, NOW.plusMonths(1)));
+        assertEquals(List.of(3L), groupKeywordIndex.search("pizza", NOW, NOW.plusMonths(1)));
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), groupKeywordIndex.search("", NOW, NOW.plusMonths(1)));
+        assertTrue(groupKeywordIndex.search("치킨피자", NOW, NOW.plusMonths(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("모임 수정, 삭제, 기간 만료 반영")
+    void putAndRemove() {
+
+        //given
+        groupKeywordIndex.put(createFoodGroup(1L, "치킨 먹을 사람", "닭다리", 1, 1));
+        groupKeywordIndex.put(createFoodGroup(2L, "치킨 먹을 사람", "닭다리", 1, 2));
+        groupKeywordIndex.put(createFoodGroup(3L, "치킨 먹을 사람", "닭다리", 5, 3));
+
+        //when
+        groupKeywordIndex.put(createFoodGroup(3L, "피자 먹을 사람", "닭다리", 5, 3));
+        groupKeywordIndex.remove(2L);
+        groupKeywordIndex.removeExpired(NOW.plusDays(2));
+
+        //then
+        assertTrue(groupKeywordIndex.search("치킨", NOW, NOW.plusMonths(1)).isEmpty());
+        assertEquals(List.of(3L), groupKeywordIndex.search("피자", NOW, NOW.plusMonths(1)));
+    }
+
+    private FoodGroup createFoodGroup(Long groupId, String title, String nickname,
+                                      int plusDays, int createdMinutes) {
+        FoodGroup foodGroup = FoodGroup.builder()
+                .id(groupId)
+                .title(title)
+                .member(Member.builder().nickname(nickname).build())
+                .groupDateTime(NOW.plusDays(plusDays))
+                .build();
+        foodGroup.setCreatedDate(NOW.minusDays(1).plusMinutes(createdMinutes));
+        return foodGroup;
+    }
+
+}
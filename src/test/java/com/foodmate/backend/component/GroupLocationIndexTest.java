@@ -0,0 +1,161 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class GroupLocationIndexTest {
+
+    @Mock
+    private FoodGroupRepository foodGroupRepository;
+
+    @InjectMocks
+    private GroupLocationIndex groupLocationIndex;
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Test
+    @DisplayName("반경 검색 - 반경 안의 모임만 가까운 순으로 반환")
+    void findWithinRadius() {
+
+        //given - 홍대입구역 기준
+        groupLocationIndex.put(createFoodGroup(1L, 37.5571, 126.9245, 1));   // 약 10m
+        groupLocationIndex.put(createFoodGroup(2L, 37.5558, 126.9236, 1));   // 약 170m
+        groupLocationIndex.put(createFoodGroup(3L, 37.5665, 126.9780, 1));   // 서울시청, 약 4.8km
+        groupLocationIndex.put(createFoodGroup(4L, 37.4979, 127.0276, 1));   // 강남역, 10km 이상
+
+        //when
+        List<Long> result = groupLocationIndex.findWithinRadius(37.5572, 126.9245, 5000,
+                NOW, NOW.plusMonths(1));
+
+        //then
+        assertEquals(List.of(1L, 2L, 3L), result);
+    }
+
+    @Test
+    @DisplayName("가까운 순 k개 검색 - 전체 비교 결과와 동일")
+    void findNearest() {
+
+        //given
+        Random random = new Random(7);
+        List<FoodGroup> groups = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            FoodGroup group = createFoodGroup(id, 37.3 + random.nextDouble() * 0.5,
+                    126.7 + random.nextDouble() * 0.6, random.nextInt(20) + 1);
+            groups.add(group);
+            groupLocationIndex.put(group);
+        }
+        double latitude = 37.55;
+        double longitude = 127.0;
+        LocalDateTime start = NOW.plusDays(3);
+        LocalDateTime end = NOW.plusDays(15);
+
+        //when
+        List<Long> result = groupLocationIndex.findNearest(latitude, longitude, 30, start, end);
+
+        //then
+        List<Long> expected = groups.stream()
+                .filter(group -> !group.getGroupDateTime().isBefore(start) && !group.getGroupDateTime().isAfter(end))
+                .sorted(Comparator.comparingDouble((FoodGroup group) -> GroupLocationIndex.distance(
+                                latitude, longitude, group.getLocation().getY(), group.getLocation().getX()))
+                        .thenComparing(FoodGroup::getId))
+                .limit(30)
+                .map(FoodGroup::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    @DisplayName("커서 이후 검색 - 페이지를 이어붙이면 한 번에 조회한 결과와 동일")
+    void findAfterCursor() {
+
+        //given
+        Random random = new Random(11);
+        for (long id = 1; id <= 500; id++) {
+            groupLocationIndex.put(createFoodGroup(id, 37.5 + random.nextDouble() * 0.1,
+                    126.9 + random.nextDouble() * 0.1, 1));
+        }
+        double latitude = 37.55;
+        double longitude = 126.95;
+        LocalDateTime end = NOW.plusMonths(1);
+
+        //when
+        List<Long> nearest = new ArrayList<>();
+        List<Long> withinRadius = new ArrayList<>();
+        double nearestDistance = -1;
+        double radiusDistance = -1;
+        Long nearestId = 0L;
+        Long radiusId = 0L;
+        for (int page = 0; page < 10; page++) {
+            Map<Long, Double> nearestPage = groupLocationIndex.findNearest(latitude, longitude, 25, NOW, end,
+                    nearestDistance, nearestId);
+            Map<Long, Double> radiusPage = groupLocationIndex.findWithinRadius(latitude, longitude, 3000, NOW, end,
+                    radiusDistance, radiusId, 25);
+
+            for (Map.Entry<Long, Double> entry : nearestPage.entrySet()) {
+                nearest.add(entry.getKey());
+                nearestId = entry.getKey();
+                nearestDistance = entry.getValue();
+            }
+            for (Map.Entry<Long, Double> entry : radiusPage.entrySet()) {
+                withinRadius.add(entry.getKey());
+                radiusId = entry.getKey();
+                radiusDistance = entry.getValue();
+            }
+        }
+
+        //then
+        assertEquals(groupLocationIndex.findNearest(latitude, longitude, 250, NOW, end), nearest);
+        assertEquals(groupLocationIndex.findWithinRadius(latitude, longitude, 3000, NOW, end), withinRadius);
+    }
+
+    @Test
+    @DisplayName("모임 수정, 삭제, 기간 만료 반영")
+    void putAndRemove() {
+
+        //given
+        groupLocationIndex.put(createFoodGroup(1L, 37.5571, 126.9245, 1));
+        groupLocationIndex.put(createFoodGroup(2L, 37.5571, 126.9245, 1));
+        groupLocationIndex.put(createFoodGroup(3L, 37.5571, 126.9245, 1));
+
+        //when
+        groupLocationIndex.put(createFoodGroup(1L, 37.4979, 127.0276, 5));   // 강남역으로 장소, 일시 변경
+        groupLocationIndex.remove(2L);
+        groupLocationIndex.removeExpired(NOW.plusDays(2));
+
+        //then
+        assertTrue(groupLocationIndex.findWithinRadius(37.5571, 126.9245, 1000,
+                NOW, NOW.plusMonths(1)).isEmpty());
+        assertEquals(List.of(1L), groupLocationIndex.findNearest(37.5571, 126.9245, 10,
+                NOW, NOW.plusMonths(1)));
+    }
+
+    private FoodGroup createFoodGroup(Long groupId, double latitude, double longitude, int plusDays) {
+        return FoodGroup.builder()
+                .id(groupId)
+                .groupDateTime(NOW.plusDays(plusDays))
+                .location(new GeometryFactory().createPoint(new Coordinate(longitude, latitude)))
+                .build();
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.GroupSearchCondition;
+import com.foodmate.backend.dto.SearchedGroupDto;
+import com.foodmate.backend.entity.Food;
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class GroupSearchPlannerTest {
+
+    @Mock
+    private FoodGroupRepository foodGroupRepository;
+
+    private UpcomingGroupStore upcomingGroupStore;
+    private GroupKeywordIndex groupKeywordIndex;
+    private GroupLocationIndex groupLocationIndex;
+    private GroupSearchPlanner groupSearchPlanner;
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    // 홍대입구역
+    private static final double LATITUDE = 37.5571;
+    private static final double LONGITUDE = 126.9245;
+
+    @BeforeEach
+    void setUp() {
+        upcomingGroupStore = new UpcomingGroupStore(foodGroupRepository);
+        groupKeywordIndex = new GroupKeywordIndex(foodGroupRepository);
+        groupLocationIndex = new GroupLocationIndex(foodGroupRepository);
+        groupSearchPlanner = new GroupSearchPlanner(upcomingGroupStore, groupKeywordIndex, groupLocationIndex);
+
+        // 적재 시점에 예정된 모임은 없음
+        upcomingGroupStore.load();
+        groupKeywordIndex.load();
+        groupLocationIndex.load();
+
+        // 홍대 근처 한식 모임 14 개, 강남역 근처 중식 모임 6 개 (마지막 하나만 라멘)
+        for (long id = 1; id <= 14; id++) {
+            put(createFoodGroup(id, "국밥 먹을 사람", "한식", LATITUDE, LONGITUDE, (int) id, id == 3 ? 4 : 1));
+        }
+        for (long id = 15; id <= 20; id++) {
+            put(createFoodGroup(id, id == 20 ? "라멘 먹을 사람" : "짜장면 먹을 사람", "중식",
+                    37.4979, 127.0276, (int) id, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("후보 수가 가장 적은 접근 경로 선택")
+    void plan() {
+        assertEquals(GroupSearchPlanner.AccessPath.LATEST, groupSearchPlanner.plan(condition().build()));
+        assertEquals(GroupSearchPlanner.AccessPath.FOOD, groupSearchPlanner.plan(condition()
+                .foods(List.of("한식")).build()));
+        assertEquals(GroupSearchPlanner.AccessPath.KEYWORD, groupSearchPlanner.plan(condition()
+                .keyword("라멘").build()));
+        assertEquals(GroupSearchPlanner.AccessPath.LOCATION, groupSearchPlanner.plan(condition()
+                .latitude(37.4979).longitude(127.0276).radius(1000).build()));
+        assertEquals(GroupSearchPlanner.AccessPath.DATE, groupSearchPlanner.plan(condition()
+                .start(NOW.plusDays(2)).end(NOW.plusDays(4)).build()));
+    }
+
+    @Test
+    @DisplayName("모든 조건을 만족하는 모임만 최신 생성순으로 커서 이후 이어서 조회")
+    void search() {
+
+        //given - 홍대 반경 1km, 한식, 5일 이내, 참여 가능
+        GroupSearchCondition condition = condition()
+                .keyword("국밥")
+                .foods(List.of("한식"))
+                .end(NOW.plusDays(5).plusHours(1))
+                .latitude(LATITUDE)
+                .longitude(LONGITUDE)
+                .radius(1000)
+                .available(true)
+                .build();
+
+        //when
+        List<SearchedGroupDto> first = groupSearchPlanner.search(condition, null, null, 2);
+        SearchedGroupDto last = first.get(first.size() - 1);
+        List<SearchedGroupDto> next = groupSearchPlanner.search(condition,
+                last.getCreatedDate(), last.getGroupId(), 10);
+
+        //then
+        assertEquals(List.of(5L, 4L), groupIds(first));
+        assertEquals(List.of(2L, 1L), groupIds(next));
+        assertEquals(List.of(20L), groupIds(groupSearchPlanner.search(condition()
+                .keyword("라멘").foods(List.of("중식")).build(), null, null, 10)));
+    }
+
+    private GroupSearchCondition.GroupSearchConditionBuilder condition() {
+        return GroupSearchCondition.builder()
+                .foods(List.of())
+                .start(NOW)
+                .end(NOW.plusMonths(1))
+                .radius(5000);
+    }
+
+    private void put(FoodGroup foodGroup) {
+        upcomingGroupStore.put(foodGroup);
+        groupKeywordIndex.put(foodGroup);
+        groupLocationIndex.put(foodGroup);
+    }
+
+    private List<Long> groupIds(List<SearchedGroupDto> groups) {
+        return groups.stream().map(SearchedGroupDto::getGroupId).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private FoodGroup createFoodGroup(Long groupId, String title, String food, double latitude, double longitude,
+                                      int plusDays, int attendance) {
+        FoodGroup foodGroup = FoodGroup.builder()
+                .id(groupId)
+                .title(title)
+                .member(Member.builder().id(groupId).nickname("회원 " + groupId).build())
+                .food(Food.builder().type(food).build())
+                .groupDateTime(NOW.plusDays(plusDays))
+                .location(new GeometryFactory().createPoint(new Coordinate(longitude, latitude)))
+                .maximum(4)
+                .attendance(attendance)
+                .build();
+        foodGroup.setCreatedDate(NOW.minusDays(1).plusMinutes(groupId));
+        return foodGroup;
+    }
+
+}
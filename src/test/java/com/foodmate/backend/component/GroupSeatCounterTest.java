@@ -0,0 +1,74 @@
+package com.foodmate.backend.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupSeatCounterTest {
+
+    private static final int REQUEST_COUNT = 1000;
+
+    private final GroupSeatCounter groupSeatCounter = new GroupSeatCounter();
+
+    @Test
+    @DisplayName("동시에 1000 번 예약해도 남은 자리 수만큼만 성공")
+    void tryReserve_concurrently() throws InterruptedException {
+
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger reserved = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    if (groupSeatCounter.tryReserve(1L, 1, 8)) {
+                        reserved.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        //then
+        assertEquals(7, reserved.get());
+        assertFalse(groupSeatCounter.hasSeat(1L, 1, 8));
+    }
+
+    @Test
+    @DisplayName("카운터를 제거하면 다음 요청의 모임 정보로 다시 채움")
+    void remove() {
+
+        //given
+        assertTrue(groupSeatCounter.tryReserve(1L, 7, 8));
+        assertFalse(groupSeatCounter.tryReserve(1L, 7, 8));
+
+        //when
+        groupSeatCounter.remove(1L);
+
+        //then
+        assertTrue(groupSeatCounter.hasSeat(1L, 2, 4));
+        assertTrue(groupSeatCounter.tryReserve(1L, 2, 4));
+        assertTrue(groupSeatCounter.tryReserve(1L, 2, 4));
+        assertFalse(groupSeatCounter.tryReserve(1L, 2, 4));
+    }
+
+}
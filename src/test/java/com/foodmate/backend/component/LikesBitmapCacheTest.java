@@ -0,0 +1,127 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.repository.LikesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LikesBitmapCacheTest {
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @InjectMocks
+    private LikesBitmapCache likesBitmapCache;
+
+    @Test
+    @DisplayName("처음 조회할 때만 Likes 에서 읽고 이후에는 비트맵으로 응답")
+    void isLiked() {
+
+        //given
+        given(likesRepository.findLikerIds(1L)).willReturn(List.of(2L, 3L, 100000L));
+
+        //when
+        boolean liked = likesBitmapCache.isLiked(member(1L), member(2L));
+        boolean notLiked = likesBitmapCache.isLiked(member(1L), member(4L));
+        long count = likesBitmapCache.count(member(1L));
+
+        //then
+        assertTrue(liked);
+        assertFalse(notLiked);
+        assertEquals(3, count);
+        assertEquals(1, likesBitmapCache.getMissCount());
+        assertEquals(2, likesBitmapCache.getHitCount());
+        verify(likesRepository, times(1)).findLikerIds(1L);
+        verify(likesRepository, never()).findByLikedAndLiker(any(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요, 좋아요 취소를 비트맵에 반영 (캐시에 없는 회원은 무시)")
+    void update() {
+
+        //given
+        given(likesRepository.findLikerIds(1L)).willReturn(List.of(2L));
+        likesBitmapCache.count(member(1L));
+
+        //when
+        likesBitmapCache.update(1L, 3L, true);
+        likesBitmapCache.update(1L, 2L, false);
+        likesBitmapCache.update(5L, 2L, true);
+
+        //then
+        assertTrue(likesBitmapCache.isLiked(member(1L), member(3L)));
+        assertFalse(likesBitmapCache.isLiked(member(1L), member(2L)));
+        assertEquals(1, likesBitmapCache.count(member(1L)));
+        assertEquals(1, likesBitmapCache.size());
+    }
+
+    @Test
+    @DisplayName("읽는 중에 좋아요가 커밋되면 읽은 비트맵은 이번 응답에만 쓰고 다음 조회 때 다시 읽음")
+    void update_whileLoading() {
+
+        //given - 읽는 중 (좋아요 반영 전 결과) 에 좋아요 커밋
+        given(likesRepository.findLikerIds(1L))
+                .willAnswer(invocation -> {
+                    likesBitmapCache.update(1L, 3L, true);
+                    return List.of(2L);
+                })
+                .willReturn(List.of(2L, 3L));
+
+        //when
+        long stale = likesBitmapCache.count(member(1L));
+        long reloaded = likesBitmapCache.count(member(1L));
+
+        //then
+        assertEquals(1, stale);
+        assertEquals(2, reloaded);
+        assertTrue(likesBitmapCache.isLiked(member(1L), member(3L)));
+        verify(likesRepository, times(2)).findLikerIds(1L);
+    }
+
+    @Test
+    @DisplayName("회원 수가 한도를 넘으면 가장 오래 조회되지 않은 회원부터 제거")
+    void evict() {
+
+        //given
+        given(likesRepository.findLikerIds(anyLong())).willReturn(List.of(1L));
+        for (long memberId = 1; memberId <= LikesBitmapCache.MAX_MEMBERS; memberId++) {
+            likesBitmapCache.count(member(memberId));
+        }
+        likesBitmapCache.count(member(1L));
+
+        //when
+        likesBitmapCache.count(member(LikesBitmapCache.MAX_MEMBERS + 1L));
+
+        //then
+        assertEquals(LikesBitmapCache.MAX_MEMBERS, likesBitmapCache.size());
+        assertEquals(1, likesBitmapCache.getEvictionCount());
+
+        // 1 번은 최근에 조회해서 남아 있고 2 번이 제거됨
+        likesBitmapCache.count(member(1L));
+        likesBitmapCache.count(member(2L));
+        verify(likesRepository, times(1)).findLikerIds(1L);
+        verify(likesRepository, times(2)).findLikerIds(2L);
+    }
+
+    private static Member member(Long memberId) {
+        return Member.builder().id(memberId).build();
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LikesCounterTest {
+
+    private static final int REQUEST_COUNT = 1000;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private LikesCounter likesCounter;
+
+    @Test
+    @DisplayName("동시에 1000 번 좋아요 하는 동안 반영해도 증감이 사라지지 않음")
+    void add_concurrently() throws InterruptedException {
+
+        //given
+        AtomicLong flushed = new AtomicLong();
+        willAnswer(invocation -> {
+            long delta = invocation.getArgument(0);
+            Collection<Long> memberIds = invocation.getArgument(1);
+            flushed.addAndGet(delta * memberIds.size());
+            return memberIds.size();
+        }).given(memberRepository).addLikes(anyLong(), anyCollection());
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+
+        //when
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    likesCounter.add(1L, 1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        while (done.getCount() > 0) {
+            likesCounter.flush();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        likesCounter.flush();
+
+        //then
+        assertEquals(REQUEST_COUNT, flushed.get());
+        assertEquals(0, likesCounter.get(Member.builder().id(1L).build()));
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감은 다음 반영 때 다시 시도")
+    void flush_failed() {
+
+        //given
+        likesCounter.add(1L, 1);
+        likesCounter.add(2L, 1);
+        likesCounter.add(3L, -1);
+        willAnswer(invocation -> {
+            if ((long) invocation.getArgument(0) == 1L) {
+                throw new RuntimeException("DB error");
+            }
+            return 1;
+        }).given(memberRepository).addLikes(anyLong(), anyCollection());
+
+        //when
+        likesCounter.flush();
+
+        //then
+        assertEquals(11, likesCounter.get(Member.builder().id(1L).likes(10).build()));
+        assertEquals(9, likesCounter.get(Member.builder().id(3L).likes(10).build()));
+        verify(memberRepository, times(1)).addLikes(1L, List.of(1L, 2L));
+        verify(memberRepository, times(1)).addLikes(-1L, List.of(3L));
+    }
+
+    @Test
+    @DisplayName("좋아요 수 보정 - 반영 대기 중인 증감이 있는 회원은 건너뜀")
+    void reconcile() {
+
+        //given
+        likesCounter.add(2L, 1);
+        willThrow(new RuntimeException("DB error")).given(memberRepository).addLikes(1L, List.of(2L));
+        given(memberRepository.findLikesMismatches()).willReturn(List.of(
+                new Object[]{1L, 5L, 3L},
+                new Object[]{2L, 7L, 8L}));
+        given(memberRepository.reconcileLikes(1L, 5L, 3L)).willReturn(1);
+
+        //when
+        likesCounter.reconcile();
+
+        //then
+        verify(memberRepository, times(1)).reconcileLikes(1L, 5L, 3L);
+        verify(memberRepository, never()).reconcileLikes(2L, 7L, 8L);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.RankingDto;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LikesLeaderboardTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private LikesLeaderboard likesLeaderboard;
+
+    // 회원 50 명, 아이디만큼 좋아요
+    private final List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 50; id++) {
+            members.add(Member.builder().id(id).nickname("회원 " + id).likes(id).build());
+        }
+        given(memberRepository.findAllByOrderByLikesDesc(any())).willAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            return members.stream()
+                    .sorted(Comparator.comparingLong(Member::getLikes).reversed())
+                    .limit(pageable.getPageSize())
+                    .collect(Collectors.toList());
+        });
+
+        likesLeaderboard = new LikesLeaderboard(memberRepository);
+        likesLeaderboard.load();
+    }
+
+    @Test
+    @DisplayName("좋아요가 늘어난 회원은 DB 조회 없이 순위에 반영")
+    void update_increase() {
+
+        //given
+        Member member = members.get(0);
+        member.setLikes(100);
+
+        //when
+        likesLeaderboard.update(member);
+
+        //then
+        assertEquals(List.of(1L, 50L, 49L, 48L, 47L, 46L, 45L, 44L, 43L, 42L), memberIds());
+        assertEquals(100, likesLeaderboard.getRanking().get(0).getLikesCount());
+        verify(memberRepository, times(1)).findAllByOrderByLikesDesc(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소로 추적하지 않던 회원이 상위에 들 수 있으면 DB 에서 다시 적재")
+    void update_decrease() {
+
+        //when - 추적 중인 상위 40 명의 좋아요를 모두 취소
+        for (int i = 49; i >= 10; i--) {
+            Member member = members.get(i);
+            member.setLikes(0);
+            likesLeaderboard.update(member);
+        }
+
+        //then
+        assertEquals(List.of(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L), memberIds());
+        verify(memberRepository, atLeast(2)).findAllByOrderByLikesDesc(any());
+    }
+
+    private List<Long> memberIds() {
+        return likesLeaderboard.getRanking().stream()
+                .map(RankingDto.Likes::getMemberId)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.foodmate.backend.component;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LruTtlCacheTest {
+
+    private static final Instant NOW = Instant.parse("2023-11-01T09:00:00Z");
+
+    private final LruTtlCache<Long, String> cache =
+            new LruTtlCache<>(2, Duration.ofMinutes(10), new MutableClock(NOW), value -> "alias-" + value);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("보조 키로 조회 - LRU 로 제거되면 보조 키도 제거")
+    void getIfPresentByAlias() {
+
+        //given
+        cache.get(1L, key -> "a");
+        cache.get(2L, key -> "b");
+
+        //when
+        String byAlias = cache.getIfPresentByAlias("alias-a");
+        cache.get(3L, key -> "c");
+
+        //then
+        assertEquals("a", byAlias);
+        assertNull(cache.getIfPresentByAlias("alias-b"));
+        assertEquals("c", cache.getIfPresentByAlias("alias-c"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 전에 다시 저장된 이전 값도 커밋 후 무효화")
+    void evict_afterCommit() {
+
+        //given
+        cache.get(1L, key -> "a");
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when - 무효화 후 커밋 전에 다른 요청이 이전 값을 다시 저장
+        cache.evict(1L);
+        cache.get(1L, key -> "a");
+        String beforeCommit = cache.getIfPresent(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        //then
+        assertEquals("a", beforeCommit);
+        assertNull(cache.getIfPresent(1L));
+        assertNull(cache.getIfPresentByAlias("alias-a"));
+    }
+
+}
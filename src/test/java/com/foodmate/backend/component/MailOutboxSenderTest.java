@@ -0,0 +1,155 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.MailOutbox;
+import com.foodmate.backend.enums.MailOutboxStatus;
+import com.foodmate.backend.repository.MailOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    private MailOutboxSender mailOutboxSender;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxSender = new MailOutboxSender(mailOutboxRepository, mailSender(ServerSetupTest.SMTP.getPort()));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailOutboxSender.shutdown();
+    }
+
+    @Test
+    @DisplayName("가져간 메일을 한 번에 발송하고 발송 완료 처리")
+    void sendBatch() throws Exception {
+
+        //given
+        MailOutbox first = mailOutbox(1L, "first@foodmate.com", 0);
+        MailOutbox second = mailOutbox(2L, "second@foodmate.com", 0);
+        given(mailOutboxRepository.findByClaimToken("token")).willReturn(List.of(first, second));
+
+        //when
+        mailOutboxSender.sendBatch("token");
+
+        //then
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("FoodMate 회원가입 인증 메일", received[0].getSubject());
+        assertTrue(GreenMailUtil.getBody(received[0]).contains("인증"));
+
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(mailOutboxRepository, times(1)).markSent(captor.capture(), any(LocalDateTime.class));
+        assertTrue(captor.getValue().containsAll(List.of(1L, 2L)));
+        verify(mailOutboxRepository, never()).save(any());
+        assertEquals(2, mailOutboxSender.getSentCount());
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 대기 상태로 되돌리고 다음 발송 시각을 뒤로 미룸")
+    void fail_sendBatch_retry() {
+
+        //given - 열려 있지 않은 포트
+        mailOutboxSender = new MailOutboxSender(mailOutboxRepository, mailSender(ServerSetupTest.SMTP.getPort() + 1));
+        MailOutbox mail = mailOutbox(1L, "first@foodmate.com", 0);
+        given(mailOutboxRepository.findByClaimToken("token")).willReturn(List.of(mail));
+
+        //when
+        LocalDateTime before = LocalDateTime.now();
+        mailOutboxSender.sendBatch("token");
+
+        //then
+        assertEquals(MailOutboxStatus.PENDING, mail.getStatus());
+        assertEquals(1, mail.getAttempts());
+        assertNotNull(mail.getLastError());
+        assertTrue(mail.getNextAttemptAt().isAfter(before.plusSeconds(29)));
+        verify(mailOutboxRepository, times(1)).save(mail);
+        verify(mailOutboxRepository, never()).markSent(anyCollection(), any());
+        assertEquals(1, mailOutboxSender.getFailedCount());
+        assertEquals(0, mailOutboxSender.getDeadCount());
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 최대 횟수만큼 실패하면 DEAD")
+    void fail_sendBatch_dead() {
+
+        //given
+        mailOutboxSender = new MailOutboxSender(mailOutboxRepository, mailSender(ServerSetupTest.SMTP.getPort() + 1));
+        MailOutbox mail = mailOutbox(1L, "first@foodmate.com", MailOutboxSender.MAX_ATTEMPTS - 1);
+        given(mailOutboxRepository.findByClaimToken("token")).willReturn(List.of(mail));
+
+        //when
+        mailOutboxSender.sendBatch("token");
+
+        //then
+        assertEquals(MailOutboxStatus.DEAD, mail.getStatus());
+        assertEquals(MailOutboxSender.MAX_ATTEMPTS, mail.getAttempts());
+        verify(mailOutboxRepository, times(1)).save(mail);
+        assertEquals(1, mailOutboxSender.getDeadCount());
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간 - 30 초부터 두 배씩, 최대 30 분")
+    void backoff() {
+        assertEquals(30, MailOutboxSender.backoff(1).getSeconds());
+        assertEquals(60, MailOutboxSender.backoff(2).getSeconds());
+        assertEquals(240, MailOutboxSender.backoff(4).getSeconds());
+        assertEquals(30 * 60, MailOutboxSender.backoff(10).getSeconds());
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        mailSender.getJavaMailProperties().put("mail.smtp.timeout", "2000");
+        return mailSender;
+    }
+
+    private static MailOutbox mailOutbox(Long id, String recipient, int attempts) {
+        return MailOutbox.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("FoodMate 회원가입 인증 메일")
+                .text("<p>인증 링크를 눌러주세요.</p>")
+                .status(MailOutboxStatus.SENDING)
+                .attempts(attempts)
+                .claimToken("token")
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+
+}
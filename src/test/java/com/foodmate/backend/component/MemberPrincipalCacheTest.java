@@ -0,0 +1,118 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.enums.MemberRole;
+import com.foodmate.backend.exception.MemberException;
+import com.foodmate.backend.repository.MemberRepository;
+import com.foodmate.backend.security.dto.MemberPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberPrincipalCacheTest {
+
+    private static final String EMAIL = "dlaehdgus23@naver.com";
+    private static final Instant NOW = Instant.parse("2023-10-01T12:00:00Z");
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    private MemberPrincipalCache memberPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        memberPrincipalCache = new MemberPrincipalCache(memberRepository, clock);
+    }
+
+    @Test
+    @DisplayName("아이디로 한 번 조회하면 아이디, 이메일 모두 캐시에서 응답")
+    void findById() {
+
+        //given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(createMember()));
+
+        //when
+        MemberPrincipal byId = memberPrincipalCache.findById(1L).orElseThrow();
+        MemberPrincipal byIdAgain = memberPrincipalCache.findById(1L).orElseThrow();
+        MemberPrincipal byEmail = memberPrincipalCache.findByEmail(EMAIL).orElseThrow();
+
+        //then
+        assertEquals(EMAIL, byId.getEmail());
+        assertEquals(MemberRole.USER, byId.getMemberRole());
+        assertFalse(byId.isDeleted());
+        assertEquals(byId, byIdAgain);
+        assertEquals(byId, byEmail);
+        verify(memberRepository, times(1)).findById(1L);
+        verify(memberRepository, never()).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("무효화하거나 TTL 이 지나면 다시 조회")
+    void evict() {
+
+        //given
+        Member member = createMember();
+        given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.of(member));
+        memberPrincipalCache.findByEmail(EMAIL);
+
+        //when - 탈퇴 후 무효화
+        member.setIsDeleted(LocalDateTime.now());
+        memberPrincipalCache.evict(1L);
+        MemberPrincipal deleted = memberPrincipalCache.findByEmail(EMAIL).orElseThrow();
+
+        //when - TTL 경과
+        clock.now = NOW.plus(MemberPrincipalCache.TTL);
+        memberPrincipalCache.findByEmail(EMAIL);
+
+        //then
+        assertTrue(deleted.isDeleted());
+        verify(memberRepository, times(3)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("로그인 회원 참조 실패 - 없는 회원")
+    void fail_getMember_user_not_found() {
+
+        //given
+        given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.empty());
+
+        //when
+        MemberException exception = assertThrows(MemberException.class,
+                () -> memberPrincipalCache.getMember(new UsernamePasswordAuthenticationToken(EMAIL, null)));
+
+        //then
+        assertEquals(Error.USER_NOT_FOUND, exception.getError());
+        assertEquals(0, memberPrincipalCache.size());
+    }
+
+    private Member createMember() {
+        return Member.builder()
+                .id(1L)
+                .email(EMAIL)
+                .nickname("동현")
+                .memberRole(MemberRole.USER)
+                .build();
+    }
+
+}
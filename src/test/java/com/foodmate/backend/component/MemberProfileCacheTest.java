@@ -0,0 +1,107 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.MemberProfileDto;
+import com.foodmate.backend.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberProfileCacheTest {
+
+    private static final String NICKNAME = "동현";
+    private static final Instant NOW = Instant.parse("2023-10-01T12:00:00Z");
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    private MemberProfileCache memberProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        memberProfileCache = new MemberProfileCache(memberRepository, clock);
+    }
+
+    @Test
+    @DisplayName("회원과 선호음식을 한 번 조회한 뒤 캐시에서 응답")
+    void findByNickname() {
+
+        //given
+        given(memberRepository.findProfileRowsByNickname(NICKNAME))
+                .willReturn(List.of(createRow("치킨", null), createRow("피자", null)));
+
+        //when
+        MemberProfileDto.Profile profile = memberProfileCache.findByNickname(NICKNAME).orElseThrow();
+        MemberProfileDto.Profile again = memberProfileCache.findByNickname(NICKNAME).orElseThrow();
+
+        //then
+        assertEquals(1L, profile.getMemberId());
+        assertEquals(List.of("치킨", "피자"), profile.getFood());
+        assertFalse(profile.isDeleted());
+        assertSame(profile, again);
+        verify(memberRepository, times(1)).findProfileRowsByNickname(NICKNAME);
+    }
+
+    @Test
+    @DisplayName("선호음식이 없는 회원 - 빈 목록, 없는 회원 - 저장하지 않음")
+    void findByNickname_noFood() {
+
+        //given
+        given(memberRepository.findProfileRowsByNickname(NICKNAME)).willReturn(List.of(createRow(null, null)));
+        given(memberRepository.findProfileRowsByNickname("nullMember")).willReturn(List.of());
+
+        //when
+        MemberProfileDto.Profile profile = memberProfileCache.findByNickname(NICKNAME).orElseThrow();
+
+        //then
+        assertTrue(profile.getFood().isEmpty());
+        assertTrue(memberProfileCache.findByNickname("nullMember").isEmpty());
+        assertEquals(1, memberProfileCache.size());
+    }
+
+    @Test
+    @DisplayName("무효화하거나 TTL 이 지나면 다시 조회")
+    void evict() {
+
+        //given
+        given(memberRepository.findProfileRowsByNickname(NICKNAME))
+                .willReturn(List.of(createRow("치킨", null)))
+                .willReturn(List.of(createRow("피자", LocalDateTime.now())))
+                .willReturn(List.of(createRow("피자", LocalDateTime.now())));
+        memberProfileCache.findByNickname(NICKNAME);
+
+        //when - 선호음식 변경, 탈퇴 후 무효화
+        memberProfileCache.evict(1L);
+        MemberProfileDto.Profile changed = memberProfileCache.findByNickname(NICKNAME).orElseThrow();
+
+        clock.now = NOW.plus(MemberProfileCache.TTL);
+        memberProfileCache.findByNickname(NICKNAME);
+
+        //then
+        assertEquals(List.of("피자"), changed.getFood());
+        assertTrue(changed.isDeleted());
+        verify(memberRepository, times(3)).findProfileRowsByNickname(NICKNAME);
+    }
+
+    private static MemberProfileDto.Row createRow(String food, LocalDateTime isDeleted) {
+        return new MemberProfileDto.Row(1L, "dlaehdgus23@naver.com", NICKNAME, null, isDeleted, food);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.foodmate.backend.component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+// 테스트에서 시간을 옮기기 위한 시계
+class MutableClock extends Clock {
+
+    Instant now;
+
+    MutableClock(Instant now) {
+        this.now = now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.exception.MemberException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHasherTest {
+
+    private PasswordHasher passwordHasher = new PasswordHasher();
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시, 검증")
+    void hash() {
+
+        //when
+        String hashed = passwordHasher.hash("ehdgus1234");
+
+        //then
+        assertTrue(passwordHasher.matches("ehdgus1234", hashed));
+        assertFalse(passwordHasher.matches("ehdgus12345", hashed));
+        assertEquals(PasswordHasher.MIN_COST, PasswordHasher.costOf(hashed));
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 비용이 현재 비용보다 낮을 때만 다시 해시 필요 - 더 높은 비용은 그대로")
+    void needsRehash() {
+        assertFalse(passwordHasher.needsRehash(BCrypt.hashpw("ehdgus1234", BCrypt.gensalt(PasswordHasher.MIN_COST))));
+        assertFalse(passwordHasher.needsRehash(BCrypt.hashpw("ehdgus1234", BCrypt.gensalt(PasswordHasher.MIN_COST + 1))));
+        assertTrue(passwordHasher.needsRehash(BCrypt.hashpw("ehdgus1234", BCrypt.gensalt(4))));
+        assertTrue(passwordHasher.needsRehash("plain"));
+    }
+
+    @Test
+    @DisplayName("비용 측정 - 최소 비용 이상 최대 비용 이하")
+    void calibrate() {
+
+        //when
+        passwordHasher.calibrate();
+
+        //then
+        assertTrue(passwordHasher.getCost() >= PasswordHasher.MIN_COST);
+        assertTrue(passwordHasher.getCost() <= PasswordHasher.MAX_COST);
+    }
+
+    @Test
+    @DisplayName("해시 실패 - 스레드와 대기열이 모두 차 있으면 기다리지 않고 예외")
+    void fail_hash_busy() throws InterruptedException {
+
+        //given - 스레드 1 개, 대기열 1 개를 모두 채움
+        passwordHasher.shutdown();
+        passwordHasher = new PasswordHasher(1, 1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        requests.execute(() -> passwordHasher.submit(() -> {
+            started.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        }));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        requests.execute(() -> passwordHasher.hash("queued"));
+        while (passwordHasher.getQueueSize() < 1) {
+            Thread.sleep(10);
+        }
+
+        //when
+        MemberException exception = assertThrows(MemberException.class, () -> passwordHasher.hash("ehdgus1234"));
+
+        //then
+        assertEquals(Error.PASSWORD_HASHING_BUSY, exception.getError());
+        release.countDown();
+        requests.shutdown();
+        assertTrue(requests.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.foodmate.backend.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodmate.backend.dto.RankingDto;
+import com.foodmate.backend.enums.RankingType;
+import com.foodmate.backend.enums.RankingWindow;
+import com.foodmate.backend.service.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RankingSnapshotTest {
+
+    @Mock
+    private RankingService rankingService;
+
+    private RankingSnapshot rankingSnapshot;
+
+    private final List<RankingDto.Likes> likesRanking = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        likesRanking.add(likes(1L, 10));
+        given(rankingService.getLikesRanking(any())).willAnswer(invocation -> new ArrayList<>(likesRanking));
+        given(rankingService.getMeetingRanking(any())).willReturn(List.of());
+        given(rankingService.getStoreRanking(any())).willReturn(List.of());
+        given(rankingService.getFoodRanking(any())).willReturn(List.of());
+
+        rankingSnapshot = new RankingSnapshot(rankingService, new ObjectMapper());
+        rankingSnapshot.load();
+    }
+
+    @Test
+    @DisplayName("조회는 미리 직렬화한 스냅샷을 그대로 반환")
+    void get() {
+
+        //given
+        clearInvocations(rankingService);
+
+        //when
+        RankingSnapshot.Snapshot first = rankingSnapshot.get(RankingType.LIKES, RankingWindow.ALL);
+        RankingSnapshot.Snapshot second = rankingSnapshot.get(RankingType.LIKES, RankingWindow.ALL);
+
+        //then
+        assertSame(first, second);
+        assertTrue(new String(first.getBody(), StandardCharsets.UTF_8).contains("\"likesCount\":10"));
+        assertTrue(first.getETag().startsWith("\"") && first.getETag().endsWith("\""));
+        verify(rankingService, never()).getLikesRanking(any());
+    }
+
+    @Test
+    @DisplayName("바뀐 랭킹 종류만 다시 만들고, 내용이 같으면 ETag 도 같음")
+    void refresh() {
+
+        //given
+        RankingSnapshot.Snapshot before = rankingSnapshot.get(RankingType.LIKES, RankingWindow.ALL);
+        RankingSnapshot.Snapshot meeting = rankingSnapshot.get(RankingType.MEETING, RankingWindow.ALL);
+        clearInvocations(rankingService);
+
+        //when - 바뀐 것이 없으면 다시 만들지 않음
+        rankingSnapshot.refresh();
+
+        //then
+        verify(rankingService, never()).getLikesRanking(any());
+
+        //when - 좋아요 랭킹 변경
+        likesRanking.add(0, likes(2L, 11));
+        rankingSnapshot.markChanged(RankingType.LIKES);
+        rankingSnapshot.refresh();
+
+        //then
+        RankingSnapshot.Snapshot after = rankingSnapshot.get(RankingType.LIKES, RankingWindow.ALL);
+        assertNotEquals(before.getETag(), after.getETag());
+        assertSame(meeting, rankingSnapshot.get(RankingType.MEETING, RankingWindow.ALL));
+        verify(rankingService, times(RankingWindow.values().length)).getLikesRanking(any());
+        verify(rankingService, never()).getMeetingRanking(any());
+
+        //when - 원래대로 되돌리면 처음과 같은 ETag
+        likesRanking.remove(0);
+        rankingSnapshot.markChanged(RankingType.LIKES);
+        rankingSnapshot.refresh();
+
+        //then
+        assertEquals(before.getETag(), rankingSnapshot.get(RankingType.LIKES, RankingWindow.ALL).getETag());
+    }
+
+    private static RankingDto.Likes likes(Long memberId, long likesCount) {
+        return RankingDto.Likes.builder()
+                .memberId(memberId)
+                .nickname("회원 " + memberId)
+                .likesCount(likesCount)
+                .build();
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.dto.SearchedGroupDto;
+import com.foodmate.backend.entity.Food;
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class UpcomingGroupStoreTest {
+
+    @Mock
+    private FoodGroupRepository foodGroupRepository;
+
+    @InjectMocks
+    private UpcomingGroupStore upcomingGroupStore;
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Test
+    @DisplayName("전체 조회 - 기간 안의 모임을 최신 생성순으로 페이지 반환")
+    void findAll() {
+
+        //given
+        upcomingGroupStore.put(createFoodGroup(1L, "한식", 1L, 3, 1));
+        upcomingGroupStore.put(createFoodGroup(2L, "중식", 1L, 1, 2));
+        upcomingGroupStore.put(createFoodGroup(3L, "한식", 2L, 40, 3));
+        upcomingGroupStore.put(createFoodGroup(4L, "일식", 2L, 2, 4));
+
+        //when
+        Page<SearchedGroupDto> first = upcomingGroupStore.findAll(NOW, NOW.plusMonths(1), PageRequest.of(0, 2));
+        Page<SearchedGroupDto> second = upcomingGroupStore.findAll(NOW, NOW.plusMonths(1), PageRequest.of(1, 2));
+
+        //then
+        assertEquals(3, first.getTotalElements());
+        assertEquals(List.of(4L, 2L), groupIds(first.getContent()));
+        assertEquals(List.of(1L), groupIds(second.getContent()));
+    }
+
+    @Test
+    @DisplayName("모임일시순 조회 - 기간 경계 포함, 커서 이후 이어서 조회")
+    void findByGroupDateTime() {
+
+        //given
+        upcomingGroupStore.put(createFoodGroup(1L, "한식", 1L, 3, 1));
+        upcomingGroupStore.put(createFoodGroup(2L, "중식", 1L, 1, 2));
+        upcomingGroupStore.put(createFoodGroup(3L, "한식", 2L, 5, 3));
+        upcomingGroupStore.put(createFoodGroup(4L, "일식", 2L, 3, 4));
+
+        //when
+        Page<SearchedGroupDto> page = upcomingGroupStore.findByGroupDateTime(
+                NOW.plusDays(1), NOW.plusDays(3), PageRequest.of(0, 10));
+        List<SearchedGroupDto> after = upcomingGroupStore.findByGroupDateTimeAfter(
+                NOW, NOW.plusMonths(1), NOW.plusDays(3), 1L, 10);
+
+        //then
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(2L, 1L, 4L), groupIds(page.getContent()));
+        assertEquals(List.of(4L, 3L), groupIds(after));
+    }
+
+    @Test
+    @DisplayName("메뉴별 조회 - 여러 메뉴를 합쳐 최신 생성순, 커서 이후 이어서 조회")
+    void findByFood() {
+
+        //given
+        upcomingGroupStore.put(createFoodGroup(1L, "한식", 1L, 3, 1));
+        upcomingGroupStore.put(createFoodGroup(2L, "중식", 1L, 1, 2));
+        upcomingGroupStore.put(createFoodGroup(3L, "한식", 2L, 5, 3));
+        upcomingGroupStore.put(createFoodGroup(4L, "일식", 2L, 3, 4));
+
+        //when
+        Page<SearchedGroupDto> page = upcomingGroupStore.findByFood(List.of("한식", "중식"),
+                NOW, NOW.plusMonths(1), PageRequest.of(0, 10));
+        List<SearchedGroupDto> first = upcomingGroupStore.findByFoodAfter(List.of("한식", "중식"),
+                NOW, NOW.plusMonths(1), null, null, 2);
+        SearchedGroupDto last = first.get(first.size() - 1);
+        List<SearchedGroupDto> next = upcomingGroupStore.findByFoodAfter(List.of("한식", "중식"),
+                NOW, NOW.plusMonths(1), last.getCreatedDate(), last.getGroupId(), 2);
+
+        //then
+        assertEquals(List.of(3L, 2L, 1L), groupIds(page.getContent()));
+        assertEquals(List.of(3L, 2L), groupIds(first));
+        assertEquals(List.of(1L), groupIds(next));
+        assertTrue(upcomingGroupStore.findByFood(List.of("양식"), NOW, NOW.plusMonths(1),
+                PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("모임 수정, 삭제, 참여 인원, 프로필 이미지, 기간 만료 반영")
+    void putAndRemove() {
+
+        //given
+        upcomingGroupStore.put(createFoodGroup(1L, "한식", 1L, 1, 1));
+        upcomingGroupStore.put(createFoodGroup(2L, "한식", 1L, 5, 2));
+        upcomingGroupStore.put(createFoodGroup(3L, "한식", 2L, 5, 3));
+
+        //when
+        upcomingGroupStore.put(createFoodGroup(3L, "중식", 2L, 5, 3));
+        upcomingGroupStore.remove(2L);
+        upcomingGroupStore.updateAttendance(3L, 4);
+        upcomingGroupStore.updateAttendance(3L, 3);
+        upcomingGroupStore.updateMemberImage(2L, "new-image");
+        upcomingGroupStore.removeExpired(NOW.plusDays(2));
+
+        //then
+        List<SearchedGroupDto> groups = upcomingGroupStore.findAll(NOW, NOW.plusMonths(1),
+                PageRequest.of(0, 10)).getContent();
+        assertEquals(List.of(3L), groupIds(groups));
+        assertEquals("중식", groups.get(0).getFood());
+        assertEquals(4, groups.get(0).getCurrent());
+        assertEquals("new-image", groups.get(0).getImage());
+        assertTrue(upcomingGroupStore.findByFood(List.of("한식"), NOW, NOW.plusMonths(1),
+                PageRequest.of(0, 10)).isEmpty());
+    }
+
+    private List<Long> groupIds(List<SearchedGroupDto> groups) {
+        return groups.stream().map(SearchedGroupDto::getGroupId).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private FoodGroup createFoodGroup(Long groupId, String food, Long memberId,
+                                      int plusDays, int createdMinutes) {
+        FoodGroup foodGroup = FoodGroup.builder()
+                .id(groupId)
+                .title("모임 " + groupId)
+                .member(Member.builder().id(memberId).nickname("회원 " + memberId).build())
+                .food(Food.builder().type(food).build())
+                .groupDateTime(NOW.plusDays(plusDays))
+                .maximum(4)
+                .attendance(1)
+                .build();
+        foodGroup.setCreatedDate(NOW.minusDays(1).plusMinutes(createdMinutes));
+        return foodGroup;
+    }
+
+}
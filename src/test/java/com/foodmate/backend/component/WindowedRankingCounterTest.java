@@ -0,0 +1,112 @@
+package com.foodmate.backend.component;
+
+import com.foodmate.backend.enums.RankingType;
+import com.foodmate.backend.enums.RankingWindow;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import com.foodmate.backend.repository.LikesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class WindowedRankingCounterTest {
+
+    @Mock
+    private FoodGroupRepository foodGroupRepository;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    private WindowedRankingCounter windowedRankingCounter;
+
+    private static final LocalDateTime NOW = LocalDate.now().atTime(0, 30);
+
+    @BeforeEach
+    void setUp() {
+
+        // 회원 (음식, 식당) 1 : 오늘 1 번, 2 : 3 일 전 2 번, 3 : 8 일 전 3 번, 4 : 40 일 전 (범위 밖)
+        List<Object[]> groups = new ArrayList<>();
+        groups.add(group(1L, NOW));
+        groups.add(group(2L, NOW.minusDays(3)));
+        groups.add(group(2L, NOW.minusDays(3)));
+        groups.add(group(3L, NOW.minusDays(8)));
+        groups.add(group(3L, NOW.minusDays(8)));
+        groups.add(group(3L, NOW.minusDays(8)));
+        groups.add(group(4L, NOW.minusDays(40)));
+        given(foodGroupRepository.findRankedGroupsSince(any())).willReturn(groups);
+
+        List<Object[]> likes = new ArrayList<>();
+        likes.add(new Object[]{5L, NOW});
+        given(likesRepository.findLikedSince(any())).willReturn(likes);
+
+        windowedRankingCounter = new WindowedRankingCounter(foodGroupRepository, likesRepository);
+        windowedRankingCounter.load();
+    }
+
+    @Test
+    @DisplayName("기간에 해당하는 일별 버킷만 합쳐 많은 순으로 반환")
+    void top() {
+        assertTrue(windowedRankingCounter.isLoaded());
+        assertEquals(List.of(1L), keys(RankingType.MEETING, RankingWindow.DAY));
+        assertEquals(List.of(2L, 1L), keys(RankingType.MEETING, RankingWindow.WEEK));
+        assertEquals(List.of(3L, 2L, 1L), keys(RankingType.MEETING, RankingWindow.MONTH));
+        assertEquals(List.of(3L, 2L), keys(RankingType.FOOD, RankingWindow.MONTH, 2));
+        assertEquals(List.of(2L, 1L), keys(RankingType.STORE, RankingWindow.WEEK));
+        assertEquals(List.of(5L), keys(RankingType.LIKES, RankingWindow.DAY));
+    }
+
+    @Test
+    @DisplayName("카운터가 바뀌면 계산해 둔 상위 목록을 다시 계산")
+    void add() {
+
+        //given
+        List<Map.Entry<Object, Long>> before = windowedRankingCounter.top(RankingType.MEETING, RankingWindow.WEEK, 10);
+        assertSame(before, windowedRankingCounter.top(RankingType.MEETING, RankingWindow.WEEK, 10));
+
+        //when - 오늘 모임 2 개 추가, 3 일 전 모임 2 개 삭제, 오늘 좋아요 취소
+        windowedRankingCounter.addGroup(1L, 1L, 1L, LocalDate.now(), 2);
+        windowedRankingCounter.addGroup(2L, 2L, 2L, LocalDate.now().minusDays(3), -2);
+        windowedRankingCounter.addLikes(5L, LocalDate.now(), -1);
+        windowedRankingCounter.addGroup(4L, 4L, 4L, LocalDate.now().minusDays(40), 1);
+
+        //then
+        List<Map.Entry<Object, Long>> after = windowedRankingCounter.top(RankingType.MEETING, RankingWindow.WEEK, 10);
+        assertEquals(1, after.size());
+        assertEquals(1L, after.get(0).getKey());
+        assertEquals(3L, after.get(0).getValue());
+        assertEquals(List.of(3L, 1L), keys(RankingType.MEETING, RankingWindow.MONTH));
+        assertEquals(List.of(), keys(RankingType.LIKES, RankingWindow.DAY));
+    }
+
+    private List<Object> keys(RankingType type, RankingWindow window) {
+        return keys(type, window, 10);
+    }
+
+    private List<Object> keys(RankingType type, RankingWindow window, int limit) {
+        return windowedRankingCounter.top(type, window, limit).stream()
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    // 회원, 음식, 식당 아이디가 같은 모임
+    private static Object[] group(Long id, LocalDateTime groupDateTime) {
+        return new Object[]{id, id, id, groupDateTime};
+    }
+
+}
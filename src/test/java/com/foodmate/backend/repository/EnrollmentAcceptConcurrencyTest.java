@@ -0,0 +1,254 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.component.GroupDetailCache;
+import com.foodmate.backend.component.GroupSeatCounter;
+import com.foodmate.backend.component.MemberPrincipalCache;
+import com.foodmate.backend.component.UpcomingGroupStore;
+import com.foodmate.backend.entity.Enrollment;
+import com.foodmate.backend.entity.Food;
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.enums.EnrollmentStatus;
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.exception.EnrollmentException;
+import com.foodmate.backend.service.EnrollmentService;
+import com.foodmate.backend.util.GeoCell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 신청 수락 (EnrollmentService.acceptEnrollment) 을 동시에 1000 번 실행해도 정원을 넘지 않는지 실제 MySQL 로 검증
+ * 자리 예약 (GroupSeatCounter) -> 신청 상태 조건부 변경 -> 참여 인원 조건부 UPDATE -> 실패 시 롤백으로 자리 반환까지 전체 경로
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않음
+ * Docker 가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest(properties = "S3_GENERAL_IMAGE_PATH=default.png")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EnrollmentService.class, GroupSeatCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EnrollmentAcceptConcurrencyTest extends MySqlContainerTest {
+
+    // 커밋 후 반영하는 목록, 상세 캐시는 검증 대상이 아님
+    @MockBean
+    private UpcomingGroupStore upcomingGroupStore;
+
+    @MockBean
+    private GroupDetailCache groupDetailCache;
+
+    @MockBean
+    private MemberPrincipalCache memberPrincipalCache;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private GroupSeatCounter groupSeatCounter;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private FoodGroupRepository foodGroupRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static final int REQUEST_COUNT = 1000;
+    private static final int MAXIMUM = 8;
+
+    private FoodGroup foodGroup;
+    private Member applicant;
+
+    @BeforeEach
+    void setUp() {
+        Member owner = memberRepository.save(Member.builder()
+                .email("owner@foodmate.com")
+                .nickname("모임장")
+                .build());
+        applicant = memberRepository.save(Member.builder()
+                .email("applicant@foodmate.com")
+                .nickname("신청자")
+                .build());
+        Food food = foodRepository.save(Food.builder().type("치킨").build());
+        Point location = new GeometryFactory().createPoint(new Coordinate(126.9245, 37.5571));
+        foodGroup = foodGroupRepository.save(FoodGroup.builder()
+                .member(owner)
+                .food(food)
+                .title("치킨 먹을 사람")
+                .name("모임")
+                .content("모임 내용")
+                .groupDateTime(LocalDateTime.now().plusDays(1))
+                .maximum(MAXIMUM)
+                .attendance(1)
+                .location(location)
+                .geocell(GeoCell.of(location.getY(), location.getX()))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupSeatCounter.remove(foodGroup.getId());
+        enrollmentRepository.deleteAll();
+        foodGroupRepository.deleteAll();
+        foodRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시에 1000 번 수락 (신청마다 2 번씩) - 정원까지만 수락되고, 실패한 요청의 자리는 모두 반환")
+    void acceptEnrollment_concurrently() throws InterruptedException {
+
+        //given - 같은 신청을 두 번씩 수락해서 신청 상태 조건부 변경에서 실패 -> 롤백 경로도 실행
+        List<Long> enrollmentIds = submitEnrollments(REQUEST_COUNT / 2);
+        List<Long> requests = new ArrayList<>(enrollmentIds);
+        requests.addAll(enrollmentIds);
+
+        //when
+        Result result = acceptConcurrently(requests);
+
+        //then
+        int attendance = foodGroupRepository.findAttendanceById(foodGroup.getId());
+        assertAll(
+                () -> assertTrue(attendance <= MAXIMUM),
+                () -> assertEquals(attendance - 1, result.accepted.get()),
+                () -> assertEquals(result.accepted.get(), countAccepted()),
+                () -> assertEquals(REQUEST_COUNT, result.accepted.get() + result.failed.get()),
+                () -> assertTrue(result.unexpected.isEmpty(), () -> "예상하지 못한 실패 : " + result.unexpected),
+                // 롤백된 요청의 예약이 모두 반환됐으면 카운터의 남은 자리와 DB 의 남은 자리가 같음
+                () -> assertEquals(MAXIMUM - attendance, remainingSeats())
+        );
+    }
+
+    @Test
+    @DisplayName("카운터가 DB 보다 자리를 많이 잡고 있어도 동시에 1000 번 수락 - 조건부 UPDATE 로 정원을 넘지 않음")
+    void acceptEnrollment_concurrently_staleCounter() throws InterruptedException {
+
+        //given - 카운터는 참여 인원 1 로 채운 뒤, DB 만 정원 직전까지 증가
+        groupSeatCounter.hasSeat(foodGroup.getId(), 1, MAXIMUM);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 1; i < MAXIMUM - 1; i++) {
+                foodGroupRepository.increaseAttendance(foodGroup.getId());
+            }
+        });
+        List<Long> requests = submitEnrollments(REQUEST_COUNT);
+
+        //when
+        Result result = acceptConcurrently(requests);
+
+        //then
+        int attendance = foodGroupRepository.findAttendanceById(foodGroup.getId());
+        assertAll(
+                () -> assertEquals(MAXIMUM, attendance),
+                () -> assertEquals(1, result.accepted.get()),
+                () -> assertEquals(1, countAccepted()),
+                () -> assertEquals(REQUEST_COUNT - 1, result.failed.get()),
+                () -> assertTrue(result.unexpected.isEmpty(), () -> "예상하지 못한 실패 : " + result.unexpected)
+        );
+    }
+
+    private List<Long> submitEnrollments(int count) {
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            enrollments.add(Enrollment.builder()
+                    .member(applicant)
+                    .foodGroup(foodGroup)
+                    .status(EnrollmentStatus.SUBMIT)
+                    .build());
+        }
+        List<Long> enrollmentIds = new ArrayList<>();
+        enrollmentRepository.saveAll(enrollments).forEach(enrollment -> enrollmentIds.add(enrollment.getId()));
+        return enrollmentIds;
+    }
+
+    private Result acceptConcurrently(List<Long> enrollmentIds) throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(enrollmentIds.size());
+        Result result = new Result();
+
+        for (Long enrollmentId : enrollmentIds) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    enrollmentService.acceptEnrollment(enrollmentId);
+                    result.accepted.incrementAndGet();
+                } catch (EnrollmentException e) {
+                    result.failed.incrementAndGet();
+                    if (e.getError() != Error.GROUP_FULL && e.getError() != Error.ENROLLMENT_ACCEPT_NOT_STATUS) {
+                        result.unexpected.put(enrollmentId, e.getError().toString());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    result.failed.incrementAndGet();
+                    result.unexpected.put(enrollmentId, e.toString());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(2, TimeUnit.MINUTES));
+        executor.shutdown();
+
+        return result;
+    }
+
+    private long countAccepted() {
+        return enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.ACCEPT)
+                .count();
+    }
+
+    // 트랜잭션 밖에서 예약하면 반환되지 않으므로 검증 마지막에만 호출
+    private int remainingSeats() {
+        int seats = 0;
+        while (groupSeatCounter.tryReserve(foodGroup.getId(), MAXIMUM, MAXIMUM)) {
+            seats++;
+        }
+        return seats;
+    }
+
+    private static class Result {
+        private final AtomicInteger accepted = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final Map<Long, String> unexpected = new ConcurrentHashMap<>();
+    }
+
+}
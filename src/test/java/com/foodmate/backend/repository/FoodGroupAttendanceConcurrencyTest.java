@@ -0,0 +1,126 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.entity.Food;
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.util.GeoCell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동시에 1000 번 수락해도 조건부 UPDATE 로 정원을 넘지 않는지 실제 MySQL 로 검증
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않음
+ * Docker 가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FoodGroupAttendanceConcurrencyTest extends MySqlContainerTest {
+
+    @Autowired
+    private FoodGroupRepository foodGroupRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static final int REQUEST_COUNT = 1000;
+    private static final int MAXIMUM = 8;
+
+    private FoodGroup foodGroup;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .email("owner@foodmate.com")
+                .nickname("모임장")
+                .build());
+        Food food = foodRepository.save(Food.builder().type("치킨").build());
+        Point location = new GeometryFactory().createPoint(new Coordinate(126.9245, 37.5571));
+        foodGroup = foodGroupRepository.save(FoodGroup.builder()
+                .member(member)
+                .food(food)
+                .title("치킨 먹을 사람")
+                .name("모임")
+                .content("모임 내용")
+                .groupDateTime(LocalDateTime.now().plusDays(1))
+                .maximum(MAXIMUM)
+                .attendance(1)
+                .location(location)
+                .geocell(GeoCell.of(location.getY(), location.getX()))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        foodGroupRepository.deleteAll();
+        foodRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시에 1000 번 참여 인원 증가 - 정원까지만 성공")
+    void increaseAttendance_concurrently() throws InterruptedException {
+
+        //given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger increased = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    Integer updated = transactionTemplate.execute(
+                            status -> foodGroupRepository.increaseAttendance(foodGroup.getId()));
+                    increased.addAndGet(updated == null ? 0 : updated);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(2, TimeUnit.MINUTES));
+        executor.shutdown();
+
+        //then
+        assertAll(
+                () -> assertEquals(MAXIMUM - 1, increased.get()),
+                () -> assertEquals(MAXIMUM, foodGroupRepository.findAttendanceById(foodGroup.getId()))
+        );
+    }
+
+}
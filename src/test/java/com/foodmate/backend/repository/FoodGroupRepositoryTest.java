@@ -0,0 +1,203 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.dto.NearbyGroupDto;
+import com.foodmate.backend.dto.SearchedGroupDto;
+import com.foodmate.backend.entity.Food;
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.util.GeoCell;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 모임 목록 조회가 연관 엔티티를 추가로 조회하지 않는지 (데이터 쿼리 1번 + 카운트 쿼리 최대 1번) 실제 MySQL 로 검증
+ * Docker 가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FoodGroupRepositoryTest extends MySqlContainerTest {
+
+    @DynamicPropertySource
+    static void statisticsProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FoodGroupRepository foodGroupRepository;
+
+    private static final int GROUP_COUNT = 25;
+    private static final double LATITUDE = 37.5571;
+    private static final double LONGITUDE = 126.9245;
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private final Pageable pageable = PageRequest.of(0, 20);
+    private final List<Long> groupIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+
+        // 작성자, 음식이 모두 다른 모임 (엔티티로 조회하면 모임마다 작성자, 음식 조회 쿼리가 추가됨)
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            Member member = entityManager.persist(Member.builder()
+                    .email("member" + i + "@foodmate.com")
+                    .nickname("닉네임" + i)
+                    .image("image" + i)
+                    .build());
+            Food food = entityManager.persist(Food.builder()
+                    .type("음식" + i)
+                    .build());
+            Point location = new GeometryFactory().createPoint(
+                    new Coordinate(LONGITUDE, LATITUDE + i * 0.0001));
+            FoodGroup foodGroup = entityManager.persist(FoodGroup.builder()
+                    .member(member)
+                    .food(food)
+                    .title("치킨 먹을 사람 " + i)
+                    .name("모임" + i)
+                    .content("모임 내용")
+                    .groupDateTime(NOW.plusDays(1).plusMinutes(i))
+                    .maximum(4)
+                    .attendance(1)
+                    .storeName("가게" + i)
+                    .storeAddress("주소" + i)
+                    .location(location)
+                    .geocell(GeoCell.of(location.getY(), location.getX()))
+                    .build());
+            groupIds.add(foodGroup.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("검색 기능 - 데이터 쿼리 1번 + 카운트 쿼리 1번")
+    void searchByKeyword() {
+
+        //when
+        Page<SearchedGroupDto> page = foodGroupRepository.searchByKeyword("치킨",
+                NOW, NOW.plusMonths(1), pageable);
+
+        //then
+        assertAll(
+                () -> assertEquals(2, statistics.getPrepareStatementCount()),
+                () -> assertEquals(20, page.getContent().size()),
+                () -> assertEquals(GROUP_COUNT, page.getTotalElements())
+        );
+    }
+
+    @Test
+    @DisplayName("날짜별 조회 - 데이터 쿼리 1번 + 카운트 쿼리 1번, 컬럼 매핑 확인")
+    void searchByDate() {
+
+        //when
+        Page<SearchedGroupDto> page = foodGroupRepository.searchByDate(NOW, NOW.plusMonths(1), pageable);
+
+        //then
+        SearchedGroupDto first = page.getContent().get(0);
+        assertAll(
+                () -> assertEquals(2, statistics.getPrepareStatementCount()),
+                () -> assertEquals(20, page.getContent().size()),
+                () -> assertEquals(groupIds.get(0), first.getGroupId()),
+                () -> assertEquals("닉네임0", first.getNickname()),
+                () -> assertEquals("image0", first.getImage()),
+                () -> assertEquals("음식0", first.getFood()),
+                () -> assertEquals(4, first.getMaximum()),
+                () -> assertEquals(1, first.getCurrent())
+        );
+    }
+
+    @Test
+    @DisplayName("전체 모임 조회 - 데이터 쿼리 1번 + 카운트 쿼리 1번")
+    void getAllGroupList() {
+
+        //when
+        Page<SearchedGroupDto> page = foodGroupRepository.getAllGroupList(NOW, NOW.plusMonths(1), pageable);
+
+        //then
+        assertAll(
+                () -> assertEquals(2, statistics.getPrepareStatementCount()),
+                () -> assertEquals(20, page.getContent().size())
+        );
+    }
+
+    @Test
+    @DisplayName("메뉴별 조회 - 한 페이지에 모두 담기면 카운트 쿼리 없이 1번")
+    void searchByFood() {
+
+        //when
+        Page<SearchedGroupDto> page = foodGroupRepository.searchByFood(List.of("음식0", "음식1", "음식2"),
+                NOW, NOW.plusMonths(1), pageable);
+
+        //then
+        assertAll(
+                () -> assertEquals(1, statistics.getPrepareStatementCount()),
+                () -> assertEquals(3, page.getTotalElements())
+        );
+    }
+
+    @Test
+    @DisplayName("내 근처 모임 - 데이터 쿼리 1번 + 카운트 쿼리 1번, 좌표 매핑 확인")
+    void getNearbyGroupList() {
+
+        //given
+        Point userLocation = new GeometryFactory().createPoint(new Coordinate(LONGITUDE, LATITUDE));
+
+        //when
+        Page<NearbyGroupDto> page = foodGroupRepository.getNearbyGroupList(userLocation,
+                GeoCell.covering(LATITUDE, LONGITUDE, 5000), NOW, NOW.plusMonths(1), pageable);
+
+        //then
+        NearbyGroupDto first = page.getContent().get(0);
+        assertAll(
+                () -> assertEquals(2, statistics.getPrepareStatementCount()),
+                () -> assertEquals(20, page.getContent().size()),
+                () -> assertEquals(groupIds.get(0), first.getGroupId()),
+                () -> assertEquals(String.valueOf(LATITUDE), first.getLatitude()),
+                () -> assertEquals(String.valueOf(LONGITUDE), first.getLongitude())
+        );
+    }
+
+    @Test
+    @DisplayName("인덱스 결과 아이디로 조회 - 쿼리 1번")
+    void findSearchedGroupsByIdIn() {
+
+        //when
+        List<SearchedGroupDto> groups = foodGroupRepository.findSearchedGroupsByIdIn(groupIds.subList(0, 20));
+
+        //then
+        assertAll(
+                () -> assertEquals(1, statistics.getPrepareStatementCount()),
+                () -> assertEquals(20, groups.size())
+        );
+    }
+
+}
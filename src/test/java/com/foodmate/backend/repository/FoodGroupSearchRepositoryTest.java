@@ -0,0 +1,140 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.dto.GroupSearchCondition;
+import com.foodmate.backend.entity.Food;
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.util.GeoCell;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 복합 조건 검색 DB 조회가 입력된 조건만 적용하고, 검색어를 GroupSearchPlanner 와 같은 규칙으로 비교하는지 실제 MySQL 로 검증
+ * Docker 가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FoodGroupSearchRepositoryTest extends MySqlContainerTest {
+
+    private static final double LATITUDE = 37.5571;
+    private static final double LONGITUDE = 126.9245;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FoodGroupRepository foodGroupRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private Long chickenId;
+    private Long fullId;
+    private Long accentId;
+    private Long farId;
+    private Long pizzaId;
+
+    @BeforeEach
+    void setUp() {
+
+        Member member = entityManager.persist(Member.builder()
+                .email("member@foodmate.com")
+                .nickname("닉네임")
+                .build());
+        Food chicken = entityManager.persist(Food.builder().type("치킨").build());
+        Food pizza = entityManager.persist(Food.builder().type("피자").build());
+
+        // 아이디 순으로 생성 (최신 생성순이면 아이디 내림차순)
+        chickenId = persistGroup(member, chicken, "Chicken 먹을 사람", 1, LATITUDE);
+        fullId = persistGroup(member, chicken, "치킨 CHICKEN", 4, LATITUDE);
+        accentId = persistGroup(member, chicken, "chìcken", 1, LATITUDE);
+        farId = persistGroup(member, chicken, "chicken 부산", 1, 35.1796);
+        pizzaId = persistGroup(member, pizza, "피자", 1, LATITUDE);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("검색어만 - 대소문자 구분 없이, 악센트는 구분")
+    void searchGroupIdsAfter_keyword() {
+
+        //when
+        List<Long> groupIds = foodGroupRepository.searchGroupIdsAfter(
+                condition("chicken", List.of(), null, false), null, null, 10);
+
+        //then
+        assertEquals(List.of(farId, fullId, chickenId), groupIds);
+    }
+
+    @Test
+    @DisplayName("조건 없음 - 기간 안의 삭제되지 않은 모임 전체, 커서 이후부터")
+    void searchGroupIdsAfter_noCondition() {
+
+        //when
+        List<Long> first = foodGroupRepository.searchGroupIdsAfter(
+                condition(null, List.of(), null, false), null, null, 2);
+        FoodGroup last = foodGroupRepository.findById(first.get(1)).orElseThrow();
+        List<Long> next = foodGroupRepository.searchGroupIdsAfter(
+                condition(null, List.of(), null, false), last.getCreatedDate(), last.getId(), 10);
+
+        //then
+        assertAll(
+                () -> assertEquals(List.of(pizzaId, farId), first),
+                () -> assertEquals(List.of(accentId, fullId, chickenId), next)
+        );
+    }
+
+    @Test
+    @DisplayName("메뉴, 반경, 참여 가능 여부 조합")
+    void searchGroupIdsAfter_combined() {
+
+        //when
+        List<Long> groupIds = foodGroupRepository.searchGroupIdsAfter(
+                condition(null, List.of("치킨"), 3000.0, true), null, null, 10);
+
+        //then
+        assertEquals(List.of(accentId, chickenId), groupIds);
+    }
+
+    private GroupSearchCondition condition(String keyword, List<String> foods, Double radius, boolean available) {
+        return GroupSearchCondition.builder()
+                .keyword(keyword)
+                .foods(foods)
+                .start(now)
+                .end(now.plusMonths(1))
+                .latitude(radius == null ? null : LATITUDE)
+                .longitude(radius == null ? null : LONGITUDE)
+                .radius(radius == null ? 0 : radius)
+                .available(available)
+                .build();
+    }
+
+    private Long persistGroup(Member member, Food food, String title, int attendance, double latitude) {
+        return entityManager.persist(FoodGroup.builder()
+                .member(member)
+                .food(food)
+                .title(title)
+                .name("모임")
+                .content("모임 내용")
+                .groupDateTime(now.plusDays(1))
+                .maximum(4)
+                .attendance(attendance)
+                .location(new GeometryFactory().createPoint(new Coordinate(LONGITUDE, latitude)))
+                .geocell(GeoCell.of(latitude, LONGITUDE))
+                .build()).getId();
+    }
+
+}
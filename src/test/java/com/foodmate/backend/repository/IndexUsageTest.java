@@ -0,0 +1,175 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.enums.EnrollmentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에서 주요 리포지토리 조회가 의도한 인덱스를 타는지 EXPLAIN 으로 검증
+ * 각 쿼리는 리포지토리 메서드가 만드는 SQL 과 같은 조건, 정렬
+ * ANALYZE TABLE 은 암묵적으로 커밋하므로 테스트 트랜잭션은 사용하지 않음
+ * Docker 가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IndexUsageTest extends MySqlContainerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final int MEMBER_COUNT = 20;
+    private static final int GROUP_COUNT = 200;
+    private static final int CHAT_ROOM_COUNT = 10;
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+
+        List<Object[]> members = new ArrayList<>();
+        for (long i = 1; i <= MEMBER_COUNT; i++) {
+            members.add(new Object[]{i, "member" + i + "@foodmate.com", "닉네임" + i, "refresh" + i, "key" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (id, email, nickname, refresh_token, email_auth_key, likes) " +
+                "VALUES (?, ?, ?, ?, ?, 0)", members);
+
+        jdbcTemplate.update("INSERT INTO food (id, type) VALUES (1, '치킨')");
+
+        // 삭제되지 않은 모임은 10 개 중 1 개
+        List<Object[]> groups = new ArrayList<>();
+        for (long i = 1; i <= GROUP_COUNT; i++) {
+            groups.add(new Object[]{i, (i % MEMBER_COUNT) + 1, NOW.plusDays(1).plusMinutes(i),
+                    NOW.minusMinutes(i), i % 10 == 0 ? null : NOW});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO food_group " +
+                "(id, member_id, food_id, group_date_time, created_date, is_deleted, maximum, attendance) " +
+                "VALUES (?, ?, 1, ?, ?, ?, 4, 1)", groups);
+
+        // 회원마다 모임 50 개에 신청
+        List<Object[]> enrollments = new ArrayList<>();
+        for (long member = 1; member <= MEMBER_COUNT; member++) {
+            for (long group = 1; group <= 50; group++) {
+                enrollments.add(new Object[]{member, group, EnrollmentStatus.values()[(int) (group % 3)].name()});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO enrollment (member_id, food_group_id, status) VALUES (?, ?, ?)",
+                enrollments);
+
+        List<Object[]> chatRooms = new ArrayList<>();
+        List<Object[]> chatMembers = new ArrayList<>();
+        List<Object[]> chatMessages = new ArrayList<>();
+        for (long room = 1; room <= CHAT_ROOM_COUNT; room++) {
+            chatRooms.add(new Object[]{room, room});
+            for (long member = 1; member <= MEMBER_COUNT; member++) {
+                chatMembers.add(new Object[]{member, room});
+            }
+            for (int i = 0; i < 100; i++) {
+                chatMessages.add(new Object[]{room, (i % MEMBER_COUNT) + 1, NOW.minusMinutes(i)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO chat_room (id, food_group_id, attendance) VALUES (?, ?, 1)", chatRooms);
+        jdbcTemplate.batchUpdate("INSERT INTO chat_member (member_id, chat_room_id) VALUES (?, ?)", chatMembers);
+        jdbcTemplate.batchUpdate("INSERT INTO chat_message (chat_room_id, member_id, create_date_time) " +
+                "VALUES (?, ?, ?)", chatMessages);
+
+        List<Object[]> likes = new ArrayList<>();
+        for (long liked = 1; liked <= MEMBER_COUNT; liked++) {
+            for (long liker = 1; liker <= MEMBER_COUNT; liker++) {
+                if (liked != liker) {
+                    likes.add(new Object[]{liked, liker});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO likes (liked_id, liker_id) VALUES (?, ?)", likes);
+
+        jdbcTemplate.execute("ANALYZE TABLE member, food_group, enrollment, chat_member, chat_message, likes");
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("likes", "chat_message", "chat_member", "chat_room",
+                "enrollment", "food_group", "food", "member")) {
+            jdbcTemplate.execute("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    @DisplayName("FoodGroupRepository.searchByDate - 삭제 여부, 모임 일시 인덱스")
+    void foodGroup_searchByDate() {
+        assertEquals("idx_food_group_deleted_date_time", explainKey(
+                "SELECT fg.id FROM food_group fg " +
+                        "WHERE fg.group_date_time BETWEEN ? AND ? " +
+                        "AND fg.is_deleted IS NULL " +
+                        "ORDER BY fg.group_date_time ASC LIMIT 20",
+                NOW, NOW.plusDays(7)));
+    }
+
+    @Test
+    @DisplayName("EnrollmentRepository.existsByMemberIdAndFoodGroupAndStatus - 회원, 모임, 상태 인덱스")
+    void enrollment_existsByMemberIdAndFoodGroupAndStatus() {
+        assertEquals("idx_enrollment_member_group_status", explainKey(
+                "SELECT e.id FROM enrollment e " +
+                        "WHERE e.member_id = ? AND e.food_group_id = ? AND e.status = ? LIMIT 1",
+                3L, 10L, EnrollmentStatus.ACCEPT.name()));
+    }
+
+    @Test
+    @DisplayName("ChatMessageRepository.findTopByChatRoomAndCreateDateTimeAfter - 채팅방, 작성 일시 인덱스")
+    void chatMessage_findTopByChatRoomAndCreateDateTimeAfter() {
+        assertEquals("idx_chat_message_room_date_time", explainKey(
+                "SELECT cm.id FROM chat_message cm " +
+                        "WHERE cm.chat_room_id = ? AND cm.create_date_time > ? " +
+                        "ORDER BY cm.create_date_time DESC LIMIT 1",
+                3L, NOW.minusMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("ChatMemberRepository.findByMemberAndChatRoom - 회원, 채팅방 유니크 인덱스")
+    void chatMember_findByMemberAndChatRoom() {
+        assertEquals("uk_chat_member_member_room", explainKey(
+                "SELECT cm.id FROM chat_member cm WHERE cm.member_id = ? AND cm.chat_room_id = ?",
+                3L, 5L));
+    }
+
+    @Test
+    @DisplayName("MemberRepository - 이메일, 닉네임, 리프레시 토큰, 이메일 인증키 유니크 인덱스")
+    void member_findByUniqueColumns() {
+        assertEquals("uk_member_email", explainKey(
+                "SELECT m.id FROM member m WHERE m.email = ?", "member3@foodmate.com"));
+        assertEquals("uk_member_nickname", explainKey(
+                "SELECT m.id FROM member m WHERE m.nickname = ?", "닉네임3"));
+        assertEquals("uk_member_refresh_token", explainKey(
+                "SELECT m.id FROM member m WHERE m.refresh_token = ?", "refresh3"));
+        assertEquals("uk_member_email_auth_key", explainKey(
+                "SELECT m.id FROM member m WHERE m.email_auth_key = ?", "key3"));
+    }
+
+    @Test
+    @DisplayName("LikesRepository.findByLikedAndLiker - 좋아요 받은 회원, 누른 회원 유니크 인덱스")
+    void likes_findByLikedAndLiker() {
+        assertEquals("uk_likes_liked_liker", explainKey(
+                "SELECT l.id FROM likes l WHERE l.liked_id = ? AND l.liker_id = ?", 3L, 5L));
+    }
+
+    // 단일 테이블 조회의 실행 계획에서 사용한 인덱스 이름
+    private String explainKey(String sql, Object... args) {
+        Map<String, Object> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args).get(0);
+        return (String) plan.get("key");
+    }
+
+}
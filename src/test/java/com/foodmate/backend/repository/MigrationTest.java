@@ -0,0 +1,91 @@
+package com.foodmate.backend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Flyway 도입 전 운영 DB (V1 스키마 + 중복 데이터) 에서 V2 이후 마이그레이션이 적용되는지 실제 MySQL 로 검증
+ * 공용 컨테이너에 테스트마다 빈 데이터베이스를 새로 만들어 사용
+ * Docker 가 없는 환경에서는 건너뜀
+ */
+class MigrationTest extends MySqlContainerTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = createDatabase("migration_test");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 운영 DB 와 같은 V1 스키마
+        flyway("1").migrate();
+    }
+
+    @Test
+    @DisplayName("V1 스키마에 geocell 컬럼을 추가하고 자동으로 정리할 수 있는 중복을 정리한 뒤 유니크 인덱스 생성")
+    void migrate() {
+
+        //given
+        insertMember(1L, "a@foodmate.com", "a", "token", "key", true);
+        insertMember(2L, "b@foodmate.com", "b", "token", "key", false);
+        jdbcTemplate.update("INSERT INTO likes (liked_id, liker_id) VALUES (1, 2), (1, 2), (2, 1)");
+        jdbcTemplate.update("INSERT INTO food_group (maximum, attendance, location) " +
+                "VALUES (4, 1, ST_GeomFromText('POINT(127.0276 37.4979)'))");
+
+        //when
+        flyway(null).migrate();
+
+        //then
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes", Integer.class));
+        assertNull(jdbcTemplate.queryForObject("SELECT refresh_token FROM member WHERE id = 1", String.class));
+        assertEquals("token", jdbcTemplate.queryForObject("SELECT refresh_token FROM member WHERE id = 2", String.class));
+        assertNull(jdbcTemplate.queryForObject("SELECT email_auth_key FROM member WHERE id = 1", String.class));
+        assertEquals("key", jdbcTemplate.queryForObject("SELECT email_auth_key FROM member WHERE id = 2", String.class));
+        assertTrue(jdbcTemplate.queryForObject("SELECT geocell FROM food_group", Long.class) > 0);
+    }
+
+    @Test
+    @DisplayName("같은 이메일의 회원이 있으면 인덱스를 만들기 전에 중단")
+    void fail_migrate_duplicateEmail() {
+
+        //given
+        insertMember(1L, "a@foodmate.com", "a", null, null, true);
+        insertMember(2L, "a@foodmate.com", "b", null, null, true);
+
+        //when
+        FlywayException exception = assertThrows(FlywayException.class, () -> flyway(null).migrate());
+
+        //then
+        assertTrue(exception.getMessage().contains("chk_v2_member_email_unique"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = 'food_group' AND column_name = 'geocell'",
+                Integer.class));
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target == null ? "latest" : target)
+                .load();
+    }
+
+    private void insertMember(Long id, String email, String nickname, String refreshToken, String emailAuthKey,
+                              boolean emailAuth) {
+        jdbcTemplate.update("INSERT INTO member (id, email, nickname, likes, refresh_token, email_auth_key, is_email_auth) " +
+                "VALUES (?, ?, ?, 0, ?, ?, ?)", id, email, nickname, refreshToken, emailAuthKey, emailAuth);
+    }
+
+}
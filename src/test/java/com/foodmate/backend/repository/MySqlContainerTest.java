@@ -0,0 +1,47 @@
+package com.foodmate.backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+/**
+ * 실제 MySQL 로 검증하는 테스트의 공통 설정
+ * 모든 테스트 클래스가 컨테이너 하나를 같이 사용 (처음 사용할 때 시작, 테스트 JVM 이 끝나면 Testcontainers 가 정리)
+ * 같은 데이터베이스를 쓰므로 커밋하는 테스트는 끝나면 직접 데이터를 지움
+ * 클래스별 추가 설정 (hibernate 통계 등) 은 하위 클래스의 @DynamicPropertySource 에서 등록
+ * Docker 가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+abstract class MySqlContainerTest {
+
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        MYSQL.start();
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    /**
+     * 같은 컨테이너에 빈 데이터베이스를 새로 만들어 반환 (이미 있으면 지우고 다시 생성)
+     * 스프링 컨텍스트 없이 빈 스키마부터 마이그레이션하는 테스트 (MigrationTest) 에서 사용
+     */
+    static DataSource createDatabase(String name) {
+        MYSQL.start();
+        JdbcTemplate root = new JdbcTemplate(
+                new DriverManagerDataSource(MYSQL.getJdbcUrl(), "root", MYSQL.getPassword()));
+        root.execute("DROP DATABASE IF EXISTS " + name);
+        root.execute("CREATE DATABASE " + name);
+
+        String url = MYSQL.getJdbcUrl().replaceFirst("/" + MYSQL.getDatabaseName() + "(?=\\?|$)", "/" + name);
+        return new DriverManagerDataSource(url, "root", MYSQL.getPassword());
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.foodmate.backend.repository;
+
+import com.foodmate.backend.entity.Comment;
+import com.foodmate.backend.entity.Food;
+import com.foodmate.backend.entity.FoodGroup;
+import com.foodmate.backend.entity.Member;
+import com.foodmate.backend.entity.Reply;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 댓글 한 페이지와 대댓글을 작성자와 함께 고정된 쿼리 수로 조회하는지 실제 MySQL 로 검증
+ * Docker 가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReplyRepositoryTest extends MySqlContainerTest {
+
+    @DynamicPropertySource
+    static void statisticsProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ReplyRepository replyRepository;
+
+    // 댓글별 대댓글 수 (첫 댓글은 미리보기 개수보다 많음)
+    private static final int[] REPLY_COUNTS = {15, 2, 0};
+
+    private FoodGroup foodGroup;
+    private final List<Long> commentIds = new ArrayList<>();
+    private final List<Long> replyIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+
+        Member owner = persistMember(0);
+        Food food = entityManager.persist(Food.builder().type("치킨").build());
+        foodGroup = entityManager.persist(FoodGroup.builder()
+                .member(owner)
+                .food(food)
+                .title("치킨 먹을 사람")
+                .name("모임")
+                .content("모임 내용")
+                .groupDateTime(LocalDateTime.now().plusDays(1))
+                .maximum(4)
+                .attendance(1)
+                .location(new GeometryFactory().createPoint(new Coordinate(126.9245, 37.5571)))
+                .build());
+
+        // 댓글, 대댓글 작성자가 모두 다름 (엔티티로 조회하면 작성자마다 조회 쿼리가 추가됨)
+        int memberNo = 1;
+        for (int replyCount : REPLY_COUNTS) {
+            Comment comment = entityManager.persist(Comment.builder()
+                    .foodGroup(foodGroup)
+                    .member(persistMember(memberNo++))
+                    .content("댓글")
+                    .build());
+            commentIds.add(comment.getId());
+            for (int i = 0; i < replyCount; i++) {
+                Reply reply = entityManager.persist(Reply.builder()
+                        .comment(comment)
+                        .member(persistMember(memberNo++))
+                        .content("대댓글" + i)
+                        .build());
+                replyIds.add(reply.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 페이지 - 작성자 함께 조회, 데이터 쿼리 1번")
+    void findAllByFoodGroup() {
+
+        //when
+        Page<Comment> comments = commentRepository.findAllByFoodGroup(foodGroup, PageRequest.of(0, 20));
+        comments.forEach(comment -> comment.getMember().getNickname());
+
+        //then
+        assertAll(
+                () -> assertEquals(1, statistics.getPrepareStatementCount()),
+                () -> assertEquals(REPLY_COUNTS.length, comments.getContent().size())
+        );
+    }
+
+    @Test
+    @DisplayName("댓글별 대댓글 앞부분 - 댓글별 최대 limit 개와 전체 대댓글 수, 쿼리 1번")
+    void findFirstReplyIdsByCommentIds() {
+
+        //when
+        List<Object[]> rows = replyRepository.findFirstReplyIdsByCommentIds(commentIds, 10);
+
+        //then
+        List<Long> firstReplyIds = rows.stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .collect(Collectors.toList());
+        List<Long> expected = new ArrayList<>(replyIds.subList(0, 10));
+        expected.addAll(replyIds.subList(15, 17));
+
+        assertAll(
+                () -> assertEquals(1, statistics.getPrepareStatementCount()),
+                () -> assertEquals(expected, firstReplyIds),
+                () -> assertEquals(15L, ((Number) rows.get(0)[2]).longValue()),
+                () -> assertEquals(2L, ((Number) rows.get(10)[2]).longValue())
+        );
+    }
+
+    @Test
+    @DisplayName("대댓글 아이디 목록 - 작성자 함께 조회, 쿼리 1번")
+    void findAllWithMemberByIdIn() {
+
+        //when
+        List<Reply> replies = replyRepository.findAllWithMemberByIdIn(replyIds);
+        replies.forEach(reply -> reply.getMember().getNickname());
+
+        //then
+        assertAll(
+                () -> assertEquals(1, statistics.getPrepareStatementCount()),
+                () -> assertEquals(replyIds.size(), replies.size())
+        );
+    }
+
+    @Test
+    @DisplayName("커서 기반 대댓글 조회 - 커서 이후부터 아이디 순")
+    void findAllByCommentAfter() {
+
+        //when
+        List<Reply> first = replyRepository.findAllByCommentAfter(commentIds.get(0), null, PageRequest.of(0, 10));
+        List<Reply> next = replyRepository.findAllByCommentAfter(commentIds.get(0),
+                first.get(first.size() - 1).getId(), PageRequest.of(0, 10));
+
+        //then
+        assertAll(
+                () -> assertEquals(replyIds.subList(0, 10),
+                        first.stream().map(Reply::getId).collect(Collectors.toList())),
+                () -> assertEquals(replyIds.subList(10, 15),
+                        next.stream().map(Reply::getId).collect(Collectors.toList()))
+        );
+    }
+
+    private Member persistMember(int no) {
+        return entityManager.persist(Member.builder()
+                .email("member" + no + "@foodmate.com")
+                .nickname("닉네임" + no)
+                .build());
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.foodmate.backend.security.filter;
+
+import com.foodmate.backend.component.MemberPrincipalCache;
+import com.foodmate.backend.enums.MemberRole;
+import com.foodmate.backend.repository.MemberRepository;
+import com.foodmate.backend.security.dto.MemberPrincipal;
+import com.foodmate.backend.security.service.JwtTokenProvider;
+import com.foodmate.backend.security.service.JwtTokenVerifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationProcessingFilterTest {
+
+    private static final String ACCESS_TOKEN = "accessToken";
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberPrincipalCache memberPrincipalCache;
+
+    @Mock
+    private JwtTokenVerifier jwtTokenVerifier;
+
+    @InjectMocks
+    private JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 액세스 토큰의 회원으로 인증")
+    void checkAccessTokenAndAuthentication() throws Exception {
+
+        //given
+        MockHttpServletRequest request = givenAccessToken(createPrincipal(false, false));
+
+        //when
+        jwtAuthenticationProcessingFilter.checkAccessTokenAndAuthentication(request);
+
+        //then
+        assertEquals("dlaehdgus23@naver.com", SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원은 토큰이 유효해도 인증하지 않음")
+    void checkAccessTokenAndAuthentication_deleted() throws Exception {
+
+        //given
+        MockHttpServletRequest request = givenAccessToken(createPrincipal(true, false));
+
+        //when
+        jwtAuthenticationProcessingFilter.checkAccessTokenAndAuthentication(request);
+
+        //then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("정지된 회원은 토큰이 유효해도 인증하지 않음")
+    void checkAccessTokenAndAuthentication_banned() throws Exception {
+
+        //given
+        MockHttpServletRequest request = givenAccessToken(createPrincipal(false, true));
+
+        //when
+        jwtAuthenticationProcessingFilter.checkAccessTokenAndAuthentication(request);
+
+        //then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private MockHttpServletRequest givenAccessToken(MemberPrincipal principal) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        given(jwtTokenProvider.extractAccessToken(request)).willReturn(Optional.of(ACCESS_TOKEN));
+        given(jwtTokenVerifier.verify(ACCESS_TOKEN)).willReturn(Optional.of(principal.getId()));
+        given(memberPrincipalCache.findById(principal.getId())).willReturn(Optional.of(principal));
+        return request;
+    }
+
+    private static MemberPrincipal createPrincipal(boolean deleted, boolean banned) {
+        return MemberPrincipal.builder()
+                .id(1L)
+                .email("dlaehdgus23@naver.com")
+                .nickname("동현")
+                .memberRole(MemberRole.USER)
+                .deleted(deleted)
+                .banned(banned)
+                .build();
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.foodmate.backend.security.service;
+
+import com.foodmate.backend.repository.MemberRepository;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenVerifierTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("foodmate-jwt-secret-key-for-test-only-0123456789".getBytes());
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private JwtTokenVerifier jwtTokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = spy(new JwtTokenProvider(SECRET, memberRepository));
+        jwtTokenVerifier = new JwtTokenVerifier(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 만료 전까지 다시 파싱하지 않음")
+    void verify_cached() {
+
+        //given
+        String accessToken = jwtTokenProvider.createAccessToken(1L);
+
+        //when
+        Optional<Long> first = jwtTokenVerifier.verify(accessToken);
+        Optional<Long> second = jwtTokenVerifier.verify(accessToken);
+
+        //then
+        assertEquals(Optional.of(1L), first);
+        assertEquals(Optional.of(1L), second);
+        assertEquals(1, jwtTokenVerifier.size());
+        verify(jwtTokenProvider, times(1)).parseClaims(accessToken);
+    }
+
+    @Test
+    @DisplayName("회원 아이디가 없는 토큰 (리프레시 토큰) 은 empty")
+    void verify_refreshToken() {
+        assertEquals(Optional.empty(), jwtTokenVerifier.verify(jwtTokenProvider.createRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 서명 오류, 만료된 토큰은 저장하지 않고 예외")
+    void fail_verify() {
+
+        //given
+        String accessToken = jwtTokenProvider.createAccessToken(1L);
+        String forged = accessToken.substring(0, accessToken.length() - 2) + "xx";
+        String expired = Jwts.builder()
+                .claim(JwtTokenProvider.MEMBER_ID, 1L)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(jwtTokenProvider.getKey(), SignatureAlgorithm.HS256)
+                .compact();
+
+        //when
+        //then
+        assertThrows(JwtException.class, () -> jwtTokenVerifier.verify(forged));
+        assertThrows(ExpiredJwtException.class, () -> jwtTokenVerifier.verify(expired));
+        assertEquals(0, jwtTokenVerifier.size());
+    }
+
+}
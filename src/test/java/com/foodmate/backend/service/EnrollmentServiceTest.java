@@ -1,11 +1,18 @@
 package com.foodmate.backend.service;
 
+import com.foodmate.backend.component.GroupDetailCache;
+import com.foodmate.backend.component.GroupSeatCounter;
+import com.foodmate.backend.component.MemberPrincipalCache;
+import com.foodmate.backend.component.UpcomingGroupStore;
 import com.foodmate.backend.dto.EnrollmentDto;
 import com.foodmate.backend.entity.Enrollment;
 import com.foodmate.backend.entity.Food;
 import com.foodmate.backend.entity.FoodGroup;
 import com.foodmate.backend.entity.Member;
 import com.foodmate.backend.enums.EnrollmentStatus;
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.exception.EnrollmentException;
+import com.foodmate.backend.exception.GroupException;
 import com.foodmate.backend.repository.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +22,7 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,13 +38,20 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
 public class EnrollmentServiceTest {
 
     @Mock
-    private MemberRepository memberRepository;
+    private MemberPrincipalCache memberPrincipalCache;
 
     @Mock
     private FoodRepository foodRepository;
@@ -50,6 +65,15 @@ public class EnrollmentServiceTest {
     @Mock
     private EnrollmentRepository enrollmentRepository;
 
+    @Mock
+    private UpcomingGroupStore upcomingGroupStore;
+
+    @Mock
+    private GroupDetailCache groupDetailCache;
+
+    @Spy
+    private GroupSeatCounter groupSeatCounter = new GroupSeatCounter();
+
     @InjectMocks
     private EnrollmentService enrollmentService;
 
@@ -97,7 +121,7 @@ public class EnrollmentServiceTest {
         enrollments.add(createMockEnrollment(enrollmentId1, mockMember2, mockGroup));
         enrollments.add(createMockEnrollment(enrollmentId2, mockMember3, mockGroup));
 
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember1));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember1);
         given(enrollmentRepository.findByMyEnrollmentProcessedListWithStatus(memberId1, EnrollmentStatus.ACCEPT, pageable))
                 .willReturn(new PageImpl<>(enrollments));
 
@@ -110,6 +134,101 @@ public class EnrollmentServiceTest {
         assertEquals(enrollments.size(), 2);
     }
 
+    @Test
+    @DisplayName("신청 수락 성공 - 조건부 UPDATE 로 참여 인원 증가")
+    void success_acceptEnrollment() {
+
+        //given
+        Member mockMember1 = createMockMember(memberId1);
+        Member mockMember2 = createMockMember(memberId2);
+        FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember1, createMockFood(foodId), 1);
+        Enrollment mockEnrollment = createMockSubmitEnrollment(enrollmentId1, mockMember2, mockGroup);
+
+        given(enrollmentRepository.findById(enrollmentId1)).willReturn(Optional.of(mockEnrollment),
+                Optional.of(createMockEnrollment(enrollmentId1, mockMember2, mockGroup)));
+        given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
+        given(enrollmentRepository.updateStatusIfCurrent(eq(enrollmentId1), eq(EnrollmentStatus.SUBMIT),
+                eq(EnrollmentStatus.ACCEPT), any())).willReturn(1);
+        given(foodGroupRepository.increaseAttendance(groupId)).willReturn(1);
+        given(foodGroupRepository.findAttendanceById(groupId)).willReturn(2);
+
+        //when
+        Enrollment result = enrollmentService.acceptEnrollment(enrollmentId1);
+
+        //then
+        assertEquals(EnrollmentStatus.ACCEPT, result.getStatus());
+        verify(upcomingGroupStore).updateAttendance(groupId, 2);
+        verify(groupDetailCache).evict(groupId);
+    }
+
+    @Test
+    @DisplayName("신청 수락 실패 - 정원이 찬 모임은 DB 에 쓰지 않고 거절")
+    void fail_acceptEnrollment_group_full() {
+
+        //given
+        Member mockMember1 = createMockMember(memberId1);
+        Member mockMember2 = createMockMember(memberId2);
+        FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember1, createMockFood(foodId), MAX_PARTICIPANTS);
+        Enrollment mockEnrollment = createMockSubmitEnrollment(enrollmentId1, mockMember2, mockGroup);
+
+        given(enrollmentRepository.findById(enrollmentId1)).willReturn(Optional.of(mockEnrollment));
+        given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
+
+        //when
+        EnrollmentException exception = assertThrows(EnrollmentException.class,
+                () -> enrollmentService.acceptEnrollment(enrollmentId1));
+
+        //then
+        assertEquals(Error.GROUP_FULL, exception.getError());
+        verify(enrollmentRepository, never()).updateStatusIfCurrent(anyLong(), any(), any(), any());
+        verify(foodGroupRepository, never()).increaseAttendance(anyLong());
+    }
+
+    @Test
+    @DisplayName("신청 수락 실패 - 삭제된 모임은 정원 초과가 아닌 모임 없음으로 거절")
+    void fail_acceptEnrollment_group_deleted() {
+
+        //given
+        Member mockMember1 = createMockMember(memberId1);
+        Member mockMember2 = createMockMember(memberId2);
+        FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember1, createMockFood(foodId), 1);
+        mockGroup.setIsDeleted(LocalDateTime.now());
+        Enrollment mockEnrollment = createMockSubmitEnrollment(enrollmentId1, mockMember2, mockGroup);
+
+        given(enrollmentRepository.findById(enrollmentId1)).willReturn(Optional.of(mockEnrollment));
+        given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
+
+        //when
+        GroupException exception = assertThrows(GroupException.class,
+                () -> enrollmentService.acceptEnrollment(enrollmentId1));
+
+        //then
+        assertEquals(Error.GROUP_NOT_FOUND, exception.getError());
+        verify(groupSeatCounter, never()).tryReserve(anyLong(), anyInt(), anyInt());
+        verify(enrollmentRepository, never()).updateStatusIfCurrent(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("신청 수락 실패 - 이미 처리된 신청")
+    void fail_acceptEnrollment_not_submit() {
+
+        //given
+        Member mockMember1 = createMockMember(memberId1);
+        Member mockMember2 = createMockMember(memberId2);
+        FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember1, createMockFood(foodId), 1);
+
+        given(enrollmentRepository.findById(enrollmentId1))
+                .willReturn(Optional.of(createMockEnrollment(enrollmentId1, mockMember2, mockGroup)));
+
+        //when
+        EnrollmentException exception = assertThrows(EnrollmentException.class,
+                () -> enrollmentService.acceptEnrollment(enrollmentId1));
+
+        //then
+        assertEquals(Error.ENROLLMENT_ACCEPT_NOT_STATUS, exception.getError());
+        verify(foodGroupRepository, never()).increaseAttendance(anyLong());
+    }
+
 
     /**
      * test용 테이터 생성 메서드
@@ -165,6 +284,15 @@ public class EnrollmentServiceTest {
                 .build();
     }
 
+    private Enrollment createMockSubmitEnrollment(Long enrollmentId, Member mockMember, FoodGroup mockFoodGroup) {
+        return Enrollment.builder()
+                .id(enrollmentId)
+                .status(EnrollmentStatus.SUBMIT)
+                .foodGroup(mockFoodGroup)
+                .member(mockMember)
+                .build();
+    }
+
     private Enrollment createMockEnrollment(Long enrollmentId, Member mockMember, FoodGroup mockFoodGroup) {
         return Enrollment.builder()
                 .id(enrollmentId)
@@ -0,0 +1,128 @@
+package com.foodmate.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.foodmate.backend.dto.ExportDto;
+import com.foodmate.backend.enums.EnrollmentStatus;
+import com.foodmate.backend.enums.ExportFormat;
+import com.foodmate.backend.repository.ChatMessageRepository;
+import com.foodmate.backend.repository.EnrollmentRepository;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private FoodGroupRepository foodGroupRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private ExportService exportService;
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    @Test
+    @DisplayName("모임 NDJSON 내보내기 - updatedSince 가 없으면 전체, 한 줄에 한 모임")
+    void exportGroups_ndjson() throws IOException {
+
+        //given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(foodGroupRepository.streamForExport(LocalDateTime.of(1970, 1, 1, 0, 0)))
+                .willReturn(Stream.of(createGroup(1L, "치킨\n먹을 사람"), createGroup(2L, "피자 먹을 사람"))
+                        .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        exportService.exportGroups(null, ExportFormat.NDJSON, out);
+
+        //then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertAll(
+                () -> assertEquals(2, lines.length),
+                () -> assertEquals(1L, first.get("id").asLong()),
+                () -> assertEquals("치킨\n먹을 사람", first.get("title").asText()),
+                () -> assertEquals(37.5571, first.get("latitude").asDouble()),
+                () -> assertEquals(DATE, LocalDateTime.parse(first.get("updatedDate").asText())),
+                () -> assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong()),
+                () -> assertTrue(closed.get())
+        );
+    }
+
+    @Test
+    @DisplayName("신청 CSV 내보내기 - 첫 줄은 컬럼명")
+    void exportEnrollments_csv() throws IOException {
+
+        //given
+        given(enrollmentRepository.streamForExport(DATE))
+                .willReturn(Stream.of(new ExportDto.Enrollment(1L, 2L, 3L, EnrollmentStatus.ACCEPT,
+                        DATE, null, DATE.plusMinutes(1))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        exportService.exportEnrollments(DATE, ExportFormat.CSV, out);
+
+        //then
+        assertEquals("id,memberId,groupId,status,enrollDate,decisionDate,updatedDate\n" +
+                        "1,2,3,ACCEPT,2023-11-01T12:00,,2023-11-01T12:01\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 CSV 내보내기 - 쉼표, 큰따옴표, 줄바꿈이 있는 값은 큰따옴표로 감쌈")
+    void exportChatMessages_csv_escape() throws IOException {
+
+        //given
+        given(chatMessageRepository.streamForExport(DATE))
+                .willReturn(Stream.of(new ExportDto.ChatMessage(1L, 2L, 3L, "안녕, \"반가워\"\n내일 봐요", DATE)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        exportService.exportChatMessages(DATE, ExportFormat.CSV, out);
+
+        //then
+        assertEquals("id,chatRoomId,memberId,content,createDateTime\n" +
+                        "1,2,3,\"안녕, \"\"반가워\"\"\n내일 봐요\",2023-11-01T12:00\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    private ExportDto.Group createGroup(Long id, String title) {
+        return new ExportDto.Group(id, 1L, "한식", title, "모임", DATE.plusDays(1), 4, 1,
+                "가게", "서울 마포구", new GeometryFactory().createPoint(new Coordinate(126.9245, 37.5571)),
+                DATE, null, DATE);
+    }
+
+}
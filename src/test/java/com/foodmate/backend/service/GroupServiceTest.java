@@ -2,16 +2,35 @@ package com.foodmate.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.foodmate.backend.component.FoodCatalog;
+import com.foodmate.backend.component.GroupDetailCache;
+import com.foodmate.backend.component.GroupKeywordIndex;
+import com.foodmate.backend.component.GroupLocationIndex;
+import com.foodmate.backend.component.GroupSearchPlanner;
+import com.foodmate.backend.component.GroupSeatCounter;
+import com.foodmate.backend.component.MemberPrincipalCache;
+import com.foodmate.backend.component.RankingSnapshot;
+import com.foodmate.backend.component.UpcomingGroupStore;
+import com.foodmate.backend.component.WindowedRankingCounter;
 import com.foodmate.backend.dto.CommentDto;
+import com.foodmate.backend.dto.CursorDto;
 import com.foodmate.backend.dto.GroupDto;
+import com.foodmate.backend.dto.GroupSearchCondition;
 import com.foodmate.backend.dto.NearbyGroupDto;
 import com.foodmate.backend.dto.ReplyDto;
 import com.foodmate.backend.dto.SearchedGroupDto;
@@ -21,6 +40,7 @@ import com.foodmate.backend.entity.Food;
 import com.foodmate.backend.entity.FoodGroup;
 import com.foodmate.backend.entity.Member;
 import com.foodmate.backend.entity.Reply;
+import com.foodmate.backend.entity.Store;
 import com.foodmate.backend.enums.EnrollmentStatus;
 import com.foodmate.backend.enums.Error;
 import com.foodmate.backend.exception.CommentException;
@@ -32,12 +52,13 @@ import com.foodmate.backend.repository.ChatRoomRepository;
 import com.foodmate.backend.repository.CommentRepository;
 import com.foodmate.backend.repository.EnrollmentRepository;
 import com.foodmate.backend.repository.FoodGroupRepository;
-import com.foodmate.backend.repository.FoodRepository;
-import com.foodmate.backend.repository.MemberRepository;
+import com.foodmate.backend.repository.RankingCounterRepository;
 import com.foodmate.backend.repository.ReplyRepository;
+import com.foodmate.backend.util.GroupCursor;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -46,8 +67,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -61,10 +84,10 @@ import org.springframework.security.core.authority.AuthorityUtils;
 public class GroupServiceTest {
 
     @Mock
-    private MemberRepository memberRepository;
+    private MemberPrincipalCache memberPrincipalCache;
 
     @Mock
-    private FoodRepository foodRepository;
+    private FoodCatalog foodCatalog;
 
     @Mock
     private FoodGroupRepository foodGroupRepository;
@@ -80,6 +103,37 @@ public class GroupServiceTest {
 
     @Mock
     private ReplyRepository replyRepository;
+
+    @Mock
+    private GroupLocationIndex groupLocationIndex;
+
+    @Mock
+    private GroupKeywordIndex groupKeywordIndex;
+
+    @Mock
+    private UpcomingGroupStore upcomingGroupStore;
+
+    @Spy
+    private GroupDetailCache groupDetailCache = new GroupDetailCache();
+
+    @Spy
+    private GroupSeatCounter groupSeatCounter = new GroupSeatCounter();
+
+    @Mock
+    private GroupSearchPlanner groupSearchPlanner;
+
+    @Mock
+    private RankingCounterRepository rankingCounterRepository;
+
+    @Mock
+    private WindowedRankingCounter windowedRankingCounter;
+
+    @Mock
+    private RankingSnapshot rankingSnapshot;
+
+    @Mock
+    private StoreService storeService;
+
     @InjectMocks
     private GroupService groupService;
 
@@ -87,6 +141,7 @@ public class GroupServiceTest {
     public static final Long memberId2 = 2L;
     public static final Long foodId = 1L;
     public static final Long groupId = 1L;
+    public static final Long storeId = 1L;
     public static final Long commentId = 1L;
     public static final Long replyId = 1L;
 
@@ -118,8 +173,8 @@ public class GroupServiceTest {
         Member mockMember = createMockMember(memberId1);
         Food mockFood = createMockFood(foodId);
 
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
-        given(foodRepository.findByType("치킨")).willReturn(Optional.of(mockFood));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
+        given(foodCatalog.findByType("치킨")).willReturn(Optional.of(mockFood));
 
         //when
         groupService.addGroup(mockAuthentication, GroupDto.Request.builder()
@@ -140,6 +195,7 @@ public class GroupServiceTest {
         //then
         verify(foodGroupRepository, times(1)).save(any());
         verify(chatRoomRepository, times(1)).save(any());
+        verify(storeService, times(1)).findOrCreate(eq(STORE_NAME), eq(STORE_ADDRESS), any());
 
     }
 
@@ -152,8 +208,8 @@ public class GroupServiceTest {
         Member mockMember = createMockMember(memberId1);
         Food mockFood = createMockFood(foodId);
 
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
-        given(foodRepository.findByType("치킨")).willReturn(Optional.of(mockFood));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
+        given(foodCatalog.findByType("치킨")).willReturn(Optional.of(mockFood));
 
         //when
         GroupException exception = assertThrows(GroupException.class,
@@ -240,6 +296,33 @@ public class GroupServiceTest {
 
     }
 
+    @Test
+    @DisplayName("특정 모임 상세 조회 - 두 번째 조회부터 캐시 사용, 수정 후 다시 조회")
+    void success_getGroupDetail_cache() {
+
+        //given
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember, mockFood, 1);
+
+        ChatRoom mockChatRoom = new ChatRoom();
+        mockChatRoom.setId(1L);
+
+        given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
+        given(chatRoomRepository.findByFoodGroupId(groupId)).willReturn(Optional.of(mockChatRoom));
+
+        //when
+        groupService.getGroupDetail(groupId);
+        groupService.getGroupDetail(groupId);
+        groupDetailCache.evict(groupId);
+        groupService.getGroupDetail(groupId);
+
+        //then
+        verify(foodGroupRepository, times(2)).findById(groupId);
+        assertEquals(1, groupDetailCache.getHitCount());
+        assertEquals(2, groupDetailCache.getMissCount());
+    }
+
     @Test
     @DisplayName("특정 모임 수정 성공")
     void success_updateGroup() {
@@ -251,8 +334,8 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember, mockFood, 1);
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
-        given(foodRepository.findByType("치킨")).willReturn(Optional.of(mockFood));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
+        given(foodCatalog.findByType("치킨")).willReturn(Optional.of(mockFood));
 
         //when
         groupService.updateGroup(groupId, mockAuthentication, GroupDto.Request.builder()
@@ -287,7 +370,7 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember1, mockFood, 1);
 
         given(foodGroupRepository.findById(anyLong())).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember2));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember2);
 
         //when
         GroupException exception = assertThrows(GroupException.class,
@@ -323,8 +406,8 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember, mockFood, 1);
 
         given(foodGroupRepository.findById(anyLong())).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
-        given(foodRepository.findByType("치킨")).willReturn(Optional.of(mockFood));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
+        given(foodCatalog.findByType("치킨")).willReturn(Optional.of(mockFood));
 
         //when
         GroupException exception = assertThrows(GroupException.class,
@@ -361,7 +444,7 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember, mockFood, 1);
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
 
         //when
         groupService.deleteGroup(groupId, mockAuthentication);
@@ -370,6 +453,34 @@ public class GroupServiceTest {
         verify(foodGroupRepository, times(1)).save(mockGroup);
         verify(enrollmentRepository, times(1))
                 .updateStatusByGroupId(groupId, EnrollmentStatus.GROUP_CANCEL);
+        verify(rankingCounterRepository, times(0))
+                .increaseAll(anyLong(), anyLong(), any(), anyLong());
+
+    }
+
+    @Test
+    @DisplayName("특정 모임 삭제 성공 - 랭킹에 반영된 지난 모임이면 카운터 감소")
+    void success_deleteGroup_ranked() {
+
+        //given
+        Authentication mockAuthentication = createAuthentication();
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember, mockFood, 1);
+        mockGroup.setStore(Store.builder().id(storeId).name(STORE_NAME).address(STORE_ADDRESS).build());
+
+        given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
+        given(foodGroupRepository.unmarkRanked(groupId)).willReturn(1);
+
+        //when
+        groupService.deleteGroup(groupId, mockAuthentication);
+
+        //then
+        verify(rankingCounterRepository, times(1))
+                .increaseAll(memberId1, foodId, storeId, -1);
+        verify(windowedRankingCounter, times(1))
+                .addGroup(memberId1, foodId, storeId, VALID_DATE, -1);
 
     }
 
@@ -385,7 +496,7 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember1, mockFood, 1);
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember2));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember2);
 
         //when
         GroupException exception = assertThrows(GroupException.class,
@@ -409,7 +520,7 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember1, mockFood, 1);
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember2));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember2);
 
         //when
         groupService.enrollInGroup(groupId, mockAuthentication);
@@ -430,7 +541,7 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember, mockFood, 1);
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
 
         //when
         EnrollmentException exception = assertThrows(EnrollmentException.class,
@@ -454,7 +565,7 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember1, mockFood, 1);
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember2));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember2);
         given(enrollmentRepository.existsByMemberAndFoodGroup(mockMember2,mockGroup)).willReturn(true);
 
         //when
@@ -479,7 +590,7 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember1, mockFood, 8);
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember2));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember2);
 
         //when
         EnrollmentException exception = assertThrows(EnrollmentException.class,
@@ -502,7 +613,7 @@ public class GroupServiceTest {
         FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember, mockFood, 1);
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
 
         //when
         groupService.addComment(groupId, mockAuthentication, CommentDto.Request.builder()
@@ -528,7 +639,7 @@ public class GroupServiceTest {
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(mockComment));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
 
         //when
         groupService.addReply(groupId, commentId, mockAuthentication,
@@ -555,7 +666,7 @@ public class GroupServiceTest {
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(mockComment));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
 
         //when
         groupService.updateComment(groupId, commentId, mockAuthentication,
@@ -582,7 +693,7 @@ public class GroupServiceTest {
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(mockComment));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember2));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember2);
 
         //when
         CommentException exception = assertThrows(CommentException.class,
@@ -613,7 +724,7 @@ public class GroupServiceTest {
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(mockComment));
         given(replyRepository.findById(replyId)).willReturn(Optional.of(mockReply));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
 
         //when
         groupService.updateReply(groupId, commentId, replyId, mockAuthentication,
@@ -643,7 +754,7 @@ public class GroupServiceTest {
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(mockComment));
         given(replyRepository.findById(replyId)).willReturn(Optional.of(mockReply));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember2));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember2);
 
         //when
         ReplyException exception = assertThrows(ReplyException.class,
@@ -672,7 +783,7 @@ public class GroupServiceTest {
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(mockComment));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
 
         //when
         groupService.deleteComment(groupId, commentId, mockAuthentication);
@@ -697,7 +808,7 @@ public class GroupServiceTest {
 
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(mockComment));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember2));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember2);
 
         //when
         CommentException exception = assertThrows(CommentException.class,
@@ -724,7 +835,7 @@ public class GroupServiceTest {
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(mockComment));
         given(replyRepository.findById(replyId)).willReturn(Optional.of(mockReply));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
 
         //when
         groupService.deleteReply(groupId, commentId, replyId, mockAuthentication);
@@ -750,7 +861,7 @@ public class GroupServiceTest {
         given(foodGroupRepository.findById(groupId)).willReturn(Optional.of(mockGroup));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(mockComment));
         given(replyRepository.findById(replyId)).willReturn(Optional.of(mockReply));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember2));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember2);
 
         //when
         ReplyException exception = assertThrows(ReplyException.class,
@@ -784,7 +895,9 @@ public class GroupServiceTest {
 
         given(foodGroupRepository.findById(any())).willReturn(Optional.of(mockGroup));
         given(commentRepository.findAllByFoodGroup(any(), any())).willReturn(commentsPage);
-        given(replyRepository.findAllByComment(any())).willReturn(replies);
+        given(replyRepository.findFirstReplyIdsByCommentIds(List.of(commentId), 10))
+                .willReturn(List.<Object[]>of(new Object[]{replyId, commentId, 1L}));
+        given(replyRepository.findAllWithMemberByIdIn(List.of(replyId))).willReturn(replies);
 
         //when
         Page<CommentDto.Response> response = groupService.getComments(groupId, pageable);
@@ -823,11 +936,42 @@ public class GroupServiceTest {
                 () -> assertEquals(replyContent.getCreatedDate(),
                         responseReplyContent.getCreatedDate()),
                 () -> assertEquals(replyContent.getUpdatedDate(),
-                        responseReplyContent.getUpdatedDate())
+                        responseReplyContent.getUpdatedDate()),
+                () -> assertEquals(1L, responseCommentContent.getReplyCount()),
+                () -> assertNull(responseCommentContent.getNextReplyCursor())
         );
 
     }
 
+    @Test
+    @DisplayName("커서 기반 대댓글 조회 성공 - 다음 페이지 존재")
+    void success_getReplies() {
+
+        //given
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember, mockFood, 1);
+        Comment mockComment = createMockComment(commentId, mockGroup, mockMember);
+
+        List<Reply> replies = new ArrayList<>();
+        replies.add(createMockReply(6L, mockComment, mockMember));
+        replies.add(createMockReply(7L, mockComment, mockMember));
+        replies.add(createMockReply(8L, mockComment, mockMember));
+
+        given(foodGroupRepository.findById(any())).willReturn(Optional.of(mockGroup));
+        given(commentRepository.findById(any())).willReturn(Optional.of(mockComment));
+        given(replyRepository.findAllByCommentAfter(commentId, 5L, PageRequest.of(0, 3))).willReturn(replies);
+
+        //when
+        CursorDto<ReplyDto.Response> response = groupService.getReplies(groupId, commentId, 5L, 2);
+
+        //then
+        assertEquals(2, response.getContent().size());
+        assertEquals(6L, response.getContent().get(0).getReplyId());
+        assertTrue(response.isHasNext());
+        assertEquals("7", response.getNextCursor());
+    }
+
     @Test
     @DisplayName("검색 기능 성공")
     void success_searchByKeyword() {
@@ -851,6 +995,33 @@ public class GroupServiceTest {
 
     }
 
+    @Test
+    @DisplayName("검색 기능 성공 - 검색어 인덱스")
+    void success_searchByKeyword_index() {
+
+        //given
+        Pageable pageable = PageRequest.of(pageNumber, pageSize);
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        FoodGroup mockGroup = createMockFoodGroup(groupId, mockMember, mockFood, 1);
+
+        given(groupKeywordIndex.isLoaded()).willReturn(true);
+        given(groupKeywordIndex.search(any(), any(), any())).willReturn(List.of(groupId));
+        given(foodGroupRepository.findSearchedGroupsByIdIn(List.of(groupId)))
+                .willReturn(List.of(new SearchedGroupDto(mockGroup)));
+
+        //when
+        Page<SearchedGroupDto> response = groupService.searchByKeyword("치킨", pageable);
+
+        //then
+        verify(foodGroupRepository, times(0))
+                .searchByKeyword(any(), any(), any(), any());
+
+        assertEquals(1, response.getTotalElements());
+        assertEquals(groupId, response.getContent().get(0).getGroupId());
+
+    }
+
     @Test
     @DisplayName("오늘 모임 조회 성공")
     void success_getTodayGroupList() {
@@ -895,6 +1066,32 @@ public class GroupServiceTest {
 
     }
 
+    @Test
+    @DisplayName("전체 모임 조회 성공 - 모임 목록 저장소 사용")
+    void success_getAllGroupList_store() {
+
+        //given
+        Pageable pageable = PageRequest.of(pageNumber, pageSize);
+        Member member = createMockMember();
+        Food food = createMockFood();
+        List<SearchedGroupDto> groups = List.of(
+                new SearchedGroupDto(createMockFoodGroup(2L, member, food, 1)),
+                new SearchedGroupDto(createMockFoodGroup(1L, member, food, 1)));
+
+        given(upcomingGroupStore.isLoaded()).willReturn(true);
+        given(upcomingGroupStore.findAll(any(), any(), any()))
+                .willReturn(new PageImpl<>(groups, pageable, groups.size()));
+
+        //when
+        Page<SearchedGroupDto> response = groupService.getAllGroupList(pageable);
+
+        //then
+        verify(foodGroupRepository, times(0)).getAllGroupList(any(), any(), any());
+
+        assertEquals(2, response.getTotalElements());
+        assertEquals(2L, response.getContent().get(0).getGroupId());
+    }
+
     @Test
     @DisplayName("거리순 조회 성공")
     void success_searchByLocation() {
@@ -918,6 +1115,145 @@ public class GroupServiceTest {
 
     }
 
+    @Test
+    @DisplayName("거리순 조회 성공 - 공간 인덱스")
+    void success_searchByLocation_index() {
+
+        //given
+        Pageable pageable = PageRequest.of(pageNumber, pageSize);
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        FoodGroup nearGroup = createMockFoodGroup(2L, mockMember, mockFood, 1);
+        FoodGroup farGroup = createMockFoodGroup(1L, mockMember, mockFood, 1);
+
+        given(groupLocationIndex.isLoaded()).willReturn(true);
+        given(groupLocationIndex.findNearest(anyDouble(), anyDouble(), anyInt(), any(), any()))
+                .willReturn(List.of(2L, 1L));
+        given(groupLocationIndex.count(any(), any())).willReturn(2);
+        given(foodGroupRepository.findSearchedGroupsByIdIn(List.of(2L, 1L)))
+                .willReturn(List.of(new SearchedGroupDto(farGroup), new SearchedGroupDto(nearGroup)));
+
+        //when
+        Page<SearchedGroupDto> response = groupService.searchByLocation(LATITUDE, LONGITUDE, pageable);
+
+        //then
+        verify(foodGroupRepository, times(0))
+                .searchByLocation(any(), any(), any(), any());
+
+        assertEquals(2, response.getTotalElements());
+        assertEquals(2L, response.getContent().get(0).getGroupId());
+        assertEquals(1L, response.getContent().get(1).getGroupId());
+
+    }
+
+    @Test
+    @DisplayName("커서 기반 전체 모임 조회 성공")
+    void success_getAllGroupListWithCursor() {
+
+        //given
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        List<SearchedGroupDto> groups = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            FoodGroup group = createMockFoodGroup(id, mockMember, mockFood, 1);
+            group.setCreatedDate(VALID_DATE.atStartOfDay().plusMinutes(id));
+            groups.add(new SearchedGroupDto(group));
+        }
+
+        given(foodGroupRepository.getAllGroupListAfter(any(), any(), any(), any(), any())).willReturn(groups);
+
+        //when
+        CursorDto<SearchedGroupDto> response = groupService.getAllGroupListWithCursor(null, 2);
+
+        //then
+        verify(foodGroupRepository, times(1))
+                .getAllGroupListAfter(any(), any(), isNull(), isNull(), eq(PageRequest.of(0, 3)));
+
+        GroupCursor nextCursor = GroupCursor.decode(response.getNextCursor());
+        assertAll(
+                () -> assertEquals(2, response.getContent().size()),
+                () -> assertTrue(response.isHasNext()),
+                () -> assertEquals(2L, nextCursor.getGroupId()),
+                () -> assertEquals(VALID_DATE.atStartOfDay().plusMinutes(2), nextCursor.getDateTime())
+        );
+
+    }
+
+    @Test
+    @DisplayName("커서 기반 전체 모임 조회 성공 - 마지막 페이지")
+    void success_getAllGroupListWithCursor_lastPage() {
+
+        //given
+        String cursor = GroupCursor.encode(VALID_DATE.atStartOfDay(), 5L);
+
+        given(foodGroupRepository.getAllGroupListAfter(any(), any(), any(), any(), any()))
+                .willReturn(new ArrayList<>());
+
+        //when
+        CursorDto<SearchedGroupDto> response = groupService.getAllGroupListWithCursor(cursor, 2);
+
+        //then
+        verify(foodGroupRepository, times(1))
+                .getAllGroupListAfter(any(), any(), eq(VALID_DATE.atStartOfDay()), eq(5L), any());
+
+        assertAll(
+                () -> assertEquals(0, response.getContent().size()),
+                () -> assertFalse(response.isHasNext()),
+                () -> assertNull(response.getNextCursor())
+        );
+
+    }
+
+    @Test
+    @DisplayName("커서 기반 전체 모임 조회 실패 - 올바르지 않은 커서")
+    void fail_getAllGroupListWithCursor_invalidCursor() {
+
+        //when
+        GroupException exception = assertThrows(GroupException.class,
+                () -> groupService.getAllGroupListWithCursor("not-a-cursor", 2));
+
+        //then
+        assertEquals(Error.INVALID_CURSOR, exception.getError());
+
+    }
+
+    @Test
+    @DisplayName("커서 기반 거리순 조회 성공 - 공간 인덱스")
+    void success_searchByLocationWithCursor_index() {
+
+        //given
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        FoodGroup nearGroup = createMockFoodGroup(2L, mockMember, mockFood, 1);
+
+        LinkedHashMap<Long, Double> distances = new LinkedHashMap<>();
+        distances.put(2L, 150.5);
+        distances.put(1L, 320.25);
+
+        given(groupLocationIndex.isLoaded()).willReturn(true);
+        given(groupLocationIndex.findNearest(anyDouble(), anyDouble(), anyInt(), any(), any(), anyDouble(), any()))
+                .willReturn(distances);
+        given(foodGroupRepository.findSearchedGroupsByIdIn(List.of(2L)))
+                .willReturn(List.of(new SearchedGroupDto(nearGroup)));
+
+        //when
+        CursorDto<SearchedGroupDto> response = groupService.searchByLocationWithCursor(LATITUDE, LONGITUDE,
+                null, 1);
+
+        //then
+        verify(foodGroupRepository, times(0))
+                .searchByLocationAfter(anyDouble(), anyDouble(), any(), any(), anyDouble(), any(), anyInt());
+
+        GroupCursor nextCursor = GroupCursor.decode(response.getNextCursor());
+        assertAll(
+                () -> assertEquals(1, response.getContent().size()),
+                () -> assertEquals(2L, response.getContent().get(0).getGroupId()),
+                () -> assertEquals(2L, nextCursor.getGroupId()),
+                () -> assertEquals(150.5, nextCursor.getDistance())
+        );
+
+    }
+
     @Test
     @DisplayName("날짜별 조회 성공")
     void success_searchByDate() {
@@ -974,7 +1310,7 @@ public class GroupServiceTest {
         List<String> foods = new ArrayList<>();
         foods.add("치킨피자");
 
-        given(foodRepository.existsByType("치킨피자")).willReturn(false);
+        given(foodCatalog.existsByType("치킨피자")).willReturn(false);
 
         //when
         FoodException exception = assertThrows(FoodException.class,
@@ -986,6 +1322,101 @@ public class GroupServiceTest {
 
     }
 
+    @Test
+    @DisplayName("복합 조건 검색 성공")
+    void success_searchGroups() {
+
+        //given
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        List<SearchedGroupDto> groups = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            FoodGroup group = createMockFoodGroup(id, mockMember, mockFood, 1);
+            group.setCreatedDate(VALID_DATE.atStartOfDay().plusMinutes(id));
+            groups.add(new SearchedGroupDto(group));
+        }
+        GroupDto.SearchRequest request = GroupDto.SearchRequest.builder()
+                .keyword("치킨")
+                .latitude(LATITUDE)
+                .longitude(LONGITUDE)
+                .available(true)
+                .build();
+
+        given(groupSearchPlanner.isReady(any())).willReturn(true);
+        given(groupSearchPlanner.search(any(), isNull(), isNull(), eq(3))).willReturn(groups);
+
+        //when
+        CursorDto<SearchedGroupDto> response = groupService.searchGroups(request, null, 2);
+
+        //then
+        verify(foodGroupRepository, times(0)).searchGroupIdsAfter(any(), any(), any(), anyInt());
+
+        GroupCursor nextCursor = GroupCursor.decode(response.getNextCursor());
+        assertAll(
+                () -> assertEquals(2, response.getContent().size()),
+                () -> assertTrue(response.isHasNext()),
+                () -> assertEquals(2L, nextCursor.getGroupId())
+        );
+
+    }
+
+    @Test
+    @DisplayName("복합 조건 검색 성공 - 저장소 적재 전 DB 조회")
+    void success_searchGroups_db() {
+
+        //given
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        FoodGroup group = createMockFoodGroup(1L, mockMember, mockFood, 1);
+        group.setCreatedDate(VALID_DATE.atStartOfDay());
+        GroupDto.SearchRequest request = GroupDto.SearchRequest.builder()
+                .keyword("치킨")
+                .build();
+
+        given(groupSearchPlanner.isReady(any())).willReturn(false);
+        given(foodGroupRepository.searchGroupIdsAfter(any(GroupSearchCondition.class), isNull(), isNull(), eq(3)))
+                .willReturn(List.of(1L));
+        given(foodGroupRepository.findSearchedGroupsByIdIn(List.of(1L))).willReturn(List.of(new SearchedGroupDto(group)));
+
+        //when
+        CursorDto<SearchedGroupDto> response = groupService.searchGroups(request, null, 2);
+
+        //then
+        ArgumentCaptor<GroupSearchCondition> conditionCaptor = ArgumentCaptor.forClass(GroupSearchCondition.class);
+        verify(foodGroupRepository, times(1)).searchGroupIdsAfter(conditionCaptor.capture(), isNull(), isNull(), eq(3));
+        GroupSearchCondition condition = conditionCaptor.getValue();
+
+        assertAll(
+                () -> assertEquals("치킨", condition.getKeyword()),
+                () -> assertFalse(condition.hasFoods()),
+                () -> assertFalse(condition.hasLocation()),
+                () -> assertFalse(condition.isAvailable()),
+                () -> assertEquals(1, response.getContent().size()),
+                () -> assertFalse(response.isHasNext()),
+                () -> assertNull(response.getNextCursor())
+        );
+
+    }
+
+    @Test
+    @DisplayName("복합 조건 검색 실패 - 위도, 경도 중 하나만 입력")
+    void fail_searchGroups_invalid_location() {
+
+        //given
+        GroupDto.SearchRequest request = GroupDto.SearchRequest.builder()
+                .latitude(LATITUDE)
+                .build();
+
+        //when
+        GroupException exception = assertThrows(GroupException.class,
+                () -> groupService.searchGroups(request, null, 20)
+        );
+
+        //then
+        assertEquals(Error.INVALID_SEARCH_LOCATION, exception.getError());
+
+    }
+
     @Test
     @DisplayName("내 근처 모임 성공")
     void success_getNearbyGroupList() {
@@ -995,20 +1426,49 @@ public class GroupServiceTest {
         List<NearbyGroupDto> entities = new ArrayList<>();
         Page<NearbyGroupDto> page = new PageImpl<>(entities, pageable, entities.size());
 
-        given(foodGroupRepository.getNearbyGroupList(any(), any(), any(), any())).willReturn(page);
+        given(foodGroupRepository.getNearbyGroupList(any(), any(), any(), any(), any())).willReturn(page);
 
         //when
         Page<NearbyGroupDto> response = groupService.getNearbyGroupList(LATITUDE, LONGITUDE, pageable);
 
         //then
         verify(foodGroupRepository, times(1))
-                .getNearbyGroupList(any(), any(), any(), any());
+                .getNearbyGroupList(any(), any(), any(), any(), any());
 
         assertNotNull(response);
         assertEquals(entities.size(), response.getContent().size());
 
     }
 
+    @Test
+    @DisplayName("내 근처 모임 성공 - 공간 인덱스")
+    void success_getNearbyGroupList_index() {
+
+        //given
+        Pageable pageable = PageRequest.of(0, 1);
+        Member mockMember = createMockMember(memberId1);
+        Food mockFood = createMockFood(foodId);
+        FoodGroup nearGroup = createMockFoodGroup(2L, mockMember, mockFood, 1);
+
+        given(groupLocationIndex.isLoaded()).willReturn(true);
+        given(groupLocationIndex.findWithinRadius(anyDouble(), anyDouble(), anyDouble(), any(), any()))
+                .willReturn(List.of(2L, 1L));
+        given(foodGroupRepository.findNearbyGroupsByIdIn(List.of(2L)))
+                .willReturn(List.of(new NearbyGroupDto(nearGroup)));
+
+        //when
+        Page<NearbyGroupDto> response = groupService.getNearbyGroupList(LATITUDE, LONGITUDE, pageable);
+
+        //then
+        verify(foodGroupRepository, times(0))
+                .getNearbyGroupList(any(), any(), any(), any(), any());
+
+        assertEquals(2, response.getTotalElements());
+        assertEquals(1, response.getContent().size());
+        assertEquals(2L, response.getContent().get(0).getGroupId());
+
+    }
+
     @Test
     @DisplayName("로그인한 사용자가 참여한 모임 조회 성공")
     void success_getAcceptedGroupList() {
@@ -1017,7 +1477,7 @@ public class GroupServiceTest {
         Authentication mockAuthentication = createAuthentication();
         Member mockMember = createMockMember(memberId1);
 
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockMember);
 
         //when
         groupService.getAcceptedGroupList(mockAuthentication);
@@ -1,23 +1,39 @@
 package com.foodmate.backend.service;
 
+import com.foodmate.backend.component.FoodCatalog;
+import com.foodmate.backend.component.GroupDetailCache;
+import com.foodmate.backend.component.LikesBitmapCache;
+import com.foodmate.backend.component.LikesCounter;
+import com.foodmate.backend.component.LikesLeaderboard;
+import com.foodmate.backend.component.MailComponents;
+import com.foodmate.backend.component.MemberPrincipalCache;
+import com.foodmate.backend.component.MemberProfileCache;
+import com.foodmate.backend.component.PasswordHasher;
+import com.foodmate.backend.component.RankingSnapshot;
+import com.foodmate.backend.component.UpcomingGroupStore;
+import com.foodmate.backend.component.WindowedRankingCounter;
 import com.foodmate.backend.dto.MemberDto;
+import com.foodmate.backend.dto.MemberProfileDto;
 import com.foodmate.backend.entity.Food;
 import com.foodmate.backend.entity.Likes;
 import com.foodmate.backend.entity.Member;
 import com.foodmate.backend.entity.Preference;
 import com.foodmate.backend.enums.Error;
 import com.foodmate.backend.enums.MemberLoginType;
+import com.foodmate.backend.enums.RankingType;
 import com.foodmate.backend.exception.FoodException;
 import com.foodmate.backend.exception.MemberException;
-import com.foodmate.backend.repository.FoodRepository;
 import com.foodmate.backend.repository.LikesRepository;
 import com.foodmate.backend.repository.MemberRepository;
 import com.foodmate.backend.repository.PreferenceRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -26,16 +42,32 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.StringTokenizer;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest {
@@ -47,11 +79,53 @@ class MemberServiceTest {
     private PreferenceRepository preferenceRepository;
 
     @Mock
-    private FoodRepository foodRepository;
+    private FoodCatalog foodCatalog;
 
     @Mock
     private LikesRepository likesRepository;
 
+    @Mock
+    private LikesLeaderboard likesLeaderboard;
+
+    @Mock
+    private WindowedRankingCounter windowedRankingCounter;
+
+    @Mock
+    private RankingSnapshot rankingSnapshot;
+
+    @Mock
+    private LikesCounter likesCounter;
+
+    @Mock
+    private LikesBitmapCache likesBitmapCache;
+
+    @Mock
+    private MemberPrincipalCache memberPrincipalCache;
+
+    @Mock
+    private MemberProfileCache memberProfileCache;
+
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher();
+
+    @Mock
+    private MailComponents mailComponents;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UpcomingGroupStore upcomingGroupStore;
+
+    @Mock
+    private GroupDetailCache groupDetailCache;
+
+    @Mock
+    private S3Uploader s3Uploader;
+
+    @Mock
+    private S3Deleter s3Deleter;
+
 
     @InjectMocks
     private MemberService memberService;
@@ -67,6 +141,12 @@ class MemberServiceTest {
 
     private final String s3BucketFolderName = "profile-images/";
 
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 
 
     @Test
@@ -142,7 +222,7 @@ class MemberServiceTest {
 
         given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
         given(preferenceRepository.findAllByMember(mockMember)).willReturn(mockPreference);
-        given(foodRepository.findById(mockFood.getId())).willReturn(Optional.of(mockFood)); // 음식을 찾을 수 있도록 설정
+        given(foodCatalog.findById(mockFood.getId())).willReturn(Optional.of(mockFood)); // 음식을 찾을 수 있도록 설정
 
         // when
         MemberDto.myMemberInfoResponse response = memberService.getMemberInfo(mockAuthentication);
@@ -265,10 +345,11 @@ class MemberServiceTest {
 
         String nickname = "동현";
         Member mockOtherMember = createMockMember1(2L);
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockLoginMember));
-        given(memberRepository.findByNickname(nickname)).willReturn(Optional.of(mockOtherMember));
-        given(likesRepository.findByLikedAndLiker(mockOtherMember, mockLoginMember))
-                .willReturn(Optional.of(new Likes(1L, mockOtherMember, mockLoginMember)));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockLoginMember);
+        given(memberProfileCache.findByNickname(nickname)).willReturn(Optional.of(createProfile(mockOtherMember, "치킨", "피자")));
+        given(memberRepository.getReferenceById(2L)).willReturn(mockOtherMember);
+        given(likesBitmapCache.isLiked(mockOtherMember, mockLoginMember)).willReturn(true);
+        given(likesBitmapCache.count(mockOtherMember)).willReturn(mockOtherMember.getLikes());
 
         // when
         MemberDto.otherMemberInfoResponse response = memberService.getMemberInfoByNickname(nickname, mockAuthentication);
@@ -280,6 +361,7 @@ class MemberServiceTest {
                 () -> assertEquals(mockOtherMember.getImage(), response.getImage()),
                 () -> assertEquals(mockOtherMember.getLikes(), response.getLikes()),
                 () -> assertEquals(mockOtherMember.getNickname(), response.getNickname()),
+                () -> assertEquals(List.of("치킨", "피자"), response.getFood()),
                 () -> assertTrue(response.isStatus())
         );
     }
@@ -294,10 +376,11 @@ class MemberServiceTest {
 
         String nickname = "동현";
         Member mockOtherMember = createMockMember1(2L);
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockLoginMember));
-        given(memberRepository.findByNickname(nickname)).willReturn(Optional.of(mockOtherMember));
-        given(likesRepository.findByLikedAndLiker(mockOtherMember, mockLoginMember))
-                .willReturn(Optional.empty());
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockLoginMember);
+        given(memberProfileCache.findByNickname(nickname)).willReturn(Optional.of(createProfile(mockOtherMember)));
+        given(memberRepository.getReferenceById(2L)).willReturn(mockOtherMember);
+        given(likesBitmapCache.isLiked(mockOtherMember, mockLoginMember)).willReturn(false);
+        given(likesBitmapCache.count(mockOtherMember)).willReturn(mockOtherMember.getLikes());
 
         // when
         MemberDto.otherMemberInfoResponse response = memberService.getMemberInfoByNickname(nickname, mockAuthentication);
@@ -309,6 +392,7 @@ class MemberServiceTest {
                 () -> assertEquals(mockOtherMember.getImage(), response.getImage()),
                 () -> assertEquals(mockOtherMember.getLikes(), response.getLikes()),
                 () -> assertEquals(mockOtherMember.getNickname(), response.getNickname()),
+                () -> assertTrue(response.getFood().isEmpty()),
                 () -> assertFalse(response.isStatus())
         );
     }
@@ -321,8 +405,8 @@ class MemberServiceTest {
         Authentication mockAuthentication = createAuthentication();
         String nickname = "nullMember";
 
-        given(memberRepository.findByNickname(nickname)).willReturn(Optional.empty());
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockLoginMember));
+        given(memberProfileCache.findByNickname(nickname)).willReturn(Optional.empty());
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockLoginMember);
         // when
 
         MemberException exception = assertThrows(MemberException.class, () -> memberService.getMemberInfoByNickname(nickname, mockAuthentication));
@@ -341,8 +425,8 @@ class MemberServiceTest {
         Authentication mockAuthentication = createAuthentication();
         Member mockOtherMember = createMockDeleteMember(2L);
 
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockLoginMember));
-        given(memberRepository.findByNickname(nickname)).willReturn(Optional.of(mockOtherMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockLoginMember);
+        given(memberProfileCache.findByNickname(nickname)).willReturn(Optional.of(createProfile(mockOtherMember)));
 
         // when
         MemberException exception = assertThrows(MemberException.class, () -> memberService.getMemberInfoByNickname(nickname, mockAuthentication));
@@ -362,13 +446,45 @@ class MemberServiceTest {
         Long prevLikes = mockLikedMember.getLikes();
 
         given(memberRepository.findById(1L)).willReturn(Optional.of(mockLikedMember));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockLikerMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockLikerMember);
         given(likesRepository.findByLikedAndLiker(mockLikedMember, mockLikerMember)).willReturn(Optional.empty());
+        given(likesRepository.insertLikes(eq(1L), eq(2L), any())).willReturn(1);
+        given(likesCounter.get(mockLikedMember)).willReturn(prevLikes, prevLikes + 1); // 누적 전, 커밋 후 누적 뒤
 
         // when
         Long response =  memberService.toggleLikeForPost(1L, mockAuthentication);
         // then
         assertEquals(prevLikes + 1, response);
+        verify(likesCounter).add(1L, 1);
+        verify(memberRepository, never()).save(any());
+        verify(likesLeaderboard).update(mockLikedMember, prevLikes + 1);
+        verify(windowedRankingCounter).addLikes(1L, LocalDate.now(), 1);
+        verify(likesBitmapCache).update(1L, 2L, true);
+        verify(rankingSnapshot).markChanged(RankingType.LIKES);
+    }
+
+    @Test
+    @DisplayName("다른 유저 좋아요 - 동시에 먼저 추가된 좋아요가 있으면 좋아요 수 그대로")
+    void success_toggleLikeForPost_duplicate() {
+        // given
+        Member mockLikedMember = createMockMember(1L);
+        Authentication mockAuthentication = createAuthentication();
+        Member mockLikerMember = createMockMember1(2L);
+        Long prevLikes = mockLikedMember.getLikes();
+
+        given(memberRepository.findById(1L)).willReturn(Optional.of(mockLikedMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockLikerMember);
+        given(likesRepository.findByLikedAndLiker(mockLikedMember, mockLikerMember)).willReturn(Optional.empty());
+        given(likesRepository.insertLikes(eq(1L), eq(2L), any())).willReturn(0);
+        given(likesCounter.get(mockLikedMember)).willReturn(prevLikes);
+
+        // when
+        Long response =  memberService.toggleLikeForPost(1L, mockAuthentication);
+        // then
+        assertEquals(prevLikes, response);
+        verify(likesCounter, never()).add(anyLong(), anyLong());
+        verify(likesLeaderboard, never()).update(any(), anyLong());
+        verify(windowedRankingCounter, never()).addLikes(any(), any(), anyLong());
     }
 
     @Test
@@ -379,16 +495,20 @@ class MemberServiceTest {
         Authentication mockAuthentication = createAuthentication();
         Member mockLikerMember = createMockMember1(2L);
         Long prevLikes = mockLikedMember.getLikes();
-        Likes mockLikes = new Likes(1L,mockLikedMember, mockLikerMember);
+        Likes mockLikes = new Likes(1L,mockLikedMember, mockLikerMember, null);
 
         given(memberRepository.findById(1L)).willReturn(Optional.of(mockLikedMember));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockLikerMember));
+        given(memberPrincipalCache.getMember(mockAuthentication)).willReturn(mockLikerMember);
         given(likesRepository.findByLikedAndLiker(mockLikedMember, mockLikerMember)).willReturn(Optional.of(mockLikes));
+        given(likesRepository.deleteLikes(1L)).willReturn(1);
+        given(likesCounter.get(mockLikedMember)).willReturn(prevLikes, prevLikes - 1);
 
         // when
         Long response =  memberService.toggleLikeForPost(1L, mockAuthentication);
         // then
         assertEquals(prevLikes - 1, response);
+        verify(likesCounter).add(1L, -1);
+        verify(likesBitmapCache).update(1L, 2L, false);
     }
 
     @Test
@@ -398,7 +518,7 @@ class MemberServiceTest {
         Authentication mockAuthentication = createAuthentication();
         Member mockLikedMember = createMockMember(1L);
         given(memberRepository.findById(1L)).willReturn(Optional.of(mockLikedMember));
-        given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.empty());
+        willThrow(new MemberException(Error.USER_NOT_FOUND)).given(memberPrincipalCache).getMember(mockAuthentication);
 
         // when
         MemberException exception = assertThrows(MemberException.class, () -> memberService.toggleLikeForPost(1L, mockAuthentication));
@@ -429,6 +549,55 @@ class MemberServiceTest {
         memberService.logoutMember(mockHttpServletRequest, mockHttpServletResponse);
     }
 
+    @Test
+    @DisplayName("프로필 이미지 변경 - 모임 목록, 좋아요 랭킹에는 커밋 후 반영")
+    void success_patchProfileImage_afterCommit() throws IOException {
+
+        //given
+        Member member = createMockMember(memberId1);
+        String newImage = "https://foodmate.s3.amazonaws.com/profile-images/new";
+        given(memberRepository.findByEmail(member.getEmail())).willReturn(Optional.of(member));
+        given(s3Uploader.uploadAndGenerateUrl(eq(mockMultipartFile), anyString())).willReturn(newImage);
+        given(likesCounter.get(member)).willReturn(32L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        memberService.patchProfileImage(createAuthentication(), mockMultipartFile);
+        verify(upcomingGroupStore, never()).updateMemberImage(anyLong(), any());
+        verify(likesLeaderboard, never()).update(any(), anyLong());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        //then
+        verify(upcomingGroupStore).updateMemberImage(memberId1, newImage);
+        verify(likesLeaderboard).update(member, 32L);
+        verify(rankingSnapshot).markChanged(RankingType.LIKES, RankingType.MEETING);
+    }
+
+    @Test
+    @DisplayName("비밀번호 초기화 - 해시는 트랜잭션 시작 전에 계산")
+    void success_resetPassword() {
+
+        //given
+        Member member = createMockMember(1L);
+        given(memberRepository.findByEmail(member.getEmail())).willReturn(Optional.of(member));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        //when
+        memberService.resetPassword(new MemberDto.emailRequest(member.getEmail()));
+
+        //then
+        InOrder inOrder = inOrder(passwordHasher, transactionTemplate, mailComponents, memberRepository);
+        inOrder.verify(passwordHasher).hash(anyString());
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(mailComponents).sendMail(eq(member.getEmail()), anyString(), anyString());
+        inOrder.verify(memberRepository).save(member);
+        assertEquals(PasswordHasher.MIN_COST, PasswordHasher.costOf(member.getPassword()));
+        verify(memberPrincipalCache).evict(1L);
+    }
+
 //    @Test
 //    @DisplayName("일반유저 회원가입")
 //    @Transactional
@@ -695,11 +864,14 @@ class MemberServiceTest {
         Member mockMember = createMockMember(memberId1);
 
         given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
-        given(foodRepository.findByType("치킨")).willReturn(Optional.of(new Food(1L, "치킨", "gsdfg")));
-        given(foodRepository.findByType("피자")).willReturn(Optional.of(new Food(2L, "피자", "test")));
+        given(foodCatalog.findByType("치킨")).willReturn(Optional.of(new Food(1L, "치킨", "gsdfg")));
+        given(foodCatalog.findByType("피자")).willReturn(Optional.of(new Food(2L, "피자", "test")));
 
         // when
         memberService.changePreferenceFood(changePreferenceFoodRequest, mockAuthentication);
+
+        // then
+        verify(memberProfileCache).evict(memberId1);
     }
 
     @Test
@@ -749,7 +921,7 @@ class MemberServiceTest {
         Member mockMember = createMockMember(memberId1);
 
         given(memberRepository.findByEmail(mockAuthentication.getName())).willReturn(Optional.of(mockMember));
-        given(foodRepository.findByType("치킨")).willReturn(Optional.of(new Food(1L, "치킨", "gsdfg")));
+        given(foodCatalog.findByType("치킨")).willReturn(Optional.of(new Food(1L, "치킨", "gsdfg")));
 
         // when
         FoodException exception = assertThrows(FoodException.class,
@@ -827,6 +999,20 @@ class MemberServiceTest {
                 .build();
     }
 
+    // 프로필 조회 결과 (선호음식 하나당 한 행, 없으면 food 가 null 인 한 행)
+    private MemberProfileDto.Profile createProfile(Member member, String... foods) {
+        List<MemberProfileDto.Row> rows = new ArrayList<>();
+        if (foods.length == 0) {
+            rows.add(new MemberProfileDto.Row(member.getId(), member.getEmail(), member.getNickname(),
+                    member.getImage(), member.getIsDeleted(), null));
+        }
+        for (String food : foods) {
+            rows.add(new MemberProfileDto.Row(member.getId(), member.getEmail(), member.getNickname(),
+                    member.getImage(), member.getIsDeleted(), food));
+        }
+        return MemberProfileDto.Profile.createProfile(rows);
+    }
+
     private Food createFood(Long foodId) {
         return Food.builder()
                 .id(foodId)
@@ -1,10 +1,16 @@
 package com.foodmate.backend.service;
 
+import com.foodmate.backend.component.FoodCatalog;
+import com.foodmate.backend.component.LikesLeaderboard;
+import com.foodmate.backend.component.WindowedRankingCounter;
 import com.foodmate.backend.dto.RankingDto;
+import com.foodmate.backend.entity.Food;
 import com.foodmate.backend.entity.Member;
-import com.foodmate.backend.repository.FoodGroupRepository;
-import com.foodmate.backend.repository.FoodRepository;
+import com.foodmate.backend.enums.RankingType;
+import com.foodmate.backend.enums.RankingWindow;
 import com.foodmate.backend.repository.MemberRepository;
+import com.foodmate.backend.repository.RankingCounterRepository;
+import com.foodmate.backend.repository.StoreRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,9 +18,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -26,10 +33,19 @@ class RankingServiceTest {
     private MemberRepository memberRepository;
 
     @Mock   // 가짜
-    private FoodGroupRepository foodGroupRepository;
+    private RankingCounterRepository rankingCounterRepository;
 
     @Mock   // 가짜
-    private FoodRepository foodRepository;
+    private LikesLeaderboard likesLeaderboard;
+
+    @Mock   // 가짜
+    private WindowedRankingCounter windowedRankingCounter;
+
+    @Mock   // 가짜
+    private FoodCatalog foodCatalog;
+
+    @Mock   // 가짜
+    private StoreRepository storeRepository;
 
     @InjectMocks   // 위의 가짜 리포지토리들을 rankingService 에 넣어주겠다는 의미
     private RankingService rankingService;
@@ -63,7 +79,7 @@ class RankingServiceTest {
         when(memberRepository.findTop10ByOrderByLikesDesc()).thenReturn(mockMembers);
 
         // when - 테스트하려는 서비스 메소드 호출
-        List<RankingDto.Likes> result = rankingService.getLikesRanking();
+        List<RankingDto.Likes> result = rankingService.getLikesRanking(RankingWindow.ALL);
 
         // then - 결과 검증
         assertEquals(3L, result.get(0).getMemberId());
@@ -85,6 +101,27 @@ class RankingServiceTest {
         verify(memberRepository, times(1)).findTop10ByOrderByLikesDesc();
     }
 
+    @Test
+    @DisplayName("좋아요 랭킹 - 적재 후에는 DB 조회 없이 메모리의 상위 10 명 반환")
+    void getLikesRanking_leaderboard() {
+        // given
+        List<RankingDto.Likes> ranking = List.of(RankingDto.Likes.builder()
+                .memberId(1L)
+                .nickname("사용자1")
+                .image("사용자1.png")
+                .likesCount(100)
+                .build());
+        when(likesLeaderboard.isLoaded()).thenReturn(true);
+        when(likesLeaderboard.getRanking()).thenReturn(ranking);
+
+        // when
+        List<RankingDto.Likes> result = rankingService.getLikesRanking(RankingWindow.ALL);
+
+        // then
+        assertEquals(ranking, result);
+        verify(memberRepository, never()).findTop10ByOrderByLikesDesc();
+    }
+
     @Test
     @DisplayName("모임왕 랭킹")
     void getMeetingRanking() {
@@ -96,10 +133,10 @@ class RankingServiceTest {
         // 가짜 리스트 생성
         List<Object[]> mockList = List.of(member3, member2, member1);
         // 해당 리포지토리 메소드 호출시 위의 가짜 리스트가 반환될 것이다
-        when(memberRepository.findTop10MemberWithCount(any(LocalDateTime.class), any())).thenReturn(mockList);
+        when(rankingCounterRepository.findTopMembers(any())).thenReturn(mockList);
 
         // when - 테스트하려는 서비스 메소드 호출
-        List<RankingDto.Meeting> result = rankingService.getMeetingRanking();
+        List<RankingDto.Meeting> result = rankingService.getMeetingRanking(RankingWindow.ALL);
 
         // then - 결과 검증
         assertEquals(3L, result.get(0).getMemberId());
@@ -117,27 +154,28 @@ class RankingServiceTest {
         assertEquals("사용자1.png", result.get(2).getImage());
         assertEquals(10L, result.get(2).getCount());
 
-        // memberRepository 의 findTop10MemberWithCount 메소드가 한번 호출되었는지 확인
-        verify(memberRepository, times(1)).findTop10MemberWithCount(any(LocalDateTime.class), any());
+        // rankingCounterRepository 의 findTopMembers 메소드가 한번 호출되었는지 확인
+        verify(rankingCounterRepository, times(1)).findTopMembers(any());
     }
 
     @Test
     @DisplayName("많이찾는 식당 랭킹")
     void getStoreRanking() {
         // given - 가짜 데이터 생성
-        Object[] store1 = {"식당1", "식당1의 주소", 10L};
-        Object[] store2 = {"식당2", "식당2의 주소", 20L};
-        Object[] store3 = {"식당3", "식당3의 주소", 30L};
+        Object[] store1 = {1L, "식당1", "식당1의 주소", 10L};
+        Object[] store2 = {2L, "식당2", "식당2의 주소", 20L};
+        Object[] store3 = {3L, "식당3", "식당3의 주소", 30L};
 
         // 가짜 리스트 생성
         List<Object[]> mockList = List.of(store3, store2, store1);
         // 해당 리포지토리 메소드 호출시 위의 가짜 리스트가 반환될 것이다
-        when(foodGroupRepository.findTop10StoreWithCount(any(LocalDateTime.class), any())).thenReturn(mockList);
+        when(rankingCounterRepository.findTopStores(any())).thenReturn(mockList);
 
         // when - 테스트하려는 서비스 메소드 호출
-        List<RankingDto.Store> result = rankingService.getStoreRanking();
+        List<RankingDto.Store> result = rankingService.getStoreRanking(RankingWindow.ALL);
 
         // then - 결과 검증
+        assertEquals(3L, result.get(0).getStoreId());
         assertEquals("식당3", result.get(0).getStoreName());
         assertEquals("식당3의 주소", result.get(0).getAddress());
         assertEquals(30L, result.get(0).getCount());
@@ -150,8 +188,8 @@ class RankingServiceTest {
         assertEquals("식당1의 주소", result.get(2).getAddress());
         assertEquals(10L, result.get(2).getCount());
 
-        // foodGroupRepository 의 findTop10StoreWithCount 메소드가 한번 호출되었는지 확인
-        verify(foodGroupRepository, times(1)).findTop10StoreWithCount(any(LocalDateTime.class), any());
+        // rankingCounterRepository 의 findTopStores 메소드가 한번 호출되었는지 확인
+        verify(rankingCounterRepository, times(1)).findTopStores(any());
     }
 
     @Test
@@ -165,10 +203,10 @@ class RankingServiceTest {
         // 가짜 리스트 생성
         List<Object[]> mockList = List.of(food3, food2, food1);
         // 해당 리포지토리 메소드 호출시 위의 가짜 리스트가 반환될 것이다
-        when(foodRepository.findTop10FoodWithCount(any(LocalDateTime.class), any())).thenReturn(mockList);
+        when(rankingCounterRepository.findTopFoods(any())).thenReturn(mockList);
 
         // when - 테스트하려는 서비스 메소드 호출
-        List<RankingDto.Food> result = rankingService.getFoodRanking();
+        List<RankingDto.Food> result = rankingService.getFoodRanking(RankingWindow.ALL);
 
         // then - 결과 검증
         assertEquals("음식3", result.get(0).getFoodName());
@@ -183,8 +221,52 @@ class RankingServiceTest {
         assertEquals("음식1.png", result.get(2).getImage());
         assertEquals(10L, result.get(2).getCount());
 
-        // foodRepository 의 findTop10FoodWithCount 메소드가 한번 호출되었는지 확인
-        verify(foodRepository, times(1)).findTop10FoodWithCount(any(LocalDateTime.class), any());
+        // rankingCounterRepository 의 findTopFoods 메소드가 한번 호출되었는지 확인
+        verify(rankingCounterRepository, times(1)).findTopFoods(any());
+    }
+
+    @Test
+    @DisplayName("이번 주 모임왕 랭킹 - 기간별 카운터의 합계 순서대로 회원 정보 반환")
+    void getMeetingRanking_week() {
+        // given
+        Member member1 = Member.builder().id(1L).nickname("사용자1").image("사용자1.png").build();
+        Member member2 = Member.builder().id(2L).nickname("사용자2").image("사용자2.png").build();
+        List<Map.Entry<Object, Long>> top = List.of(Map.entry(2L, 5L), Map.entry(1L, 3L));
+
+        when(windowedRankingCounter.isLoaded()).thenReturn(true);
+        when(windowedRankingCounter.top(RankingType.MEETING, RankingWindow.WEEK, 10)).thenReturn(top);
+        when(memberRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(member1, member2));
+
+        // when
+        List<RankingDto.Meeting> result = rankingService.getMeetingRanking(RankingWindow.WEEK);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getMemberId());
+        assertEquals(5L, result.get(0).getCount());
+        assertEquals(1L, result.get(1).getMemberId());
+        assertEquals(3L, result.get(1).getCount());
+        verify(rankingCounterRepository, never()).findTopMembers(any());
+    }
+
+    @Test
+    @DisplayName("오늘 음식 카테고리 랭킹 - 음식 정보는 메모리의 음식 목록에서 조회")
+    void getFoodRanking_day() {
+        // given
+        Food food = Food.builder().id(1L).type("치킨").image("치킨.png").build();
+
+        when(windowedRankingCounter.isLoaded()).thenReturn(true);
+        when(windowedRankingCounter.top(RankingType.FOOD, RankingWindow.DAY, 10))
+                .thenReturn(List.of(Map.entry(1L, 4L)));
+        when(foodCatalog.findById(1L)).thenReturn(Optional.of(food));
+
+        // when
+        List<RankingDto.Food> result = rankingService.getFoodRanking(RankingWindow.DAY);
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals("치킨", result.get(0).getFoodName());
+        assertEquals(4L, result.get(0).getCount());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,179 @@
+package com.foodmate.backend.service;
+
+import com.foodmate.backend.dto.StoreDto;
+import com.foodmate.backend.entity.RankingCounter;
+import com.foodmate.backend.entity.Store;
+import com.foodmate.backend.enums.Error;
+import com.foodmate.backend.enums.RankingType;
+import com.foodmate.backend.exception.StoreException;
+import com.foodmate.backend.repository.FoodGroupRepository;
+import com.foodmate.backend.repository.RankingCounterRepository;
+import com.foodmate.backend.repository.StoreRepository;
+import com.foodmate.backend.util.StoreAddress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StoreServiceTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private FoodGroupRepository foodGroupRepository;
+
+    @Mock
+    private RankingCounterRepository rankingCounterRepository;
+
+    @InjectMocks
+    private StoreService storeService;
+
+    private static final String STORE_NAME = "자담치킨 서울홍대점";
+    private static final String STORE_ADDRESS = "서울 마포구 와우산로 140 1층";
+    private static final String NORMALIZED_ADDRESS = "서울마포구와우산로1401층";
+
+    @Test
+    @DisplayName("주소 정규화 - 시/도 표기, 공백, 괄호 차이 제거")
+    void normalize() {
+        assertEquals(NORMALIZED_ADDRESS, StoreAddress.normalize(STORE_ADDRESS));
+        assertEquals(NORMALIZED_ADDRESS, StoreAddress.normalize(" 서울특별시 마포구  와우산로 140 (1층)"));
+        assertNull(StoreAddress.normalize("  "));
+    }
+
+    @Test
+    @DisplayName("같은 식당 찾기 성공 - 정규화한 주소가 같고 50m 안이면 기존 식당")
+    void success_findOrCreate_existing() {
+
+        //given
+        Store store = createStore(1L, 37.5497, 126.9226);
+        given(storeRepository.findByNormalizedAddress(NORMALIZED_ADDRESS)).willReturn(List.of(store));
+
+        //when
+        Store result = storeService.findOrCreate("자담치킨 홍대", "서울특별시 마포구 와우산로 140 1층",
+                createPoint(37.5498, 126.9227));
+
+        //then
+        assertSame(store, result);
+        verify(storeRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 식당 찾기 성공 - 주소가 같아도 멀리 떨어져 있으면 새 식당 등록")
+    void success_findOrCreate_new() {
+
+        //given
+        Store store = createStore(1L, 37.5497, 126.9226);
+        given(storeRepository.findByNormalizedAddress(NORMALIZED_ADDRESS)).willReturn(List.of(store));
+        given(storeRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        Store result = storeService.findOrCreate(STORE_NAME, STORE_ADDRESS, createPoint(37.5571, 126.9245));
+
+        //then
+        assertEquals(STORE_NAME, result.getName());
+        assertEquals(NORMALIZED_ADDRESS, result.getNormalizedAddress());
+        verify(storeRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 식당 찾기 - 주소별 잠금을 잡은 뒤 같은 주소의 식당 조회")
+    void findOrCreate_lockAddress() {
+
+        //given
+        given(storeRepository.findByNormalizedAddress(NORMALIZED_ADDRESS)).willReturn(List.of());
+        given(storeRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        storeService.findOrCreate(STORE_NAME, STORE_ADDRESS, createPoint(37.5497, 126.9226));
+
+        //then
+        InOrder inOrder = inOrder(storeRepository);
+        inOrder.verify(storeRepository).lockAddress(NORMALIZED_ADDRESS);
+        inOrder.verify(storeRepository).findByNormalizedAddress(NORMALIZED_ADDRESS);
+        inOrder.verify(storeRepository).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 식당 찾기 - 주소가 비어 있으면 잠금 없이 null")
+    void findOrCreate_blankAddress() {
+
+        //when
+        Store result = storeService.findOrCreate(STORE_NAME, " ", createPoint(37.5497, 126.9226));
+
+        //then
+        assertNull(result);
+        verify(storeRepository, never()).lockAddress(any());
+    }
+
+    @Test
+    @DisplayName("식당 정보 조회 성공 - 랭킹에 반영된 모임 수 포함")
+    void success_getStore() {
+
+        //given
+        Store store = createStore(1L, 37.5497, 126.9226);
+        given(storeRepository.findById(1L)).willReturn(Optional.of(store));
+        given(rankingCounterRepository.findByTypeAndTargetId(RankingType.STORE, 1L))
+                .willReturn(Optional.of(RankingCounter.builder().type(RankingType.STORE).targetId(1L).total(7).build()));
+
+        //when
+        StoreDto.Response response = storeService.getStore(1L);
+
+        //then
+        assertEquals(1L, response.getStoreId());
+        assertEquals(STORE_NAME, response.getName());
+        assertEquals("37.5497", response.getLatitude());
+        assertEquals(7, response.getGroupCount());
+    }
+
+    @Test
+    @DisplayName("식당의 모임 목록 조회 실패 - 없는 식당")
+    void fail_getStoreGroups_store_not_found() {
+
+        //given
+        given(storeRepository.findById(1L)).willReturn(Optional.empty());
+
+        //when
+        StoreException exception = assertThrows(StoreException.class,
+                () -> storeService.getStoreGroups(1L, null));
+
+        //then
+        assertEquals(Error.STORE_NOT_FOUND, exception.getError());
+    }
+
+    private Store createStore(Long storeId, double latitude, double longitude) {
+        return Store.builder()
+                .id(storeId)
+                .name(STORE_NAME)
+                .address(STORE_ADDRESS)
+                .normalizedAddress(NORMALIZED_ADDRESS)
+                .location(createPoint(latitude, longitude))
+                .build();
+    }
+
+    private Point createPoint(double latitude, double longitude) {
+        return new GeometryFactory().createPoint(new Coordinate(longitude, latitude));
+    }
+
+}